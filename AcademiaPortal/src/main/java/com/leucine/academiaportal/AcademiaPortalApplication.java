@@ -2,12 +2,15 @@ package com.leucine.academiaportal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The entry point of the AcademiaPortal application.
  * This class contains the main method which is used to run the Spring Boot application.
+ * Scheduling is enabled for periodic background maintenance, such as rebuilding the token revocation set.
  */
 @SpringBootApplication
+@EnableScheduling
 public class AcademiaPortalApplication {
 
 	/**
@@ -0,0 +1,51 @@
+package com.leucine.academiaportal.config;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.leucine.academiaportal.enums.Role;
+
+/**
+ * The principal of a user authenticated with a username or email and password.
+ *
+ * Identified by the user's email, like the plain Spring Security {@link User}, but also carries
+ * the user's ID and role so that the login response needs no further database lookup.
+ */
+public class AuthenticatedUser extends User {
+
+	private final Long userId;
+
+	private final Role role;
+
+	/**
+	 * Creates the principal.
+	 *
+	 * @param userId the user's ID
+	 * @param role the user's role
+	 * @param email the user's email, used as the principal name
+	 * @param password the password hash
+	 * @param authorities the role authorities
+	 */
+	public AuthenticatedUser(Long userId, Role role, String email, String password,
+			Collection<? extends GrantedAuthority> authorities) {
+		super(email, password, authorities);
+		this.userId = userId;
+		this.role = role;
+	}
+
+	/**
+	 * @return the user's ID
+	 */
+	public Long getUserId() {
+		return userId;
+	}
+
+	/**
+	 * @return the user's role
+	 */
+	public Role getRole() {
+		return role;
+	}
+}
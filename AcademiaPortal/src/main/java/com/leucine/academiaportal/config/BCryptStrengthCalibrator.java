@@ -0,0 +1,50 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the BCrypt cost factor for the current host.
+ *
+ * Every increment of the cost doubles the hashing time, so it is enough to time a hash at the
+ * minimum cost and extrapolate: the chosen cost is the highest one whose estimated hashing time
+ * stays within the target, but never lower than the minimum.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+	private static final String SAMPLE_PASSWORD = "calibration-password";
+
+	private BCryptStrengthCalibrator() {
+	}
+
+	/**
+	 * Determines the BCrypt cost whose hashing time on this host is closest to, without exceeding, the target.
+	 *
+	 * @param targetMillis the desired time for a single hash, in milliseconds
+	 * @param minStrength the lowest acceptable cost
+	 * @param maxStrength the highest acceptable cost
+	 * @return the calibrated cost, between {@code minStrength} and {@code maxStrength}
+	 */
+	public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+
+		// The first hash also pays for class loading and JIT warm-up, so time the second one
+		encoder.encode(SAMPLE_PASSWORD);
+		long start = System.nanoTime();
+		encoder.encode(SAMPLE_PASSWORD);
+		double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+		int strength = minStrength;
+		double estimatedMillis = millis;
+		while (strength < maxStrength && estimatedMillis * 2 <= targetMillis) {
+			strength++;
+			estimatedMillis *= 2;
+		}
+
+		log.info("BCrypt cost {} took {} ms; using cost {} (about {} ms) for a target of {} ms",
+				minStrength, Math.round(millis), strength, Math.round(estimatedMillis), targetMillis);
+		return strength;
+	}
+}
@@ -0,0 +1,55 @@
+package com.leucine.academiaportal.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filter that restricts HTTP Basic authentication to the login endpoint.
+ *
+ * Every HTTP Basic request costs a full BCrypt check, so clients are expected to log in once and
+ * then use the access token, renewing it with the refresh token. When this filter is installed,
+ * requests to any other endpoint that still carry Basic credentials are answered with
+ * 401 Unauthorized before any authentication work is done.
+ */
+@Slf4j
+public class BasicAuthenticationGateFilter extends OncePerRequestFilter {
+
+	private static final String BASIC_PREFIX = "Basic ";
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String header = request.getHeader(SecurityConstants.JWT_HEADER);
+		if (header != null && header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+			log.warn("HTTP Basic credentials rejected on path: {}", request.getServletPath());
+			response.setStatus(HttpStatus.UNAUTHORIZED.value());
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getWriter().write("{\"message\":\"HTTP Basic authentication is only accepted on /api/auth/login, "
+					+ "use the access token instead\"}");
+			return;
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	/**
+	 * Determines whether this filter should be applied to the current request.
+	 *
+	 * @param request the HTTP request
+	 * @return true if the filter should not be applied, false otherwise
+	 * @throws ServletException if an error occurs during the decision
+	 */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+		// Basic credentials remain accepted on the login endpoint
+		return request.getServletPath().equals("/api/auth/login");
+	}
+}
@@ -0,0 +1,59 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CORS configuration for the application.
+ * The CORS policy is built once from {@link CorsProperties} and shared by the security filter chain
+ * and the {@link CorsPreflightFilter}.
+ */
+@Slf4j
+@Configuration
+public class CorsConfig {
+
+	/**
+	 * Builds the CORS policy applied to all paths.
+	 *
+	 * @param corsProperties the CORS configuration properties
+	 * @return the CorsConfigurationSource object
+	 */
+	@Bean
+	public CorsConfigurationSource corsConfigurationSource(CorsProperties corsProperties) {
+		CorsConfiguration cfg = new CorsConfiguration();
+		cfg.setAllowedOriginPatterns(corsProperties.getAllowedOriginPatterns());
+		cfg.setAllowedMethods(corsProperties.getAllowedMethods());
+		cfg.setAllowCredentials(corsProperties.isAllowCredentials());
+		cfg.setAllowedHeaders(corsProperties.getAllowedHeaders());
+		cfg.setExposedHeaders(corsProperties.getExposedHeaders());
+		cfg.setMaxAge(corsProperties.getMaxAge());
+
+		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+		source.registerCorsConfiguration("/**", cfg);
+		// Log CORS configuration
+		log.info("CORS configuration created: {}", cfg);
+		return source;
+	}
+
+	/**
+	 * Registers the {@link CorsPreflightFilter} ahead of all other filters, including the security filter chain,
+	 * except the request ID filter registered by {@link LoggingConfig}.
+	 *
+	 * @param corsConfigurationSource the CORS policy
+	 * @return the FilterRegistrationBean object
+	 */
+	@Bean
+	public FilterRegistrationBean<CorsPreflightFilter> corsPreflightFilter(CorsConfigurationSource corsConfigurationSource) {
+		FilterRegistrationBean<CorsPreflightFilter> registration =
+				new FilterRegistrationBean<>(new CorsPreflightFilter(corsConfigurationSource));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return registration;
+	}
+}
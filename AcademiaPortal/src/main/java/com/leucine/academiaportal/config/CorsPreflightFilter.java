@@ -0,0 +1,56 @@
+package com.leucine.academiaportal.config;
+
+import java.io.IOException;
+
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that answers CORS preflight requests at the very top of the filter chain.
+ *
+ * Preflights never carry credentials, so there is nothing for the security filters to do with
+ * them. This filter checks them against the precomputed CORS policy and answers them directly,
+ * before the JWT filters and authorization run. Requests that are not preflights, or paths
+ * without a CORS policy, pass through unchanged.
+ */
+public class CorsPreflightFilter extends OncePerRequestFilter {
+
+	private final CorsConfigurationSource corsConfigurationSource;
+
+	private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param corsConfigurationSource the source of the precomputed CORS policy
+	 */
+	public CorsPreflightFilter(CorsConfigurationSource corsConfigurationSource) {
+		this.corsConfigurationSource = corsConfigurationSource;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		CorsConfiguration corsConfiguration = CorsUtils.isPreFlightRequest(request)
+				? corsConfigurationSource.getCorsConfiguration(request)
+				: null;
+		if (corsConfiguration == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		// Writes the CORS headers of a valid preflight, or a 403 response for a rejected one
+		if (corsProcessor.processRequest(corsConfiguration, request, response)) {
+			response.setStatus(HttpServletResponse.SC_OK);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.leucine.academiaportal.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.leucine.academiaportal.logging.RequestIdFilter;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the CORS policy, bound from {@code academiaportal.cors.*}.
+ * The policy is built once at startup by {@link CorsConfig}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "academiaportal.cors")
+public class CorsProperties {
+
+	/**
+	 * The origin patterns allowed to call the API.
+	 */
+	private List<String> allowedOriginPatterns = new ArrayList<>(List.of("*"));
+
+	/**
+	 * The HTTP methods allowed in cross-origin requests.
+	 */
+	private List<String> allowedMethods = new ArrayList<>(List.of("*"));
+
+	/**
+	 * The request headers allowed in cross-origin requests.
+	 */
+	private List<String> allowedHeaders = new ArrayList<>(List.of("*"));
+
+	/**
+	 * The response headers exposed to the browser.
+	 */
+	private List<String> exposedHeaders = new ArrayList<>(List.of(SecurityConstants.JWT_HEADER, SecurityConstants.REFRESH_HEADER,
+			RequestIdFilter.REQUEST_ID_HEADER));
+
+	/**
+	 * Whether cookies and credentials are allowed in cross-origin requests.
+	 */
+	private boolean allowCredentials = true;
+
+	/**
+	 * How long browsers may cache the result of a preflight request ({@code Access-Control-Max-Age}).
+	 */
+	private Duration maxAge = Duration.ofMinutes(30);
+}
@@ -1,16 +1,22 @@
 package com.leucine.academiaportal.config;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
 import com.leucine.academiaportal.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -20,51 +26,150 @@ import org.springframework.stereotype.Service;
  * Service implementation for loading user-specific data for Spring Security.
  * This service fetches user details from the database and converts them into
  * Spring Security's UserDetails object for authentication and authorization.
+ *
+ * Loaded users are kept in a short-lived cache keyed by user ID, so clients that send credentials
+ * with every request do not cost a database round trip each time. A second cache maps the
+ * normalized (trimmed, lower-case) username and email of each loaded user to their ID; a cached
+ * user is only served for a login that still matches its username or email, so an index entry
+ * left over from a rename simply misses. {@link com.leucine.academiaportal.service.UserServiceImpl}
+ * evicts a user, by ID or by email, whenever it is saved or its password changes; either is a
+ * direct invalidation rather than a scan of the cache. Size, hit and eviction metrics of the user
+ * cache are published as {@code cache.*} meters tagged {@code cache=user-details}.
  */
 @Service
 @Slf4j
 public class CustomerUserDetailsService implements UserDetailsService {
 
+	/**
+	 * The name under which the cache metrics are published.
+	 */
+	public static final String CACHE_NAME = "user-details";
+
 	@Autowired
 	private UserRepository userRepository;
 
+	private final Cache<Long, CachedUser> cache;
+
+	/**
+	 * The ID of each cached user by normalized username and by normalized email.
+	 */
+	private final Cache<String, Long> userIdByLogin;
+
+	/**
+	 * Creates the service and its user cache.
+	 *
+	 * @param timeToLive how long a loaded user is reused before it is read from the database again
+	 * @param maximumSize the maximum number of cached users
+	 * @param meterRegistry the registry the cache metrics are published to
+	 */
+	public CustomerUserDetailsService(@Value("${academiaportal.security.user-cache.time-to-live:60s}") Duration timeToLive,
+			@Value("${academiaportal.security.user-cache.maximum-size:10000}") long maximumSize,
+			MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.expireAfterWrite(timeToLive)
+				.maximumSize(maximumSize)
+				.recordStats()
+				.build();
+		// Two logins per user
+		this.userIdByLogin = Caffeine.newBuilder()
+				.expireAfterWrite(timeToLive)
+				.maximumSize(maximumSize * 2)
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
 	/**
 	 * Loads user-specific data by username or email.
 	 *
 	 * This method is called by Spring Security during authentication to retrieve
-	 * the user details from the database using the provided username or email.
-	 * It constructs a UserDetails object that includes user authorities.
+	 * the user details from the cache or, on a miss, from the database using the provided
+	 * username or email. It constructs a UserDetails object that includes user authorities.
 	 *
 	 * @param usernameOrEmail the username or email of the user whose details are to be loaded
-	 * @return a UserDetails object containing user information and granted authorities
+	 * @return an {@link AuthenticatedUser} containing user information and granted authorities
 	 * @throws UsernameNotFoundException if the user is not found in the database
 	 */
 	@Override
 	public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
+		String key = normalize(usernameOrEmail);
+
+		// Serve the user from the cache when it was loaded recently
+		Long userId = userIdByLogin.getIfPresent(key);
+		CachedUser cachedUser = userId == null ? null : cache.getIfPresent(userId);
+		if (cachedUser != null && cachedUser.matches(key)) {
+			log.debug("User served from cache: {}", usernameOrEmail);
+			return cachedUser.toUserDetails();
+		}
+
 		log.info("Attempting to load user by usernameOrEmail: {}", usernameOrEmail);
 
-		// Retrieve the user from the database based on the provided username or email
-		Optional<User> optionalUser = userRepository.findByUsernameOrEmail(usernameOrEmail);
+		// Retrieve the user from the database with a single lookup on the normalized username or email
+		Optional<User> optionalUser = userRepository.findByLogin(usernameOrEmail);
 
 		// Check if the user exists
 		if (optionalUser.isPresent()) {
 			User user = optionalUser.get();
 			log.info("User found: {}", user.getUsername());
 
-			// Convert user roles to Spring Security authorities
-			List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-			grantedAuthorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+			// Convert user roles to the shared Spring Security authorities
+			List<GrantedAuthority> grantedAuthorities = RoleClaims.forRole(user.getRole());
 
-			// Return a Spring Security UserDetails object with the user's email, password, and authorities
-			return new org.springframework.security.core.userdetails.User(
-					user.getEmail(),
-					user.getPassword(),
-					grantedAuthorities
-			);
+			// Cache the user's ID, role, logins, password hash, and authorities, and index them by both logins
+			cachedUser = new CachedUser(user.getId(), user.getRole(), user.getEmail(), normalize(user.getUsername()),
+					normalize(user.getEmail()), user.getPassword(), grantedAuthorities);
+			cache.put(user.getId(), cachedUser);
+			userIdByLogin.put(cachedUser.usernameKey(), user.getId());
+			userIdByLogin.put(cachedUser.emailKey(), user.getId());
+			return cachedUser.toUserDetails();
 		} else {
 			// Log a warning and throw an exception if the user is not found
 			log.warn("User not found with usernameOrEmail: {}", usernameOrEmail);
 			throw new BadCredentialsException("User Details not found with this username or email: " + usernameOrEmail);
 		}
 	}
+
+	/**
+	 * Removes a user from the cache, whichever login it was loaded with.
+	 * Must be called whenever a user is created or updated.
+	 *
+	 * @param user the saved user
+	 */
+	public void evict(User user) {
+		if (user.getId() != null) {
+			cache.invalidate(user.getId());
+		}
+	}
+
+	/**
+	 * Removes the user with the given email from the cache, whichever login it was loaded with.
+	 *
+	 * @param email the email of the user
+	 */
+	public void evictByEmail(String email) {
+		Long userId = userIdByLogin.getIfPresent(normalize(email));
+		if (userId != null) {
+			cache.invalidate(userId);
+		}
+	}
+
+	private static String normalize(String usernameOrEmail) {
+		return Objects.requireNonNullElse(User.normalizeKey(usernameOrEmail), "");
+	}
+
+	/**
+	 * The cached part of a user: immutable and shared, unlike the {@link UserDetails} handed to
+	 * Spring Security, whose credentials are erased after authentication.
+	 */
+	private record CachedUser(Long userId, Role role, String email, String usernameKey, String emailKey, String password,
+			List<GrantedAuthority> authorities) {
+
+		boolean matches(String key) {
+			return key.equals(usernameKey) || key.equals(emailKey);
+		}
+
+		UserDetails toUserDetails() {
+			// Return a Spring Security UserDetails object with the user's email, password, and authorities
+			return new AuthenticatedUser(userId, role, email, password, authorities);
+		}
+	}
 }
@@ -0,0 +1,142 @@
+package com.leucine.academiaportal.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of JWT tokens that have already been verified by {@link JwtTokenValidatorFilter}.
+ *
+ * Clients send the same token many times over its lifetime. The cache maps a SHA-256 digest of
+ * the token to the ready {@link Authentication} built from it, so repeated requests skip signature
+ * verification and claim parsing. Each entry expires together with its token. The token ID is kept
+ * alongside, so revocations are still checked for cached tokens.
+ * Hit, miss, eviction and size metrics are published as {@code cache.*} meters with
+ * {@code cache=jwt-authentication}.
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationCache {
+
+	/**
+	 * The name under which the cache metrics are published.
+	 */
+	public static final String CACHE_NAME = "jwt-authentication";
+
+	private final Cache<String, CachedToken> cache;
+
+	/**
+	 * Creates the cache and registers its metrics.
+	 *
+	 * @param maximumSize the maximum number of cached tokens
+	 * @param meterRegistry the registry the cache metrics are published to
+	 */
+	public JwtAuthenticationCache(@Value("${academiaportal.jwt.cache.maximum-size:10000}") long maximumSize,
+			MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new TokenExpiry())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		log.info("JWT authentication cache created with maximum size {}", maximumSize);
+	}
+
+	/**
+	 * Returns the authentication built from a previously verified token.
+	 *
+	 * @param token the compact JWT token
+	 * @return the cached token, or {@code null} if the token is not cached or has expired
+	 */
+	public CachedToken get(String token) {
+		CachedToken cached = cache.getIfPresent(digest(token));
+		if (cached == null || cached.expiresAtMillis() <= System.currentTimeMillis()) {
+			return null;
+		}
+		return cached;
+	}
+
+	/**
+	 * Caches the authentication built from a verified token until the token expires.
+	 *
+	 * @param token the compact JWT token
+	 * @param authentication the authentication built from the token's claims
+	 * @param tokenId the ID ({@code jti} claim) of the token, or {@code null} if it has none
+	 * @param expiresAtMillis the expiry of the token, in epoch milliseconds
+	 */
+	public void put(String token, Authentication authentication, String tokenId, long expiresAtMillis) {
+		cache.put(digest(token), new CachedToken(authentication, tokenId, expiresAtMillis));
+	}
+
+	/**
+	 * Removes a single token, e.g. after it has been revoked.
+	 *
+	 * @param token the compact JWT token
+	 */
+	public void invalidate(String token) {
+		cache.invalidate(digest(token));
+	}
+
+	/**
+	 * Removes all cached tokens.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * A cached authentication together with the ID and expiry of the token it was built from.
+	 *
+	 * @param authentication the authentication built from the token's claims
+	 * @param tokenId the ID ({@code jti} claim) of the token, or {@code null} if it has none
+	 * @param expiresAtMillis the expiry of the token, in epoch milliseconds
+	 */
+	public record CachedToken(Authentication authentication, String tokenId, long expiresAtMillis) {
+	}
+
+	/**
+	 * Expires every entry at the expiry of its token; reads and updates do not extend it.
+	 */
+	private static final class TokenExpiry implements Expiry<String, CachedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+			long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
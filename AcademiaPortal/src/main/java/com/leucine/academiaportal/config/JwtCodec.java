@@ -0,0 +1,340 @@
+package com.leucine.academiaportal.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and parses the JWT tokens used by {@link JwtTokenGeneratorFilter} and {@link JwtTokenValidatorFilter}.
+ *
+ * The HMAC signing keys and the JWT parser are built once and shared by all requests instead of
+ * being rebuilt per request. Every issued token carries a {@code kid} header naming the key it was
+ * signed with, and the parser picks the verification key by that header, so several keys can be
+ * active at the same time and keys can be rotated without restarting the application.
+ *
+ * Two kinds of tokens are issued: short-lived access tokens, accepted by {@link JwtTokenValidatorFilter},
+ * and long-lived refresh tokens, marked with a {@code typ=refresh} claim, which are only accepted
+ * by the refresh endpoint to obtain a new access token. Every token carries a unique ID
+ * ({@code jti} claim) by which it can be revoked.
+ */
+@Slf4j
+@Component
+public class JwtCodec {
+
+	/**
+	 * The issuer set on, and required from, every token.
+	 */
+	private static final String ISSUER = "leucine";
+
+	/**
+	 * The subject set on every token.
+	 */
+	private static final String SUBJECT = "JWT Token";
+
+	/**
+	 * The claim holding the comma-separated authorities of tokens whose authorities are not all roles.
+	 */
+	private static final String AUTHORITIES_CLAIM = "authorities";
+
+	/**
+	 * The claim holding the token type. Only refresh tokens carry it.
+	 */
+	private static final String TOKEN_TYPE_CLAIM = "typ";
+
+	/**
+	 * The value of the {@value #TOKEN_TYPE_CLAIM} claim of refresh tokens.
+	 */
+	private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+	/**
+	 * The parser shared by all requests. It is immutable and therefore thread-safe;
+	 * the verification key is resolved from the current {@link KeyRing} for every token.
+	 */
+	private final JwtParser jwtParser;
+
+	/**
+	 * How long an issued access token stays valid, in milliseconds.
+	 */
+	private final long expirationMillis;
+
+	/**
+	 * How long an issued refresh token stays valid, in milliseconds.
+	 */
+	private final long refreshExpirationMillis;
+
+	/**
+	 * The current set of keys. Replaced as a whole whenever a key is added, activated or removed.
+	 */
+	private volatile KeyRing keyRing;
+
+	/**
+	 * Creates the codec from the configured keys.
+	 *
+	 * @param jwtProperties the JWT configuration properties
+	 */
+	public JwtCodec(JwtProperties jwtProperties) {
+		Map<String, String> secrets = jwtProperties.getKeys().isEmpty()
+				? Map.of(JwtProperties.DEFAULT_KEY_ID, SecurityConstants.JWT_KEY)
+				: jwtProperties.getKeys();
+
+		Map<String, SecretKey> keys = new LinkedHashMap<>();
+		secrets.forEach((keyId, secret) -> keys.put(keyId, toKey(secret)));
+
+		String activeKeyId = jwtProperties.getActiveKeyId() != null
+				? jwtProperties.getActiveKeyId()
+				: keys.keySet().iterator().next();
+		if (!keys.containsKey(activeKeyId)) {
+			throw new IllegalStateException("Active JWT key ID is not configured: " + activeKeyId);
+		}
+
+		this.keyRing = new KeyRing(Collections.unmodifiableMap(keys), activeKeyId);
+		this.expirationMillis = jwtProperties.getExpiration().toMillis();
+		this.refreshExpirationMillis = jwtProperties.getRefreshExpiration().toMillis();
+		this.jwtParser = Jwts.parserBuilder()
+				.requireIssuer(ISSUER)
+				.setSigningKeyResolver(new SigningKeyResolverAdapter() {
+					@Override
+					public Key resolveSigningKey(JwsHeader header, Claims claims) {
+						return keyRing.verificationKey(header.getKeyId());
+					}
+				})
+				.build();
+
+		log.info("JWT codec initialised with key IDs {} (active: {})", keys.keySet(), activeKeyId);
+	}
+
+	/**
+	 * Issues a signed access token for the given user, signed with the active key.
+	 * Role authorities are encoded as a compact bitmask in the {@value RoleClaims#CLAIM} claim;
+	 * only authorities that are not roles fall back to the comma-separated {@code authorities} claim.
+	 *
+	 * @param username the name of the authenticated user
+	 * @param authorities the authorities of the user
+	 * @return the compact, signed JWT token
+	 */
+	public String issue(String username, Collection<? extends GrantedAuthority> authorities) {
+		KeyRing ring = keyRing;
+		long now = System.currentTimeMillis();
+		JwtBuilder builder = Jwts.builder()
+				.setHeaderParam(JwsHeader.KEY_ID, ring.activeKeyId())
+				.setIssuer(ISSUER)
+				.setSubject(SUBJECT)
+				.setId(UUID.randomUUID().toString())
+				.claim("username", username);
+		int roleMask = RoleClaims.toMask(authorities);
+		if (roleMask >= 0) {
+			builder.claim(RoleClaims.CLAIM, roleMask);
+		} else {
+			builder.claim(AUTHORITIES_CLAIM, String.join(",", AuthorityUtils.authorityListToSet(authorities)));
+		}
+		return builder
+				.setIssuedAt(new Date(now))
+				.setExpiration(new Date(now + expirationMillis))
+				.signWith(ring.activeKey())
+				.compact();
+	}
+
+	/**
+	 * Issues a signed refresh token for the given user, signed with the active key.
+	 * The token carries no authorities; they are looked up again whenever it is exchanged.
+	 *
+	 * @param username the name of the authenticated user
+	 * @return the compact, signed JWT refresh token
+	 */
+	public String issueRefresh(String username) {
+		KeyRing ring = keyRing;
+		long now = System.currentTimeMillis();
+		return Jwts.builder()
+				.setHeaderParam(JwsHeader.KEY_ID, ring.activeKeyId())
+				.setIssuer(ISSUER)
+				.setSubject(SUBJECT)
+				.setId(UUID.randomUUID().toString())
+				.claim("username", username)
+				.claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+				.setIssuedAt(new Date(now))
+				.setExpiration(new Date(now + refreshExpirationMillis))
+				.signWith(ring.activeKey())
+				.compact();
+	}
+
+	/**
+	 * Verifies the signature, issuer and expiry of the given access token and returns its claims.
+	 *
+	 * @param token the compact JWT token, without the "Bearer " prefix
+	 * @return the claims of the token
+	 * @throws io.jsonwebtoken.JwtException if the token is malformed, expired, not signed by a known key,
+	 * or a refresh token
+	 */
+	public Claims parse(String token) {
+		Claims claims = jwtParser.parseClaimsJws(token).getBody();
+		if (isRefreshToken(claims)) {
+			throw new UnsupportedJwtException("Refresh tokens cannot be used as access tokens");
+		}
+		return claims;
+	}
+
+	/**
+	 * Verifies the signature, issuer and expiry of the given refresh token and returns its claims.
+	 *
+	 * @param token the compact JWT refresh token
+	 * @return the claims of the token
+	 * @throws io.jsonwebtoken.JwtException if the token is malformed, expired, not signed by a known key,
+	 * or not a refresh token
+	 */
+	public Claims parseRefresh(String token) {
+		Claims claims = jwtParser.parseClaimsJws(token).getBody();
+		if (!isRefreshToken(claims)) {
+			throw new UnsupportedJwtException("Not a refresh token");
+		}
+		return claims;
+	}
+
+	/**
+	 * Returns the authorities carried by the claims of an access token.
+	 * Tokens carrying the role bitmask decode into shared, immutable lists; tokens issued before
+	 * the bitmask was introduced still carry the comma-separated {@code authorities} claim.
+	 *
+	 * @param claims the claims returned by {@link #parse(String)}
+	 * @return the authorities of the token
+	 */
+	public List<GrantedAuthority> authorities(Claims claims) {
+		Integer roleMask = claims.get(RoleClaims.CLAIM, Integer.class);
+		if (roleMask != null) {
+			return RoleClaims.fromMask(roleMask);
+		}
+		return AuthorityUtils.commaSeparatedStringToAuthorityList(claims.get(AUTHORITIES_CLAIM, String.class));
+	}
+
+	/**
+	 * @return how long an issued access token stays valid, in milliseconds
+	 */
+	public long getExpirationMillis() {
+		return expirationMillis;
+	}
+
+	/**
+	 * Extracts the access token from an {@code Authorization} header. Tokens are issued without a
+	 * scheme, and accepted both as issued and with a {@code Bearer } prefix.
+	 *
+	 * @param header the header value, may be {@code null}
+	 * @return the compact token, or {@code null} if the header is missing or carries HTTP Basic credentials
+	 */
+	public static String tokenFromHeader(String header) {
+		if (header == null || header.regionMatches(true, 0, "Basic ", 0, 6)) {
+			return null;
+		}
+		return header.startsWith("Bearer ") ? header.substring(7) : header;
+	}
+
+	/**
+	 * Adds a key, or replaces the secret of an existing key, without activating it.
+	 * Tokens signed with the key are accepted from now on.
+	 *
+	 * @param keyId the key ID
+	 * @param secret the HMAC secret; must be at least 256 bits long
+	 */
+	public synchronized void addKey(String keyId, String secret) {
+		Map<String, SecretKey> keys = new LinkedHashMap<>(keyRing.keys());
+		keys.put(keyId, toKey(secret));
+		keyRing = new KeyRing(Collections.unmodifiableMap(keys), keyRing.activeKeyId());
+		log.info("JWT key added: {}", keyId);
+	}
+
+	/**
+	 * Makes an already added key the one used to sign newly issued tokens.
+	 *
+	 * @param keyId the key ID
+	 * @throws IllegalArgumentException if no key with the given ID exists
+	 */
+	public synchronized void activateKey(String keyId) {
+		if (!keyRing.keys().containsKey(keyId)) {
+			throw new IllegalArgumentException("Unknown JWT key ID: " + keyId);
+		}
+		keyRing = new KeyRing(keyRing.keys(), keyId);
+		log.info("JWT key activated: {}", keyId);
+	}
+
+	/**
+	 * Removes a key. Tokens signed with it are rejected from now on.
+	 *
+	 * @param keyId the key ID
+	 * @throws IllegalArgumentException if the key is the active key
+	 */
+	public synchronized void removeKey(String keyId) {
+		if (keyId.equals(keyRing.activeKeyId())) {
+			throw new IllegalArgumentException("The active JWT key cannot be removed: " + keyId);
+		}
+		Map<String, SecretKey> keys = new LinkedHashMap<>(keyRing.keys());
+		keys.remove(keyId);
+		keyRing = new KeyRing(Collections.unmodifiableMap(keys), keyRing.activeKeyId());
+		log.info("JWT key removed: {}", keyId);
+	}
+
+	/**
+	 * @return the IDs of all keys whose tokens are currently accepted
+	 */
+	public Set<String> getKeyIds() {
+		return keyRing.keys().keySet();
+	}
+
+	/**
+	 * @return the ID of the key used to sign newly issued tokens
+	 */
+	public String getActiveKeyId() {
+		return keyRing.activeKeyId();
+	}
+
+	private static boolean isRefreshToken(Claims claims) {
+		return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+	}
+
+	private static SecretKey toKey(String secret) {
+		return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * An immutable snapshot of the known keys and the active key ID.
+	 */
+	private record KeyRing(Map<String, SecretKey> keys, String activeKeyId) {
+
+		SecretKey activeKey() {
+			return keys.get(activeKeyId);
+		}
+
+		/**
+		 * Tokens issued before key IDs were introduced carry no {@code kid} header and are
+		 * verified with the active key.
+		 */
+		SecretKey verificationKey(String keyId) {
+			SecretKey key = keyId == null ? activeKey() : keys.get(keyId);
+			if (key == null) {
+				throw new SignatureException("Unknown JWT key ID: " + keyId);
+			}
+			return key;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.leucine.academiaportal.config;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint for rotating JWT signing keys at runtime ({@code /actuator/jwtkeys}).
+ *
+ * A rotation is done in three steps: add the new key, activate it once every node knows it,
+ * and remove the old key after the tokens signed with it have expired. A key can also be removed
+ * early, e.g. because it was compromised: tokens signed with it are rejected at once, including
+ * those already verified and held by the {@link JwtAuthenticationCache}.
+ * Secrets are never returned by this endpoint.
+ */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeysEndpoint {
+
+	private final JwtCodec jwtCodec;
+
+	private final JwtAuthenticationCache jwtAuthenticationCache;
+
+	/**
+	 * Lists the accepted key IDs and the active key ID.
+	 *
+	 * @return the key IDs
+	 */
+	@ReadOperation
+	public Map<String, Object> keys() {
+		return Map.of("keyIds", jwtCodec.getKeyIds(), "activeKeyId", jwtCodec.getActiveKeyId());
+	}
+
+	/**
+	 * Adds a key and, if requested, makes it the active signing key.
+	 *
+	 * @param keyId the key ID
+	 * @param secret the HMAC secret, or {@code null} to only activate an already added key
+	 * @param activate whether newly issued tokens should be signed with this key
+	 * @return the key IDs after the change
+	 */
+	@WriteOperation
+	public Map<String, Object> addKey(@Selector String keyId, @Nullable String secret, @Nullable Boolean activate) {
+		if (secret != null) {
+			jwtCodec.addKey(keyId, secret);
+		}
+		if (Boolean.TRUE.equals(activate)) {
+			jwtCodec.activateKey(keyId);
+		}
+		return keys();
+	}
+
+	/**
+	 * Removes a key so that tokens signed with it are no longer accepted.
+	 * The authentication cache is cleared, since it does not know which key signed a cached token;
+	 * tokens signed with the remaining keys are simply verified again on their next use.
+	 *
+	 * @param keyId the key ID
+	 * @return the key IDs after the change
+	 */
+	@DeleteOperation
+	public Map<String, Object> removeKey(@Selector String keyId) {
+		jwtCodec.removeKey(keyId);
+		jwtAuthenticationCache.clear();
+		return keys();
+	}
+}
@@ -0,0 +1,49 @@
+package com.leucine.academiaportal.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for JWT signing and validation, bound from {@code academiaportal.jwt.*}.
+ * Several signing keys can be configured at once, each identified by a key ID ({@code kid}),
+ * so that tokens signed with an older key stay valid while a new key is rolled out.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "academiaportal.jwt")
+public class JwtProperties {
+
+	/**
+	 * The key ID assigned to {@link SecurityConstants#JWT_KEY} when no keys are configured.
+	 */
+	public static final String DEFAULT_KEY_ID = "default";
+
+	/**
+	 * The signing secrets keyed by key ID.
+	 * When empty, {@link SecurityConstants#JWT_KEY} is used under the {@link #DEFAULT_KEY_ID} key ID.
+	 */
+	private Map<String, String> keys = new LinkedHashMap<>();
+
+	/**
+	 * The key ID used to sign newly issued tokens.
+	 * When not set, the first configured key is used.
+	 */
+	private String activeKeyId;
+
+	/**
+	 * How long an issued access token stays valid.
+	 * Kept short, since clients obtain new access tokens from their refresh token without re-sending credentials.
+	 */
+	private Duration expiration = Duration.ofMinutes(15);
+
+	/**
+	 * How long an issued refresh token stays valid. Once it expires the user has to log in again.
+	 */
+	private Duration refreshExpiration = Duration.ofDays(14);
+}
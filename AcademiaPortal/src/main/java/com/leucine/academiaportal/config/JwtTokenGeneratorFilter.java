@@ -1,20 +1,11 @@
 package com.leucine.academiaportal.config;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
-
-import javax.crypto.SecretKey;
 
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,10 +16,23 @@ import lombok.extern.slf4j.Slf4j;
  * Filter for generating and adding a JWT token to the response header.
  * This filter extends OncePerRequestFilter to ensure that the JWT token is generated
  * and added to the response header only once per request.
+ * Alongside the short-lived access token, a long-lived refresh token is returned in the
+ * {@link SecurityConstants#REFRESH_HEADER} header.
  */
 @Slf4j
 public class JwtTokenGeneratorFilter extends OncePerRequestFilter {
 
+	private final JwtCodec jwtCodec;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param jwtCodec the codec used to sign the generated tokens
+	 */
+	public JwtTokenGeneratorFilter(JwtCodec jwtCodec) {
+		this.jwtCodec = jwtCodec;
+	}
+
 	/**
 	 * Generates a JWT token if the authentication information is available.
 	 * Adds the generated token to the response header.
@@ -53,23 +57,13 @@ public class JwtTokenGeneratorFilter extends OncePerRequestFilter {
 			// Extract authorities from the authentication object
 			log.info("User authorities: {}", authentication.getAuthorities());
 
-			// Generate a secret key for signing the JWT
-			SecretKey secretKey = Keys.hmacShaKeyFor(SecurityConstants.JWT_KEY.getBytes());
+			// Build the JWT token, signed with the active key of the shared codec
+			String jwtToken = jwtCodec.issue(authentication.getName(), authentication.getAuthorities());
 
-			// Build the JWT token
-			String jwtToken = Jwts.builder()
-					.setIssuer("leucine")  // Issuer of the token
-					.setSubject("JWT Token")  // Subject of the token
-					.claim("username", authentication.getName())  // Add username as a claim
-					.claim("authorities", populateAuthorities(authentication.getAuthorities()))  // Add user authorities as a claim
-					.setIssuedAt(new Date())  // Set the token issue date
-					.setExpiration(new Date(new Date().getTime() + 30000000))  // Set the token expiration date
-					.signWith(secretKey)  // Sign the token with the secret key
-					.compact();
-
-			// Add the JWT token to the response header
+			// Add the JWT token and a refresh token to the response headers
 			response.setHeader(SecurityConstants.JWT_HEADER, jwtToken);
-			log.info("JWT Token generated and added to the response header.");
+			response.setHeader(SecurityConstants.REFRESH_HEADER, jwtCodec.issueRefresh(authentication.getName()));
+			log.info("JWT Token and refresh token generated and added to the response headers.");
 		} else {
 			log.info("No authentication information found. Skipping JWT Token generation.");
 		}
@@ -78,20 +72,6 @@ public class JwtTokenGeneratorFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
-	/**
-	 * Converts a collection of GrantedAuthority objects to a comma-separated string.
-	 *
-	 * @param collection the collection of GrantedAuthority objects
-	 * @return a comma-separated string of authority names
-	 */
-	private String populateAuthorities(Collection<? extends GrantedAuthority> collection) {
-		Set<String> authorities = new HashSet<>();
-		for (GrantedAuthority auth : collection) {
-			authorities.add(auth.getAuthority());
-		}
-		return String.join(",", authorities);
-	}
-
 	/**
 	 * Determines whether this filter should be applied to the current request.
 	 *
@@ -3,20 +3,16 @@ package com.leucine.academiaportal.config;
 import java.io.IOException;
 import java.util.List;
 
-import javax.crypto.SecretKey;
-
+import com.leucine.academiaportal.service.TokenRevocationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,10 +22,32 @@ import jakarta.servlet.http.HttpServletResponse;
  * Filter for validating JWT tokens.
  * This filter extends OncePerRequestFilter to ensure that the JWT token is validated
  * once per request, and authentication is set in the security context.
+ * Refresh tokens are rejected; they are only accepted by the refresh endpoint. Revoked tokens are
+ * rejected as well, whether or not they have been verified before.
  */
 @Slf4j
 public class JwtTokenValidatorFilter extends OncePerRequestFilter {
 
+	private final JwtCodec jwtCodec;
+
+	private final JwtAuthenticationCache jwtAuthenticationCache;
+
+	private final TokenRevocationService tokenRevocationService;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param jwtCodec the codec used to verify and parse the received tokens
+	 * @param jwtAuthenticationCache the cache of already verified tokens
+	 * @param tokenRevocationService the service checking whether a token has been revoked
+	 */
+	public JwtTokenValidatorFilter(JwtCodec jwtCodec, JwtAuthenticationCache jwtAuthenticationCache,
+			TokenRevocationService tokenRevocationService) {
+		this.jwtCodec = jwtCodec;
+		this.jwtAuthenticationCache = jwtAuthenticationCache;
+		this.tokenRevocationService = tokenRevocationService;
+	}
+
 	/**
 	 * Validates the JWT token from the request header and sets the authentication
 	 * information in the security context if the token is valid.
@@ -43,38 +61,35 @@ public class JwtTokenValidatorFilter extends OncePerRequestFilter {
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
-		// Retrieve the JWT token from the request header
-		String jwtToken = request.getHeader(SecurityConstants.JWT_HEADER);
+		// Retrieve the JWT token from the request header, with or without a "Bearer " prefix;
+		// HTTP Basic credentials are left to BasicAuthenticationFilter
+		String jwtToken = JwtCodec.tokenFromHeader(request.getHeader(SecurityConstants.JWT_HEADER));
 
 		if (jwtToken != null) {
 			try {
-				// Remove the "Bearer " prefix from the token if present
-				jwtToken = jwtToken.startsWith("Bearer ") ? jwtToken.substring(7) : jwtToken;
-
-				// Generate the secret key for validating the JWT token
-				SecretKey secretKey = Keys.hmacShaKeyFor(SecurityConstants.JWT_KEY.getBytes());
-
-				// Parse the JWT token and extract claims
-				Claims claims = Jwts.parserBuilder()
-						.setSigningKey(secretKey)
-						.build()
-						.parseClaimsJws(jwtToken)
-						.getBody();
-
-				// Extract username and authorities from the claims
-				String username = claims.get("username", String.class);
-				String authorities = claims.get("authorities", String.class);
-
-				// Convert authorities from comma-separated string to list of GrantedAuthority
-				List<GrantedAuthority> authorityList = AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
-
-				// Create an Authentication object with the extracted username and authorities
-				Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorityList);
-
-				// Set the authentication object in the security context
-				SecurityContextHolder.getContext().setAuthentication(authentication);
-
-				log.info("JWT Token validated and authentication set for user: {}", username);
+				// Reuse the authentication of a token that has already been verified
+				JwtAuthenticationCache.CachedToken cachedToken = jwtAuthenticationCache.get(jwtToken);
+				if (cachedToken != null) {
+					checkNotRevoked(cachedToken.tokenId());
+					SecurityContextHolder.getContext().setAuthentication(cachedToken.authentication());
+				} else {
+					// Verify the JWT token with the shared parser and extract claims
+					Claims claims = jwtCodec.parse(jwtToken);
+					checkNotRevoked(claims.getId());
+
+					// Extract username and the shared authority list from the claims
+					String username = claims.get("username", String.class);
+					List<GrantedAuthority> authorityList = jwtCodec.authorities(claims);
+
+					// Create an Authentication object with the extracted username and authorities
+					Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorityList);
+
+					// Set the authentication object in the security context and remember it until the token expires
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+					jwtAuthenticationCache.put(jwtToken, authentication, claims.getId(), claims.getExpiration().getTime());
+
+					log.info("JWT Token validated and authentication set for user: {}", username);
+				}
 
 			} catch (Exception e) {
 				log.error("Error validating JWT Token: {}", e.getMessage());
@@ -86,6 +101,17 @@ public class JwtTokenValidatorFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * Rejects tokens that have been revoked, e.g. at logout.
+	 *
+	 * @param tokenId the ID of the token, or {@code null} for tokens issued without an ID
+	 */
+	private void checkNotRevoked(String tokenId) {
+		if (tokenRevocationService.isRevoked(tokenId)) {
+			throw new BadCredentialsException("Token has been revoked: " + tokenId);
+		}
+	}
+
 	/**
 	 * Determines whether this filter should be applied to the current request.
 	 *
@@ -95,8 +121,10 @@ public class JwtTokenValidatorFilter extends OncePerRequestFilter {
 	 */
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-		// Apply the filter to all paths except the /api/auth/login endpoint
-		boolean shouldNotFilter = request.getServletPath().equals("/api/auth/login");
+		// Apply the filter to all paths except the /api/auth/login and /api/auth/refresh endpoints,
+		// where an expired access token must not get in the way
+		String path = request.getServletPath();
+		boolean shouldNotFilter = path.equals("/api/auth/login") || path.equals("/api/auth/refresh");
 		log.info("Filter should {} be applied to path: {}", shouldNotFilter ? "not" : "be", request.getServletPath());
 		return shouldNotFilter;
 	}
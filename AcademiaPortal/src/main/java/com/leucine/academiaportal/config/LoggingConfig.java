@@ -0,0 +1,29 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.leucine.academiaportal.logging.RequestIdFilter;
+
+/**
+ * Logging configuration for the application.
+ * The log appenders, layout and sampling rules themselves are configured in {@code logback-spring.xml}.
+ */
+@Configuration
+public class LoggingConfig {
+
+	/**
+	 * Registers the {@link RequestIdFilter} as the very first filter, so every log line written
+	 * while handling a request carries its request ID.
+	 *
+	 * @return the FilterRegistrationBean object
+	 */
+	@Bean
+	public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+		FilterRegistrationBean<RequestIdFilter> registration = new FilterRegistrationBean<>(new RequestIdFilter());
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
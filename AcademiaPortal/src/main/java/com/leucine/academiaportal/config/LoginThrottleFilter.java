@@ -0,0 +1,147 @@
+package com.leucine.academiaportal.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filter that throttles credential-based logins before any authentication work is done.
+ *
+ * Every HTTP Basic request and every form login costs a database lookup and a full BCrypt check,
+ * so a single client retrying in a loop can pin the CPU. This filter sits in front of the
+ * authentication filters and keeps a per-client-IP bucket and a per-username bucket:
+ * <ul>
+ *     <li>every attempt on a login endpoint ({@code /api/auth/login}, or a form login at
+ *     {@code POST /login}) takes a token from both;</li>
+ *     <li>other requests carrying HTTP Basic credentials, accepted on the data APIs when
+ *     {@code academiaportal.security.basic-auth-on-data-apis} is set, only take tokens when
+ *     authentication fails, so a well-behaved Basic client is never throttled while a client
+ *     guessing passwords is.</li>
+ * </ul>
+ * When either bucket is empty the request is answered with 429 Too Many Requests and a
+ * {@code Retry-After} header. Requests authenticated with a JWT token carry no credentials and
+ * pass straight through.
+ */
+@Slf4j
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+	private static final String BASIC_PREFIX = "Basic ";
+
+	private final TokenBucketLimiter ipLimiter;
+
+	private final TokenBucketLimiter usernameLimiter;
+
+	private final Counter ipRejections;
+
+	private final Counter usernameRejections;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param ipLimiter the limiter keyed by client IP
+	 * @param usernameLimiter the limiter keyed by normalized username or email
+	 * @param meterRegistry the registry the rejection counters are published to
+	 */
+	public LoginThrottleFilter(TokenBucketLimiter ipLimiter, TokenBucketLimiter usernameLimiter, MeterRegistry meterRegistry) {
+		this.ipLimiter = ipLimiter;
+		this.usernameLimiter = usernameLimiter;
+		this.ipRejections = meterRegistry.counter("login.throttle.rejected", "key", "ip");
+		this.usernameRejections = meterRegistry.counter("login.throttle.rejected", "key", "username");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String username = extractUsername(request);
+		if (username == null) {
+			// No credentials on this request, nothing expensive will happen
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		String clientIp = request.getRemoteAddr();
+		boolean loginAttempt = isLoginEndpoint(request);
+		long waitNanos = loginAttempt ? ipLimiter.tryAcquire(clientIp) : ipLimiter.waitNanos(clientIp);
+		if (waitNanos > 0) {
+			ipRejections.increment();
+			log.warn("Login throttled for client IP: {}", clientIp);
+			reject(response, waitNanos);
+			return;
+		}
+
+		waitNanos = loginAttempt ? usernameLimiter.tryAcquire(username) : usernameLimiter.waitNanos(username);
+		if (waitNanos > 0) {
+			usernameRejections.increment();
+			log.warn("Login throttled for user: {}", username);
+			reject(response, waitNanos);
+			return;
+		}
+
+		filterChain.doFilter(request, response);
+
+		// Basic credentials on any other endpoint only count when they turn out to be wrong
+		if (!loginAttempt && response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+			ipLimiter.tryAcquire(clientIp);
+			usernameLimiter.tryAcquire(username);
+		}
+	}
+
+	private static boolean isLoginEndpoint(HttpServletRequest request) {
+		String path = request.getServletPath();
+		return "/api/auth/login".equals(path) || (HttpMethod.POST.matches(request.getMethod()) && "/login".equals(path));
+	}
+
+	/**
+	 * Extracts the username from HTTP Basic credentials or a form login request.
+	 *
+	 * @param request the HTTP request
+	 * @return the normalized username, or {@code null} if the request carries no credentials
+	 */
+	private static String extractUsername(HttpServletRequest request) {
+		String header = request.getHeader(SecurityConstants.JWT_HEADER);
+		if (header != null && header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+			String credentials;
+			try {
+				credentials = new String(Base64.getDecoder().decode(header.substring(BASIC_PREFIX.length()).trim()),
+						StandardCharsets.UTF_8);
+			} catch (IllegalArgumentException e) {
+				// Malformed credentials are rejected by BasicAuthenticationFilter without any BCrypt work
+				return null;
+			}
+			int colon = credentials.indexOf(':');
+			return normalize(colon >= 0 ? credentials.substring(0, colon) : credentials);
+		}
+		if (HttpMethod.POST.matches(request.getMethod()) && "/login".equals(request.getServletPath())) {
+			String username = request.getParameter("username");
+			return normalize(username == null ? "" : username);
+		}
+		return null;
+	}
+
+	private static String normalize(String username) {
+		return username.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.getWriter().write("{\"message\":\"Too many login attempts, retry after " + retryAfterSeconds + " seconds\"}");
+	}
+}
@@ -0,0 +1,52 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the {@link LoginThrottleFilter},
+ * bound from {@code academiaportal.security.login-throttle.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "academiaportal.security.login-throttle")
+public class LoginThrottleProperties {
+
+	/**
+	 * Whether credential-based logins are throttled at all.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The token bucket applied per client IP.
+	 */
+	private Bucket perIp = new Bucket(50, 300);
+
+	/**
+	 * The token bucket applied per username or email.
+	 */
+	private Bucket perUsername = new Bucket(10, 60);
+
+	/**
+	 * Size and refill rate of a token bucket.
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Bucket {
+
+		/**
+		 * The number of requests allowed in a burst.
+		 */
+		private int capacity;
+
+		/**
+		 * The number of requests allowed per minute once the burst is used up.
+		 */
+		private int refillPerMinute;
+	}
+}
@@ -0,0 +1,53 @@
+package com.leucine.academiaportal.config;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} that runs the expensive {@link #encode} and {@link #matches} calls of its
+ * delegate on the {@link PasswordHashingExecutor} instead of the calling request thread.
+ * {@link #upgradeEncoding} only inspects the stored hash and runs inline.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+
+	private final PasswordHashingExecutor passwordHashingExecutor;
+
+	/**
+	 * Creates the encoder.
+	 *
+	 * @param delegate the encoder doing the actual hashing
+	 * @param passwordHashingExecutor the pool the hashing runs on
+	 */
+	public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+		this.delegate = delegate;
+		this.passwordHashingExecutor = passwordHashingExecutor;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return passwordHashingExecutor.call(() -> delegate.encode(rawPassword));
+	}
+
+	/**
+	 * Encodes a password on the hashing pool without waiting for the result.
+	 *
+	 * @param rawPassword the password to encode
+	 * @return a future completed with the encoded password
+	 */
+	public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+		return passwordHashingExecutor.submit(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return passwordHashingExecutor.call(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+}
@@ -0,0 +1,130 @@
+package com.leucine.academiaportal.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, separately sized thread pool that runs all password hashing and verification.
+ *
+ * BCrypt is deliberately CPU-expensive. Running it on the request threads lets a burst of logins
+ * occupy every core, so all hashing is funnelled through this pool instead: at most
+ * {@code academiaportal.password.hashing.threads} hashes run at once, a bounded queue absorbs short
+ * bursts, and work beyond that is rejected. Pool and queue depth metrics are published as
+ * {@code executor.*} meters tagged {@code name=password.hashing}, rejections as
+ * {@code password.hashing.rejected}.
+ *
+ * This class intentionally does not implement {@link java.util.concurrent.Executor}, so that it is
+ * never picked up as the application's general-purpose task executor.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+	private final ThreadPoolExecutor executor;
+
+	private final long timeoutMillis;
+
+	private final Counter rejections;
+
+	/**
+	 * Creates the pool and registers its metrics.
+	 *
+	 * @param threads the number of hashing threads; {@code 0} uses half of the available processors
+	 * @param queueCapacity the number of hashing tasks that may wait for a thread
+	 * @param timeoutMillis how long a caller waits for its hashing task before giving up
+	 * @param meterRegistry the registry the pool metrics are published to
+	 */
+	public PasswordHashingExecutor(@Value("${academiaportal.password.hashing.threads:0}") int threads,
+			@Value("${academiaportal.password.hashing.queue-capacity:64}") int queueCapacity,
+			@Value("${academiaportal.password.hashing.timeout-millis:5000}") long timeoutMillis,
+			MeterRegistry meterRegistry) {
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		this.timeoutMillis = timeoutMillis;
+		this.rejections = Counter.builder("password.hashing.rejected")
+				.description("Password hashing tasks rejected because the hashing queue was full")
+				.register(meterRegistry);
+		new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(meterRegistry);
+		log.info("Password hashing pool created with {} threads and a queue of {}", poolSize, queueCapacity);
+	}
+
+	/**
+	 * Runs a hashing task on the pool without waiting for it.
+	 *
+	 * @param task the hashing task
+	 * @param <T> the result type
+	 * @return a future completed with the result of the task
+	 * @throws AuthenticationServiceException if the hashing queue is full
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, executor);
+		} catch (RejectedExecutionException e) {
+			rejections.increment();
+			log.warn("Password hashing queue is full ({} waiting)", executor.getQueue().size());
+			throw new AuthenticationServiceException("Password hashing capacity exceeded, please retry later", e);
+		}
+	}
+
+	/**
+	 * Runs a hashing task on the pool and waits for its result.
+	 *
+	 * @param task the hashing task
+	 * @param <T> the result type
+	 * @return the result of the task
+	 * @throws AuthenticationServiceException if the hashing queue is full or the task does not complete in time
+	 */
+	public <T> T call(Supplier<T> task) {
+		CompletableFuture<T> future = submit(task);
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(false);
+			throw new AuthenticationServiceException("Interrupted while waiting for password hashing", e);
+		} catch (TimeoutException e) {
+			future.cancel(false);
+			throw new AuthenticationServiceException("Password hashing timed out, please retry later", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new AuthenticationServiceException("Password hashing failed", e.getCause());
+		}
+	}
+
+	/**
+	 * @return the number of hashing tasks waiting for a thread
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * Stops accepting new work and lets queued hashing tasks finish.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,60 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.leucine.academiaportal.service.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DaoAuthenticationProvider} that re-hashes outdated passwords in the background.
+ *
+ * When a user logs in successfully and their stored hash was created with a lower BCrypt cost than
+ * the currently calibrated one, the presented password is hashed again on the
+ * {@link PasswordHashingExecutor} and stored, without delaying the login response.
+ * If the hashing pool is saturated, the upgrade is simply retried on a later login.
+ */
+@Slf4j
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+	private final OffloadingPasswordEncoder passwordEncoder;
+
+	private final UserService userService;
+
+	/**
+	 * Creates the provider.
+	 *
+	 * @param userDetailsService the service loading users by username or email
+	 * @param passwordEncoder the encoder used to verify and re-hash passwords
+	 * @param userService the service storing the re-hashed passwords
+	 */
+	public RehashingAuthenticationProvider(UserDetailsService userDetailsService, OffloadingPasswordEncoder passwordEncoder,
+			UserService userService) {
+		super(passwordEncoder);
+		setUserDetailsService(userDetailsService);
+		this.passwordEncoder = passwordEncoder;
+		this.userService = userService;
+	}
+
+	@Override
+	protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+		if (authentication.getCredentials() != null && passwordEncoder.upgradeEncoding(user.getPassword())) {
+			String email = user.getUsername();
+			try {
+				passwordEncoder.encodeAsync(authentication.getCredentials().toString())
+						.thenAccept(encodedPassword -> userService.updatePassword(email, encodedPassword))
+						.exceptionally(e -> {
+							log.warn("Re-hashing the password of {} failed: {}", email, e.getMessage());
+							return null;
+						});
+				log.info("Password hash of {} uses an outdated cost, re-hashing in the background", email);
+			} catch (RuntimeException e) {
+				log.warn("Password hashing pool is busy, skipping re-hash for {}", email);
+			}
+		}
+		return super.createSuccessAuthentication(principal, authentication, user);
+	}
+}
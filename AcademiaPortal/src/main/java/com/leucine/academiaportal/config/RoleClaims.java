@@ -0,0 +1,112 @@
+package com.leucine.academiaportal.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.leucine.academiaportal.enums.Role;
+
+/**
+ * Compact encoding of the role authorities carried by JWT tokens.
+ *
+ * Instead of a comma-separated list of authority names, a token carries a bitmask over the
+ * {@link Role} ordinals in its {@value #CLAIM} claim. The authority lists for every possible mask
+ * are built once, immutable and shared, so decoding a token costs an array lookup and allocates
+ * nothing.
+ *
+ * New roles must be appended to {@link Role}: reordering the constants would change the meaning
+ * of tokens already issued.
+ */
+public final class RoleClaims {
+
+	/**
+	 * The name of the claim holding the role bitmask.
+	 */
+	public static final String CLAIM = "rol";
+
+	private static final String ROLE_PREFIX = "ROLE_";
+
+	private static final Role[] ROLES = Role.values();
+
+	/**
+	 * The shared authority lists, indexed by role bitmask.
+	 */
+	private static final List<GrantedAuthority>[] AUTHORITIES_BY_MASK;
+
+	/**
+	 * The role bit of each authority name, e.g. {@code ROLE_STUDENT}.
+	 */
+	private static final Map<String, Integer> BIT_BY_AUTHORITY = new HashMap<>();
+
+	static {
+		GrantedAuthority[] roleAuthorities = new GrantedAuthority[ROLES.length];
+		for (Role role : ROLES) {
+			roleAuthorities[role.ordinal()] = new SimpleGrantedAuthority(ROLE_PREFIX + role.name());
+			BIT_BY_AUTHORITY.put(ROLE_PREFIX + role.name(), 1 << role.ordinal());
+		}
+
+		@SuppressWarnings("unchecked")
+		List<GrantedAuthority>[] authoritiesByMask = new List[1 << ROLES.length];
+		for (int mask = 0; mask < authoritiesByMask.length; mask++) {
+			List<GrantedAuthority> authorities = new ArrayList<>();
+			for (int ordinal = 0; ordinal < ROLES.length; ordinal++) {
+				if ((mask & (1 << ordinal)) != 0) {
+					authorities.add(roleAuthorities[ordinal]);
+				}
+			}
+			authoritiesByMask[mask] = Collections.unmodifiableList(authorities);
+		}
+		AUTHORITIES_BY_MASK = authoritiesByMask;
+	}
+
+	private RoleClaims() {
+	}
+
+	/**
+	 * Returns the shared, immutable authority list of a single role.
+	 *
+	 * @param role the role
+	 * @return the list containing the {@code ROLE_} authority of the role
+	 */
+	public static List<GrantedAuthority> forRole(Role role) {
+		return AUTHORITIES_BY_MASK[1 << role.ordinal()];
+	}
+
+	/**
+	 * Encodes role authorities as a bitmask.
+	 *
+	 * @param authorities the authorities to encode
+	 * @return the bitmask, or {@code -1} if an authority is not a role authority and cannot be encoded
+	 */
+	public static int toMask(Collection<? extends GrantedAuthority> authorities) {
+		int mask = 0;
+		for (GrantedAuthority authority : authorities) {
+			Integer bit = BIT_BY_AUTHORITY.get(authority.getAuthority());
+			if (bit == null) {
+				return -1;
+			}
+			mask |= bit;
+		}
+		return mask;
+	}
+
+	/**
+	 * Decodes a bitmask into the shared, immutable list of its role authorities.
+	 *
+	 * @param mask the bitmask
+	 * @return the authorities of the roles set in the mask
+	 * @throws IllegalArgumentException if the mask contains bits of unknown roles
+	 */
+	public static List<GrantedAuthority> fromMask(int mask) {
+		if (mask < 0 || mask >= AUTHORITIES_BY_MASK.length) {
+			throw new IllegalArgumentException("Invalid role mask: " + mask);
+		}
+		return AUTHORITIES_BY_MASK[mask];
+	}
+}
@@ -1,25 +1,25 @@
 package com.leucine.academiaportal.config;
 
-import java.util.Arrays;
-import java.util.Collections;
-
+import com.leucine.academiaportal.service.TokenRevocationService;
+import com.leucine.academiaportal.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
-import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
-import jakarta.servlet.http.HttpServletRequest;
-
 /**
  * Security configuration for the application.
  * Configures HTTP security, CORS settings, CSRF protection, and filter chains.
@@ -32,11 +32,21 @@ public class SecurityConfig {
 	 * Configures security filter chain for the application.
 	 *
 	 * @param http the HttpSecurity object
+	 * @param corsConfigurationSource the CORS policy
+	 * @param jwtCodec the codec shared by the JWT filters
+	 * @param jwtAuthenticationCache the cache of already verified JWT tokens
+	 * @param tokenRevocationService the service checking whether a JWT token has been revoked
+	 * @param loginThrottleProperties the login throttle configuration
+	 * @param meterRegistry the registry security metrics are published to
+	 * @param basicAuthOnDataApis whether HTTP Basic credentials are accepted on endpoints other than the login endpoint
 	 * @return the SecurityFilterChain object
 	 * @throws Exception if an error occurs during configuration
 	 */
 	@Bean
-	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain securityFilterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource,
+			JwtCodec jwtCodec, JwtAuthenticationCache jwtAuthenticationCache, TokenRevocationService tokenRevocationService,
+			LoginThrottleProperties loginThrottleProperties, MeterRegistry meterRegistry,
+			@Value("${academiaportal.security.basic-auth-on-data-apis:true}") boolean basicAuthOnDataApis) throws Exception {
 
 		// Configure CSRF token request attribute handler
 		CsrfTokenRequestAttributeHandler requestHandler = new CsrfTokenRequestAttributeHandler();
@@ -46,29 +56,27 @@ public class SecurityConfig {
 				.sessionManagement(sessionManagement ->
 						sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 				)
-				// Configure CORS settings
-				.cors(cors -> {
-					cors.configurationSource(new CorsConfigurationSource() {
-						@Override
-						public CorsConfiguration getCorsConfiguration(HttpServletRequest request) {
-							CorsConfiguration cfg = new CorsConfiguration();
-							cfg.setAllowedOriginPatterns(Collections.singletonList("*"));
-							cfg.setAllowedMethods(Collections.singletonList("*"));
-							cfg.setAllowCredentials(true);
-							cfg.setAllowedHeaders(Collections.singletonList("*"));
-							cfg.setExposedHeaders(Arrays.asList("Authorization"));
-							// Log CORS configuration
-							log.info("CORS configuration applied: {}", cfg);
-							return cfg;
-						}
-					});
-				})
+				// Apply the CORS policy built once in CorsConfig
+				.cors(cors -> cors.configurationSource(corsConfigurationSource))
 				// Configure HTTP request authorization
 				.authorizeHttpRequests(auth -> {
 					auth
-							.requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
+							// The dispatch completing an async request (e.g. a streamed export) was authorized when the request arrived
+							.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+							.requestMatchers(HttpMethod.POST, "/api/auth/register/administrator").hasRole("ADMINISTRATOR")
+							.requestMatchers(HttpMethod.POST, "/api/auth/register", "/api/auth/register/student", "/api/auth/register/faculty").permitAll()
 							.requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
+							.requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
+							.requestMatchers(HttpMethod.GET, "/api/auth/availability").permitAll()
 							.requestMatchers("/swagger-ui*/**", "/v3/api-docs/**").permitAll()
+							.requestMatchers(HttpMethod.POST, "/api/admin/users/import").hasRole("ADMINISTRATOR")
+							.requestMatchers(HttpMethod.GET, "/api/admin/export/**").hasRole("ADMINISTRATOR")
+							.requestMatchers(HttpMethod.POST, "/api/departments").hasRole("ADMINISTRATOR")
+							.requestMatchers(HttpMethod.POST, "/api/courses").hasRole("ADMINISTRATOR")
+							// Health and info stay open to any authenticated caller; every other actuator endpoint,
+							// including key rotation (jwtkeys), is for administrators only
+							.requestMatchers("/actuator/health/**", "/actuator/info").authenticated()
+							.requestMatchers("/actuator/**").hasRole("ADMINISTRATOR")
 							.anyRequest().authenticated();
 					// Log authorization rules
 					log.info("Authorization rules configured.");
@@ -80,14 +88,31 @@ public class SecurityConfig {
 					log.info("CSRF protection disabled.");
 				})
 				// Add custom JWT token validator filter before BasicAuthenticationFilter
-				.addFilterBefore(new JwtTokenValidatorFilter(), BasicAuthenticationFilter.class)
+				.addFilterBefore(new JwtTokenValidatorFilter(jwtCodec, jwtAuthenticationCache, tokenRevocationService), BasicAuthenticationFilter.class)
 				// Add custom JWT token generator filter after BasicAuthenticationFilter
-				.addFilterAfter(new JwtTokenGeneratorFilter(), BasicAuthenticationFilter.class)
+				.addFilterAfter(new JwtTokenGeneratorFilter(jwtCodec), BasicAuthenticationFilter.class)
 				// Configure form login
 				.formLogin(Customizer.withDefaults())
 				// Configure basic authentication
 				.httpBasic(Customizer.withDefaults());
 
+		// Only accept HTTP Basic credentials on the login endpoint, so data API calls never cost a BCrypt check
+		if (!basicAuthOnDataApis) {
+			http.addFilterBefore(new BasicAuthenticationGateFilter(), UsernamePasswordAuthenticationFilter.class);
+			log.info("HTTP Basic authentication restricted to the login endpoint.");
+		}
+
+		// Throttle credential-based logins in front of all authentication filters
+		if (loginThrottleProperties.isEnabled()) {
+			LoginThrottleProperties.Bucket perIp = loginThrottleProperties.getPerIp();
+			LoginThrottleProperties.Bucket perUsername = loginThrottleProperties.getPerUsername();
+			http.addFilterBefore(new LoginThrottleFilter(
+					new TokenBucketLimiter(perIp.getCapacity(), perIp.getRefillPerMinute()),
+					new TokenBucketLimiter(perUsername.getCapacity(), perUsername.getRefillPerMinute()),
+					meterRegistry), UsernamePasswordAuthenticationFilter.class);
+			log.info("Login throttle enabled.");
+		}
+
 		// Log security filter chain configuration
 		log.info("Security filter chain configured.");
 
@@ -96,13 +121,38 @@ public class SecurityConfig {
 
 	/**
 	 * Configures the password encoder to use BCrypt.
+	 * The BCrypt cost is calibrated to the target hashing time on this host, and all hashing
+	 * runs on the dedicated {@link PasswordHashingExecutor} instead of the request threads.
 	 *
+	 * @param passwordHashingExecutor the pool the hashing runs on
+	 * @param targetMillis the desired time for a single hash, in milliseconds
+	 * @param minStrength the lowest acceptable BCrypt cost
+	 * @param maxStrength the highest acceptable BCrypt cost
 	 * @return the PasswordEncoder object
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
+	public OffloadingPasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+			@Value("${academiaportal.password.bcrypt.target-millis:250}") long targetMillis,
+			@Value("${academiaportal.password.bcrypt.min-strength:10}") int minStrength,
+			@Value("${academiaportal.password.bcrypt.max-strength:16}") int maxStrength) {
+		int strength = BCryptStrengthCalibrator.calibrate(targetMillis, minStrength, maxStrength);
 		// Log password encoder creation
-		log.info("Password encoder (BCrypt) created.");
-		return new BCryptPasswordEncoder();
+		log.info("Password encoder (BCrypt, cost {}) created.", strength);
+		return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingExecutor);
+	}
+
+	/**
+	 * Configures the authentication provider used for username/password logins.
+	 * Passwords stored with an outdated BCrypt cost are re-hashed in the background after a successful login.
+	 *
+	 * @param userDetailsService the service loading users by username or email
+	 * @param passwordEncoder the password encoder
+	 * @param userService the service storing re-hashed passwords
+	 * @return the DaoAuthenticationProvider object
+	 */
+	@Bean
+	public RehashingAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+			OffloadingPasswordEncoder passwordEncoder, UserService userService) {
+		return new RehashingAuthenticationProvider(userDetailsService, passwordEncoder, userService);
 	}
 }
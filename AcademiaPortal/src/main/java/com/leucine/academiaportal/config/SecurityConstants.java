@@ -18,4 +18,10 @@ public interface SecurityConstants {
 	 * This header should be included in requests to protected endpoints.
 	 */
 	public static final String JWT_HEADER = "Authorization";
+
+	/**
+	 * The name of the HTTP response header carrying the refresh token issued at login.
+	 * The refresh token is exchanged for new access tokens at the refresh endpoint.
+	 */
+	public static final String REFRESH_HEADER = "X-Refresh-Token";
 }
@@ -0,0 +1,133 @@
+package com.leucine.academiaportal.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free, keyed token bucket rate limiter.
+ *
+ * Each key has a bucket of {@code capacity} tokens that refills at a fixed rate. The bucket is kept
+ * in its GCRA form: a single {@link AtomicLong} holding the "theoretical arrival time" of the next
+ * request, so taking a token is one compare-and-set without locks or allocation.
+ *
+ * A bucket whose theoretical arrival time has passed is full, which is exactly the state of a new
+ * bucket, so such buckets are removed by a sweep that runs lazily every {@value #SWEEP_INTERVAL}
+ * acquisitions instead of on a timer.
+ */
+public class TokenBucketLimiter {
+
+	/**
+	 * Number of acquisitions between two sweeps of full buckets.
+	 */
+	private static final int SWEEP_INTERVAL = 4096;
+
+	private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	private final AtomicLong acquisitions = new AtomicLong();
+
+	private final AtomicBoolean sweeping = new AtomicBoolean();
+
+	/**
+	 * Nanoseconds it takes to refill a single token.
+	 */
+	private final long emissionIntervalNanos;
+
+	/**
+	 * How far the theoretical arrival time may run ahead of now, i.e. the burst the bucket allows.
+	 */
+	private final long burstToleranceNanos;
+
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Creates a limiter using the system clock.
+	 *
+	 * @param capacity the number of tokens a full bucket holds
+	 * @param refillPerMinute the number of tokens added to a bucket per minute
+	 */
+	public TokenBucketLimiter(int capacity, int refillPerMinute) {
+		this(capacity, refillPerMinute, System::nanoTime);
+	}
+
+	/**
+	 * Creates a limiter using the given clock.
+	 *
+	 * @param capacity the number of tokens a full bucket holds
+	 * @param refillPerMinute the number of tokens added to a bucket per minute
+	 * @param nanoClock the clock, in nanoseconds
+	 */
+	public TokenBucketLimiter(int capacity, int refillPerMinute, LongSupplier nanoClock) {
+		if (capacity < 1 || refillPerMinute < 1) {
+			throw new IllegalArgumentException("Capacity and refill rate must be positive");
+		}
+		this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+		this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Takes a token from the bucket of the given key.
+	 *
+	 * @param key the key, e.g. a username or client IP
+	 * @return {@code 0} if a token was taken, otherwise the number of nanoseconds until one is available
+	 */
+	public long tryAcquire(String key) {
+		long now = nanoClock.getAsLong();
+		AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+
+		while (true) {
+			long theoreticalArrival = bucket.get();
+			long start = Math.max(theoreticalArrival, now);
+			long waitNanos = start - now - burstToleranceNanos;
+			if (waitNanos > 0) {
+				return waitNanos;
+			}
+			if (bucket.compareAndSet(theoreticalArrival, start + emissionIntervalNanos)) {
+				break;
+			}
+		}
+
+		if (acquisitions.incrementAndGet() % SWEEP_INTERVAL == 0) {
+			sweep(now);
+		}
+		return 0;
+	}
+
+	/**
+	 * Checks whether the bucket of the given key has a token, without taking it.
+	 *
+	 * @param key the key, e.g. a username or client IP
+	 * @return {@code 0} if a token is available, otherwise the number of nanoseconds until one is
+	 */
+	public long waitNanos(String key) {
+		AtomicLong bucket = buckets.get(key);
+		if (bucket == null) {
+			return 0;
+		}
+		long now = nanoClock.getAsLong();
+		return Math.max(0, Math.max(bucket.get(), now) - now - burstToleranceNanos);
+	}
+
+	/**
+	 * @return the number of keys currently tracked
+	 */
+	public int size() {
+		return buckets.size();
+	}
+
+	/**
+	 * Removes full buckets. Only one thread sweeps at a time; others skip the sweep.
+	 */
+	private void sweep(long now) {
+		if (sweeping.compareAndSet(false, true)) {
+			try {
+				buckets.values().removeIf(bucket -> bucket.get() <= now);
+			} finally {
+				sweeping.set(false);
+			}
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class registering the usage tracking of API requests.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class UsageConfig implements WebMvcConfigurer {
+
+	private final UsageTrackingInterceptor usageTrackingInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(usageTrackingInterceptor).addPathPatterns("/api/**");
+	}
+}
@@ -0,0 +1,36 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.leucine.academiaportal.dto.UsageReport;
+import com.leucine.academiaportal.service.UsageTrackingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint for capacity planning ({@code /actuator/usage}).
+ *
+ * Reports the estimated daily and monthly distinct active users per role, and the number of
+ * requests per endpoint, method and role since startup. The same figures are published as the
+ * {@code users.active} and {@code http.server.usage} metrics.
+ * Like every actuator endpoint other than health and info, it is only available to administrators.
+ */
+@Component
+@Endpoint(id = "usage")
+@RequiredArgsConstructor
+public class UsageEndpoint {
+
+	private final UsageTrackingService usageTrackingService;
+
+	/**
+	 * Returns the current usage.
+	 *
+	 * @return the usage report
+	 */
+	@ReadOperation
+	public UsageReport usage() {
+		return usageTrackingService.report();
+	}
+}
@@ -0,0 +1,38 @@
+package com.leucine.academiaportal.config;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.leucine.academiaportal.service.UsageTrackingService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records every handled request with the {@link UsageTrackingService}.
+ *
+ * Requests are keyed by the path pattern of their handler, e.g. {@code /api/student/profile/{id}},
+ * so that path variables do not create a counter per entity. Requests no controller
+ * method handled, such as unknown paths falling through to static resources, are not recorded.
+ */
+@Component
+@RequiredArgsConstructor
+public class UsageTrackingInterceptor implements HandlerInterceptor {
+
+	private final UsageTrackingService usageTrackingService;
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			@Nullable Exception ex) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (handler instanceof HandlerMethod && pattern != null) {
+			usageTrackingService.recordRequest(pattern.toString(), request.getMethod(),
+					SecurityContextHolder.getContext().getAuthentication());
+		}
+	}
+}
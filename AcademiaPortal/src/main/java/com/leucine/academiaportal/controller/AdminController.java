@@ -1,17 +1,33 @@
 package com.leucine.academiaportal.controller;
 
+import com.leucine.academiaportal.dto.AdministratorProfileDTO;
+import com.leucine.academiaportal.dto.UserImportReport;
 import com.leucine.academiaportal.entity.AdministratorProfile;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
 import com.leucine.academiaportal.service.AdministratorProfileService;
+import com.leucine.academiaportal.service.EntityVersionService;
+import com.leucine.academiaportal.service.ExportService;
+import com.leucine.academiaportal.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Controller for managing administrator profiles.
- * This controller provides endpoints for creating and retrieving administrator profiles.
+ * This controller provides endpoints for creating and retrieving administrator profiles,
+ * and for importing and exporting data in bulk.
  */
 @RestController
 @RequestMapping("/api/admin")
@@ -21,6 +37,15 @@ public class AdminController {
     @Autowired
     private AdministratorProfileService administratorProfileService;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private ExportService exportService;
+
     /**
      * Creates a new administrator profile.
      * This endpoint saves the provided administrator profile to the database.
@@ -29,26 +54,113 @@ public class AdminController {
      * @return a ResponseEntity containing the saved administrator profile and HTTP status CREATED
      */
     @PostMapping("/profile")
-    public ResponseEntity<AdministratorProfile> createProfile(@RequestBody AdministratorProfile administratorProfile) {
+    public ResponseEntity<AdministratorProfileDTO> createProfile(@RequestBody AdministratorProfile administratorProfile) {
         log.info("Creating profile for administrator: {}", administratorProfile.getUser().getUsername());
         AdministratorProfile savedProfile = administratorProfileService.saveAdministratorProfile(administratorProfile);
         log.info("Administrator profile created with ID: {}", savedProfile.getUserId());
-        return new ResponseEntity<>(savedProfile, HttpStatus.CREATED);
+        return new ResponseEntity<>(DtoMapper.toDto(savedProfile), HttpStatus.CREATED);
     }
 
     /**
      * Retrieves an administrator profile by its ID.
      * This endpoint fetches the profile details of the specified administrator.
+     * The profile is only loaded if the client's copy, identified by its ETag, is out of date.
      *
      * @param id the ID of the administrator profile to retrieve
-     * @return a ResponseEntity containing the retrieved administrator profile and HTTP status OK
+     * @param webRequest the request, to check its {@code If-None-Match} header
+     * @return a ResponseEntity containing the retrieved administrator profile, its ETag and HTTP status OK,
+     *         or {@code null} with HTTP status NOT_MODIFIED if the client's copy is current
      * @throws AcademiaPortalException if the profile with the specified ID is not found
      */
     @GetMapping("/profile/{id}")
-    public ResponseEntity<AdministratorProfile> getProfile(@PathVariable Long id) {
+    public ResponseEntity<AdministratorProfileDTO> getProfile(@PathVariable Long id, WebRequest webRequest) {
+        String etag = entityVersionService.getUserETag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         log.info("Fetching administrator profile with ID: {}", id);
         AdministratorProfile profile = administratorProfileService.getAdministratorProfile(id);
         log.info("Administrator profile retrieved with ID: {}", id);
-        return new ResponseEntity<>(profile, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(DtoMapper.toDto(profile));
+    }
+
+    /**
+     * Imports students and faculty members in bulk, e.g. at the start of a term.
+     * The request body is streamed, so files of any size can be imported. Rows that fail
+     * validation are reported with their line number instead of failing the whole import.
+     *
+     * @param request the HTTP request whose body holds the users, as CSV with a header row or as NDJSON
+     * @return a ResponseEntity containing the import report and HTTP status OK
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/users/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<UserImportReport> importUsers(HttpServletRequest request) throws IOException {
+        UserImportService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType("text/csv")) ? UserImportService.Format.CSV : UserImportService.Format.NDJSON;
+        log.info("Importing users from {} upload", format);
+        UserImportReport report = userImportService.importUsers(request.getInputStream(), format);
+        log.info("User import done: {} imported, {} failed", report.imported(), report.failed());
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    /**
+     * Exports all courses with their department and faculty member.
+     *
+     * @param format the format of the export, {@code ndjson} (the default) or {@code csv}
+     * @return a ResponseEntity streaming the courses as an attachment, with HTTP status OK
+     * @throws AcademiaPortalException if the format is not supported
+     */
+    @GetMapping("/export/courses")
+    public ResponseEntity<StreamingResponseBody> exportCourses(@RequestParam(defaultValue = "ndjson") String format) {
+        return export("courses", ExportService.Format.of(format), exportService::exportCourses);
+    }
+
+    /**
+     * Exports all departments.
+     *
+     * @param format the format of the export, {@code ndjson} (the default) or {@code csv}
+     * @return a ResponseEntity streaming the departments as an attachment, with HTTP status OK
+     * @throws AcademiaPortalException if the format is not supported
+     */
+    @GetMapping("/export/departments")
+    public ResponseEntity<StreamingResponseBody> exportDepartments(@RequestParam(defaultValue = "ndjson") String format) {
+        return export("departments", ExportService.Format.of(format), exportService::exportDepartments);
+    }
+
+    /**
+     * Exports the directory of students, faculty members and administrators with their profiles.
+     *
+     * @param format the format of the export, {@code ndjson} (the default) or {@code csv}
+     * @return a ResponseEntity streaming the directory as an attachment, with HTTP status OK
+     * @throws AcademiaPortalException if the format is not supported
+     */
+    @GetMapping("/export/directory")
+    public ResponseEntity<StreamingResponseBody> exportDirectory(@RequestParam(defaultValue = "ndjson") String format) {
+        return export("directory", ExportService.Format.of(format), exportService::exportDirectory);
+    }
+
+    /**
+     * Streams an export as an attachment. The rows are written on an MVC async thread after this method
+     * returns, so the request thread is not held for the duration of the export.
+     */
+    private ResponseEntity<StreamingResponseBody> export(String name, ExportService.Format format, Exporter exporter) {
+        log.info("Exporting {} as {}", name, format);
+        StreamingResponseBody body = output -> {
+            long rows = exporter.export(output, format);
+            log.info("Export of {} done: {} rows", name, rows);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(name + "." + format.getExtension()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * One of the exports of {@link ExportService}.
+     */
+    @FunctionalInterface
+    private interface Exporter {
+        long export(OutputStream output, ExportService.Format format) throws IOException;
     }
 }
@@ -1,7 +1,29 @@
 package com.leucine.academiaportal.controller;
 
+import com.leucine.academiaportal.config.AuthenticatedUser;
+import com.leucine.academiaportal.config.JwtCodec;
+import com.leucine.academiaportal.config.SecurityConstants;
+import com.leucine.academiaportal.dto.AdministratorProfileDTO;
+import com.leucine.academiaportal.dto.AvailabilityResponse;
+import com.leucine.academiaportal.dto.FacultyProfileDTO;
+import com.leucine.academiaportal.dto.LoginResponse;
+import com.leucine.academiaportal.dto.StudentProfileDTO;
+import com.leucine.academiaportal.dto.LogoutRequest;
+import com.leucine.academiaportal.dto.TokenRefreshRequest;
+import com.leucine.academiaportal.dto.TokenResponse;
+import com.leucine.academiaportal.dto.UserDTO;
+import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
 import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
+import com.leucine.academiaportal.service.LoginActivityService;
+import com.leucine.academiaportal.service.RegistrationService;
+import com.leucine.academiaportal.service.TokenService;
+import com.leucine.academiaportal.service.UserAvailabilityService;
 import com.leucine.academiaportal.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -9,9 +31,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Controller for handling authentication-related requests.
- * This controller manages user login and registration operations.
+ * This controller manages user login, token refresh, logout, registration, onboarding with a profile
+ * and availability checks.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -21,18 +46,75 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private JwtCodec jwtCodec;
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+
     /**
      * Handles user login requests.
-     * This endpoint returns the authentication details of the currently authenticated user.
+     * This endpoint returns the access token issued for the currently authenticated user, with its
+     * lifetime and the user's ID and role. The tokens are also returned in the response headers.
+     * The login is recorded for the user's login activity; requests authenticated with HTTP Basic
+     * credentials on other endpoints are not logins and are not recorded.
      *
      * @param auth the authentication object containing user details
-     * @return a ResponseEntity containing the authentication details and HTTP status ACCEPTED
+     * @param response the HTTP response, holding the access token issued by the token generator filter
+     * @return a ResponseEntity containing the login response and HTTP status ACCEPTED
      */
     @GetMapping("/login")
-    public ResponseEntity<Authentication> login(Authentication auth) {
+    public ResponseEntity<LoginResponse> login(Authentication auth, HttpServletResponse response) {
         log.info("User logged in: {}", auth.getName());
-        // Return authentication details of the currently logged-in user
-        return new ResponseEntity<>(auth, HttpStatus.ACCEPTED);
+        loginActivityService.recordLogin(auth.getName());
+        AuthenticatedUser user = auth.getPrincipal() instanceof AuthenticatedUser principal ? principal : null;
+        LoginResponse loginResponse = new LoginResponse(response.getHeader(SecurityConstants.JWT_HEADER),
+                TimeUnit.MILLISECONDS.toSeconds(jwtCodec.getExpirationMillis()),
+                user == null ? null : user.getUserId(),
+                user == null ? null : user.getRole());
+        // Return the token and the logged-in user's ID and role
+        return new ResponseEntity<>(loginResponse, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Handles token refresh requests.
+     * This endpoint exchanges the refresh token issued at login for a new access token,
+     * without requiring the user's credentials again.
+     *
+     * @param request the request containing the refresh token
+     * @return a ResponseEntity containing the new access token and HTTP status OK
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody TokenRefreshRequest request) {
+        TokenResponse tokenResponse = tokenService.refresh(request.refreshToken());
+        // Return the new access token with HTTP status OK
+        return new ResponseEntity<>(tokenResponse, HttpStatus.OK);
+    }
+
+    /**
+     * Handles logout requests.
+     * This endpoint revokes the access token the request was authenticated with and, if given,
+     * the refresh token, so neither can be used again.
+     *
+     * @param authorization the Authorization header of the request, holding the access token as issued or with a {@code Bearer } prefix
+     * @param request the optional request containing the refresh token
+     * @return a ResponseEntity with HTTP status NO_CONTENT
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(SecurityConstants.JWT_HEADER) String authorization,
+                                       @RequestBody(required = false) LogoutRequest request) {
+        tokenService.logout(JwtCodec.tokenFromHeader(authorization), request == null ? null : request.refreshToken());
+        // Return HTTP status NO_CONTENT once the tokens are revoked
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
     /**
@@ -40,15 +122,77 @@ public class AuthController {
      * This endpoint registers a new user and saves their details to the database.
      *
      * @param user the User object containing the details of the user to register
-     * @return a ResponseEntity containing the registered user and HTTP status CREATED
+     * @return a ResponseEntity containing the registered user, without the password, and HTTP status CREATED
      */
     @PostMapping("/register")
-    public ResponseEntity<User> register(@RequestBody User user) {
+    public ResponseEntity<UserDTO> register(@RequestBody User user) {
         log.info("Registering new user: {}", user.getUsername());
         User registeredUser = userService.saveUser(user);
         // Log the registration success
         log.info("User registered successfully with ID: {}", registeredUser.getId());
         // Return the registered user with HTTP status CREATED
-        return new ResponseEntity<>(registeredUser, HttpStatus.CREATED);
+        return new ResponseEntity<>(DtoMapper.toDto(registeredUser), HttpStatus.CREATED);
+    }
+
+    /**
+     * Registers a student together with their student profile, in one transaction.
+     * Replaces registering the user and creating the profile in two requests.
+     *
+     * @param studentProfile the student profile, holding the new user and optionally a department reference by ID
+     * @return a ResponseEntity containing the saved student profile and HTTP status CREATED
+     * @throws AcademiaPortalException if the user details are invalid or taken, or the department does not exist
+     */
+    @PostMapping("/register/student")
+    public ResponseEntity<StudentProfileDTO> registerStudent(@RequestBody StudentProfile studentProfile) {
+        StudentProfile savedProfile = registrationService.registerStudent(studentProfile);
+        return new ResponseEntity<>(DtoMapper.toDto(savedProfile), HttpStatus.CREATED);
+    }
+
+    /**
+     * Registers a faculty member together with their faculty profile, in one transaction.
+     * Replaces registering the user and creating the profile in two requests.
+     *
+     * @param facultyProfile the faculty profile, holding the new user and optionally a department reference by ID
+     * @return a ResponseEntity containing the saved faculty profile and HTTP status CREATED
+     * @throws AcademiaPortalException if the user details are invalid or taken, or the department does not exist
+     */
+    @PostMapping("/register/faculty")
+    public ResponseEntity<FacultyProfileDTO> registerFaculty(@RequestBody FacultyProfile facultyProfile) {
+        FacultyProfile savedProfile = registrationService.registerFaculty(facultyProfile);
+        return new ResponseEntity<>(DtoMapper.toDto(savedProfile), HttpStatus.CREATED);
+    }
+
+    /**
+     * Registers an administrator together with their administrator profile, in one transaction.
+     * Only administrators may onboard other administrators.
+     *
+     * @param administratorProfile the administrator profile, holding the new user and a department reference by ID
+     * @return a ResponseEntity containing the saved administrator profile and HTTP status CREATED
+     * @throws AcademiaPortalException if the user details are invalid or taken, or the department is missing or does not exist
+     */
+    @PostMapping("/register/administrator")
+    public ResponseEntity<AdministratorProfileDTO> registerAdministrator(@RequestBody AdministratorProfile administratorProfile) {
+        AdministratorProfile savedProfile = registrationService.registerAdministrator(administratorProfile);
+        return new ResponseEntity<>(DtoMapper.toDto(savedProfile), HttpStatus.CREATED);
+    }
+
+    /**
+     * Checks whether a username and/or email can still be registered, e.g. while a sign-up form is being filled in.
+     * Most answers come from memory without touching the database.
+     *
+     * @param username the username to check, optional
+     * @param email the email to check, optional
+     * @return a ResponseEntity containing the availability of the given values and HTTP status OK
+     * @throws AcademiaPortalException if neither a username nor an email is given, or one of them is blank
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(@RequestParam(required = false) String username,
+                                                             @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            throw new AcademiaPortalException("A username or email is required");
+        }
+        Boolean usernameAvailable = username == null ? null : userAvailabilityService.isUsernameAvailable(username);
+        Boolean emailAvailable = email == null ? null : userAvailabilityService.isEmailAvailable(email);
+        return new ResponseEntity<>(new AvailabilityResponse(usernameAvailable, emailAvailable), HttpStatus.OK);
     }
 }
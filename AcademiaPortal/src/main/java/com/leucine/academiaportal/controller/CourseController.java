@@ -0,0 +1,125 @@
+package com.leucine.academiaportal.controller;
+
+import com.leucine.academiaportal.dto.CourseDTO;
+import com.leucine.academiaportal.dto.CoursePage;
+import com.leucine.academiaportal.dto.CourseSearchHit;
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
+import com.leucine.academiaportal.service.CourseSearchService;
+import com.leucine.academiaportal.service.CourseService;
+import com.leucine.academiaportal.service.EntityVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Controller for the course catalog.
+ * This controller provides endpoints for creating courses, paging through and searching the catalog,
+ * and retrieving single courses.
+ */
+@RestController
+@RequestMapping("/api/courses")
+@Slf4j
+public class CourseController {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseSearchService courseSearchService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    /**
+     * Creates a new course.
+     *
+     * @param course the Course object containing the course details
+     * @return a ResponseEntity containing the saved course and HTTP status CREATED
+     */
+    @PostMapping
+    public ResponseEntity<CourseDTO> createCourse(@RequestBody Course course) {
+        log.info("Creating course: {}", course.getTitle());
+        Course savedCourse = courseService.saveCourse(course);
+        log.info("Course created with ID: {}", savedCourse.getId());
+        return new ResponseEntity<>(DtoMapper.toDto(savedCourse), HttpStatus.CREATED);
+    }
+
+    /**
+     * Retrieves a page of the course catalog, ordered by department and ID.
+     * Clients follow the returned cursor until it is {@code null}; an empty catalog is an empty page.
+     * The page is only loaded if the catalog has changed since the client's copy, identified by its ETag.
+     *
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @param size the number of courses per page, omitted for the configured default
+     * @param webRequest the request, to check its {@code If-None-Match} header
+     * @return a ResponseEntity containing the page of courses, its ETag and HTTP status OK,
+     *         or {@code null} with HTTP status NOT_MODIFIED if the client's copy is current
+     * @throws AcademiaPortalException if the cursor is malformed or the page size out of range
+     */
+    @GetMapping
+    public ResponseEntity<CoursePage> getCourses(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size,
+                                                 WebRequest webRequest) {
+        String etag = entityVersionService.getCatalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        CoursePage page = courseService.getCourses(cursor, size);
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+
+    /**
+     * Retrieves a course by its ID.
+     * The course is only loaded if the catalog has changed since the client's copy, identified by its ETag.
+     *
+     * @param id the ID of the course to retrieve
+     * @param webRequest the request, to check its {@code If-None-Match} header
+     * @return a ResponseEntity containing the course, its ETag and HTTP status OK,
+     *         or {@code null} with HTTP status NOT_MODIFIED if the client's copy is current
+     * @throws AcademiaPortalException if the course with the specified ID is not found
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CourseDTO> getCourse(@PathVariable Long id, WebRequest webRequest) {
+        String etag = entityVersionService.getCatalogETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        log.info("Fetching course with ID: {}", id);
+        return ResponseEntity.ok().eTag(etag).body(DtoMapper.toDto(courseService.getCourse(id)));
+    }
+
+    /**
+     * Searches the catalog by title, description and department name.
+     *
+     * @param q the words to search for
+     * @param limit the maximum number of courses, omitted for the configured default
+     * @return a ResponseEntity containing the matching courses, most relevant first, and HTTP status OK
+     * @throws AcademiaPortalException if the query is blank or the limit out of range
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<CourseSearchHit>> searchCourses(@RequestParam String q,
+                                                               @RequestParam(required = false) Integer limit) {
+        return new ResponseEntity<>(courseSearchService.search(q, limit), HttpStatus.OK);
+    }
+
+    /**
+     * Completes a partially typed search query from the words of course titles.
+     *
+     * @param prefix the query typed so far
+     * @param limit the maximum number of completions, omitted for the configured default
+     * @return a ResponseEntity containing the completed queries and HTTP status OK
+     * @throws AcademiaPortalException if the prefix is blank or the limit out of range
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggestCourses(@RequestParam String prefix,
+                                                       @RequestParam(required = false) Integer limit) {
+        return new ResponseEntity<>(courseSearchService.suggest(prefix, limit), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,107 @@
+package com.leucine.academiaportal.controller;
+
+import com.leucine.academiaportal.dto.DepartmentDTO;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
+import com.leucine.academiaportal.service.DepartmentService;
+import com.leucine.academiaportal.util.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Controller for managing departments.
+ * This controller provides endpoints for creating, retrieving and listing departments.
+ *
+ * Read responses carry a strong ETag computed from their content and a {@code Cache-Control} max age,
+ * so clients and proxies can reuse them and revalidate with {@code If-None-Match}; a matching
+ * request is answered with 304 Not Modified and no body.
+ */
+@RestController
+@RequestMapping("/api/departments")
+@Slf4j
+public class DepartmentController {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    private final CacheControl cacheControl;
+
+    /**
+     * Creates the controller.
+     *
+     * @param maxAge how long clients and proxies may reuse a department response without revalidating it
+     */
+    public DepartmentController(@Value("${academiaportal.departments.http.max-age:5m}") Duration maxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Creates a new department.
+     *
+     * @param department the Department object containing the department details
+     * @return a ResponseEntity containing the saved department and HTTP status CREATED
+     */
+    @PostMapping
+    public ResponseEntity<DepartmentDTO> createDepartment(@RequestBody Department department) {
+        log.info("Creating department: {}", department.getName());
+        Department savedDepartment = departmentService.saveDepartment(department);
+        log.info("Department created with ID: {}", savedDepartment.getId());
+        return new ResponseEntity<>(DtoMapper.toDto(savedDepartment), HttpStatus.CREATED);
+    }
+
+    /**
+     * Retrieves all departments.
+     *
+     * @return a ResponseEntity containing the departments, their ETag and HTTP status OK,
+     *         or HTTP status NOT_MODIFIED if the client's copy is current
+     * @throws AcademiaPortalException if no departments are found
+     */
+    @GetMapping
+    public ResponseEntity<List<DepartmentDTO>> getAllDepartments() {
+        List<DepartmentDTO> departments = departmentService.getAllDepartments().stream().map(DtoMapper::toDto).toList();
+        return ResponseEntity.ok()
+                .eTag(etag(departments))
+                .cacheControl(cacheControl)
+                .body(departments);
+    }
+
+    /**
+     * Retrieves a department by its ID.
+     *
+     * @param id the ID of the department to retrieve
+     * @return a ResponseEntity containing the department, its ETag and HTTP status OK,
+     *         or HTTP status NOT_MODIFIED if the client's copy is current
+     * @throws AcademiaPortalException if the department with the specified ID is not found
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<DepartmentDTO> getDepartment(@PathVariable Long id) {
+        DepartmentDTO department = DtoMapper.toDto(departmentService.getDepartment(id));
+        return ResponseEntity.ok()
+                .eTag(etag(List.of(department)))
+                .cacheControl(cacheControl)
+                .body(department);
+    }
+
+    /**
+     * Computes a strong ETag from every field of the given departments, so that it changes whenever
+     * the response body does and is the same on every instance.
+     */
+    private static String etag(List<DepartmentDTO> departments) {
+        StringBuilder content = new StringBuilder();
+        for (DepartmentDTO department : departments) {
+            content.append(department.id()).append('\u0000')
+                    .append(department.name()).append('\u0000')
+                    .append(department.description()).append('\u0001');
+        }
+        return '"' + Long.toHexString(Hashing.hash64(content)) + '"';
+    }
+}
@@ -1,13 +1,17 @@
 package com.leucine.academiaportal.controller;
 
+import com.leucine.academiaportal.dto.FacultyProfileDTO;
 import com.leucine.academiaportal.entity.FacultyProfile;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
+import com.leucine.academiaportal.service.EntityVersionService;
 import com.leucine.academiaportal.service.FacultyProfileService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Controller for managing faculty profiles.
@@ -21,6 +25,9 @@ public class FacultyController {
     @Autowired
     private FacultyProfileService facultyProfileService;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
      * Creates a new faculty profile.
      * This endpoint saves the provided faculty profile to the database.
@@ -29,26 +36,33 @@ public class FacultyController {
      * @return a ResponseEntity containing the saved faculty profile and HTTP status CREATED
      */
     @PostMapping("/profile")
-    public ResponseEntity<FacultyProfile> createProfile(@RequestBody FacultyProfile facultyProfile) {
+    public ResponseEntity<FacultyProfileDTO> createProfile(@RequestBody FacultyProfile facultyProfile) {
         log.info("Creating faculty profile for: {}", facultyProfile.getUser().getName());
         FacultyProfile savedProfile = facultyProfileService.saveFacultyProfile(facultyProfile);
         log.info("Faculty profile created with ID: {}", savedProfile.getUserId());
-        return new ResponseEntity<>(savedProfile, HttpStatus.CREATED);
+        return new ResponseEntity<>(DtoMapper.toDto(savedProfile), HttpStatus.CREATED);
     }
 
     /**
      * Retrieves a faculty profile by its ID.
      * This endpoint fetches the profile details of the specified faculty.
+     * The profile is only loaded if the client's copy, identified by its ETag, is out of date.
      *
      * @param id the ID of the faculty profile to retrieve
-     * @return a ResponseEntity containing the retrieved faculty profile and HTTP status OK
+     * @param webRequest the request, to check its {@code If-None-Match} header
+     * @return a ResponseEntity containing the retrieved faculty profile, its ETag and HTTP status OK,
+     *         or {@code null} with HTTP status NOT_MODIFIED if the client's copy is current
      * @throws AcademiaPortalException if the profile with the specified ID is not found
      */
     @GetMapping("/profile/{id}")
-    public ResponseEntity<FacultyProfile> getProfile(@PathVariable Long id) {
+    public ResponseEntity<FacultyProfileDTO> getProfile(@PathVariable Long id, WebRequest webRequest) {
+        String etag = entityVersionService.getUserETag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         log.info("Fetching faculty profile with ID: {}", id);
         FacultyProfile profile = facultyProfileService.getFacultyProfile(id);
         log.info("Faculty profile retrieved with ID: {}", id);
-        return new ResponseEntity<>(profile, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(DtoMapper.toDto(profile));
     }
 }
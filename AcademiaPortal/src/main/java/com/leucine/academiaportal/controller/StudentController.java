@@ -1,13 +1,17 @@
 package com.leucine.academiaportal.controller;
 
+import com.leucine.academiaportal.dto.StudentProfileDTO;
 import com.leucine.academiaportal.entity.StudentProfile;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
+import com.leucine.academiaportal.service.EntityVersionService;
 import com.leucine.academiaportal.service.StudentProfileService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Optional;
 
@@ -23,6 +27,9 @@ public class StudentController {
     @Autowired
     private StudentProfileService studentProfileService;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
      * Creates a new student profile.
      * This endpoint saves the provided student profile to the database.
@@ -31,26 +38,33 @@ public class StudentController {
      * @return a ResponseEntity containing the saved student profile and HTTP status CREATED
      */
     @PostMapping("/profile")
-    public ResponseEntity<StudentProfile> createProfile(@RequestBody StudentProfile studentProfile) {
+    public ResponseEntity<StudentProfileDTO> createProfile(@RequestBody StudentProfile studentProfile) {
         log.info("Creating student profile for: {}", studentProfile.getUser().getName());
         StudentProfile savedProfile = studentProfileService.saveStudentProfile(studentProfile);
         log.info("Student profile created with ID: {}", savedProfile.getUserId());
-        return new ResponseEntity<>(savedProfile, HttpStatus.CREATED);
+        return new ResponseEntity<>(DtoMapper.toDto(savedProfile), HttpStatus.CREATED);
     }
 
     /**
      * Retrieves a student profile by its ID.
      * This endpoint fetches the profile details of the specified student.
+     * The profile is only loaded if the client's copy, identified by its ETag, is out of date.
      *
      * @param id the ID of the student profile to retrieve
-     * @return a ResponseEntity containing the retrieved student profile and HTTP status OK
+     * @param webRequest the request, to check its {@code If-None-Match} header
+     * @return a ResponseEntity containing the retrieved student profile, its ETag and HTTP status OK,
+     *         or {@code null} with HTTP status NOT_MODIFIED if the client's copy is current
      * @throws AcademiaPortalException if the profile with the specified ID is not found
      */
     @GetMapping("/profile/{id}")
-    public ResponseEntity<StudentProfile> getProfile(@PathVariable Long id) {
+    public ResponseEntity<StudentProfileDTO> getProfile(@PathVariable Long id, WebRequest webRequest) {
+        String etag = entityVersionService.getUserETag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         log.info("Fetching student profile with ID: {}", id);
         Optional<StudentProfile> profile = studentProfileService.getStudentProfile(id);
         log.info("Student profile retrieved with ID: {}", id);
-        return new ResponseEntity<>(profile.get(), HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(DtoMapper.toDto(profile.get()));
     }
 }
@@ -0,0 +1,16 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Response representation of an administrator profile.
+ *
+ * @param userId     the ID of the administrator, shared with the user
+ * @param user       the administrator's user
+ * @param photo      the URL or path of the photo, or {@code null}
+ * @param department the department
+ */
+public record AdministratorProfileDTO(
+        Long userId,
+        UserDTO user,
+        String photo,
+        DepartmentDTO department
+) {}
@@ -0,0 +1,16 @@
+package com.leucine.academiaportal.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Response body of the username/email availability endpoint.
+ * Only the values that were asked for are included.
+ *
+ * @param usernameAvailable whether the username can still be registered
+ * @param emailAvailable    whether the email can still be registered
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityResponse(
+        Boolean usernameAvailable,
+        Boolean emailAvailable
+) {}
@@ -0,0 +1,20 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Response representation of a course.
+ *
+ * @param id          the course's ID
+ * @param title       the title
+ * @param description the description, or {@code null}
+ * @param department  the department offering the course, or {@code null}
+ * @param facultyId   the ID of the faculty member teaching the course, or {@code null}
+ * @param facultyName the name of the faculty member teaching the course, or {@code null}
+ */
+public record CourseDTO(
+        Long id,
+        String title,
+        String description,
+        DepartmentDTO department,
+        Long facultyId,
+        String facultyName
+) {}
@@ -0,0 +1,22 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * A course in a catalog export, written as one CSV row or NDJSON line.
+ *
+ * @param id             the course's ID
+ * @param title          the title
+ * @param description    the description, or {@code null}
+ * @param departmentId   the ID of the department offering the course, or {@code null}
+ * @param departmentName the name of the department offering the course, or {@code null}
+ * @param facultyId      the ID of the faculty member teaching the course, or {@code null}
+ * @param facultyName    the name of the faculty member teaching the course, or {@code null}
+ */
+public record CourseExportRow(
+        Long id,
+        String title,
+        String description,
+        Long departmentId,
+        String departmentName,
+        Long facultyId,
+        String facultyName
+) {}
@@ -0,0 +1,14 @@
+package com.leucine.academiaportal.dto;
+
+import java.util.List;
+
+/**
+ * One page of the course catalog.
+ *
+ * @param courses    the courses of this page, ordered by department and ID; empty if the catalog has no more courses
+ * @param nextCursor the cursor to pass for the next page, or {@code null} if this is the last page
+ */
+public record CoursePage(
+        List<CourseDTO> courses,
+        String nextCursor
+) {}
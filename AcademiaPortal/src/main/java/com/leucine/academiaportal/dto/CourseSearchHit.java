@@ -0,0 +1,16 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * A course matching a search query.
+ *
+ * @param id         the course's ID
+ * @param title      the title
+ * @param department the name of the department offering the course, or {@code null}
+ * @param score      the relevance of the course to the query, higher is better
+ */
+public record CourseSearchHit(
+        Long id,
+        String title,
+        String department,
+        float score
+) {}
@@ -0,0 +1,14 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Response representation of a department.
+ *
+ * @param id          the department's ID
+ * @param name        the name
+ * @param description the description, or {@code null}
+ */
+public record DepartmentDTO(
+        Long id,
+        String name,
+        String description
+) {}
@@ -0,0 +1,31 @@
+package com.leucine.academiaportal.dto;
+
+import com.leucine.academiaportal.enums.Role;
+
+/**
+ * A user with their profile in a directory export, written as one CSV row or NDJSON line.
+ * Students, faculty members and administrators share the columns; those that do not apply to a role are {@code null}.
+ *
+ * @param userId         the user's ID
+ * @param username       the username
+ * @param role           the role
+ * @param name           the full name
+ * @param email          the email address
+ * @param phone          the phone number, or {@code null}
+ * @param departmentId   the ID of the department of the profile, or {@code null}
+ * @param departmentName the name of the department of the profile, or {@code null}
+ * @param year           the year of study of a student, or {@code null}
+ * @param officeHours    the office hours of a faculty member, or {@code null}
+ */
+public record DirectoryExportRow(
+        Long userId,
+        String username,
+        Role role,
+        String name,
+        String email,
+        String phone,
+        Long departmentId,
+        String departmentName,
+        String year,
+        String officeHours
+) {}
@@ -0,0 +1,18 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Response representation of a faculty profile.
+ *
+ * @param userId      the ID of the faculty member, shared with the user
+ * @param user        the faculty member's user
+ * @param photo       the URL or path of the photo, or {@code null}
+ * @param department  the department, or {@code null}
+ * @param officeHours the office hours, or {@code null}
+ */
+public record FacultyProfileDTO(
+        Long userId,
+        UserDTO user,
+        String photo,
+        DepartmentDTO department,
+        String officeHours
+) {}
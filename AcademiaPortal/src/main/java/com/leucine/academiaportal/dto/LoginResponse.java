@@ -0,0 +1,56 @@
+package com.leucine.academiaportal.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.leucine.academiaportal.enums.Role;
+
+import java.io.IOException;
+
+/**
+ * Response body of the login endpoint.
+ *
+ * Writes itself field by field through {@link JsonSerializable}, so Jackson neither introspects
+ * the record nor looks up serializers for its fields; the shape is fixed and the body small.
+ *
+ * @param accessToken the access token, also returned in the Authorization header
+ * @param expiresIn   the number of seconds the access token stays valid
+ * @param userId      the ID of the logged-in user
+ * @param role        the role of the logged-in user
+ */
+public record LoginResponse(
+        String accessToken,
+        long expiresIn,
+        Long userId,
+        Role role
+) implements JsonSerializable {
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeStartObject(this);
+        writeFields(generator);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer)
+            throws IOException {
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator, typeSerializer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(generator);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    private void writeFields(JsonGenerator generator) throws IOException {
+        generator.writeStringField("accessToken", accessToken);
+        generator.writeNumberField("expiresIn", expiresIn);
+        if (userId == null) {
+            generator.writeNullField("userId");
+        } else {
+            generator.writeNumberField("userId", userId);
+        }
+        generator.writeStringField("role", role == null ? null : role.name());
+    }
+}
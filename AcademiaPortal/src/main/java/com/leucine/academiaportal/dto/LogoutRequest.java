@@ -0,0 +1,10 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Optional request body of the logout endpoint.
+ *
+ * @param refreshToken the refresh token issued at login, revoked together with the access token
+ */
+public record LogoutRequest(
+        String refreshToken
+) {}
@@ -0,0 +1,18 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Response representation of a student profile.
+ *
+ * @param userId     the ID of the student, shared with the user
+ * @param user       the student's user
+ * @param photo      the URL or path of the photo, or {@code null}
+ * @param department the department, or {@code null}
+ * @param year       the academic year, or {@code null}
+ */
+public record StudentProfileDTO(
+        Long userId,
+        UserDTO user,
+        String photo,
+        DepartmentDTO department,
+        String year
+) {}
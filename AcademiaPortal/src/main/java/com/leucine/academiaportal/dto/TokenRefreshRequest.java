@@ -0,0 +1,10 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Request body of the token refresh endpoint.
+ *
+ * @param refreshToken the refresh token issued at login
+ */
+public record TokenRefreshRequest(
+        String refreshToken
+) {}
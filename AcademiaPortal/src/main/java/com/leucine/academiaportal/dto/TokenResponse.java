@@ -0,0 +1,14 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * Response body of the token refresh endpoint.
+ *
+ * @param accessToken  the new, short-lived access token
+ * @param refreshToken the refresh token to use for the next refresh
+ * @param expiresIn    the number of seconds the access token stays valid
+ */
+public record TokenResponse(
+        String accessToken,
+        String refreshToken,
+        long expiresIn
+) {}
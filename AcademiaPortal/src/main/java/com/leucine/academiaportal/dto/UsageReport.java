@@ -0,0 +1,44 @@
+package com.leucine.academiaportal.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of the application's usage, as published by the {@code usage} actuator endpoint.
+ *
+ * @param activeUsers distinct active users per role, estimated
+ * @param requests    the number of requests per endpoint, HTTP method and role since startup
+ */
+public record UsageReport(
+        Map<String, ActiveUsers> activeUsers,
+        List<EndpointUsage> requests
+) {
+
+    /**
+     * Estimated distinct active users of one role.
+     *
+     * @param daily          distinct users active today (UTC)
+     * @param monthly        distinct users active in the last 30 days, including today
+     * @param standardError  the standard error of the estimates, relative to the true counts
+     */
+    public record ActiveUsers(
+            long daily,
+            long monthly,
+            double standardError
+    ) {}
+
+    /**
+     * The number of requests to one endpoint.
+     *
+     * @param endpoint the endpoint's path pattern, e.g. {@code /api/student/profile/{id}}
+     * @param method   the HTTP method
+     * @param role     the role of the caller, or {@code ANONYMOUS}
+     * @param count    the number of requests
+     */
+    public record EndpointUsage(
+            String endpoint,
+            String method,
+            String role,
+            long count
+    ) {}
+}
@@ -1,4 +1,29 @@
 package com.leucine.academiaportal.dto;
 
-public class UserDTO {
-}
+import com.leucine.academiaportal.enums.Role;
+
+import java.time.Instant;
+
+/**
+ * Response representation of a user.
+ * Never carries the password hash or the internal lookup keys.
+ *
+ * @param id          the user's ID
+ * @param username    the username
+ * @param role        the role
+ * @param name        the full name
+ * @param email       the email address
+ * @param phone       the phone number, or {@code null}
+ * @param lastLoginAt the time of the most recent login, or {@code null} if the user never logged in
+ * @param loginCount  the number of logins, or {@code null} if the user never logged in
+ */
+public record UserDTO(
+        Long id,
+        String username,
+        Role role,
+        String name,
+        String email,
+        String phone,
+        Instant lastLoginAt,
+        Long loginCount
+) {}
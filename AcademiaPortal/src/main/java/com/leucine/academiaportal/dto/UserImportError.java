@@ -0,0 +1,12 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * A row of a bulk import that could not be imported.
+ *
+ * @param line    the line number in the uploaded file, starting at 1
+ * @param message why the row was rejected
+ */
+public record UserImportError(
+        long line,
+        String message
+) {}
@@ -0,0 +1,21 @@
+package com.leucine.academiaportal.dto;
+
+import java.util.List;
+
+/**
+ * The result of a bulk user import.
+ * To keep the response bounded for any file size, only the first errors are listed individually.
+ *
+ * @param processed       the number of rows read
+ * @param imported        the number of users created
+ * @param failed          the number of rows rejected
+ * @param errors          the rejected rows, at most the configured number
+ * @param errorsTruncated whether more rows were rejected than are listed in {@code errors}
+ */
+public record UserImportReport(
+        long processed,
+        long imported,
+        long failed,
+        List<UserImportError> errors,
+        boolean errorsTruncated
+) {}
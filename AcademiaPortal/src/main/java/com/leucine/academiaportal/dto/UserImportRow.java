@@ -0,0 +1,29 @@
+package com.leucine.academiaportal.dto;
+
+/**
+ * A single user in a bulk import, read from one CSV row or NDJSON line.
+ * Students and faculty members are imported together with their profile.
+ *
+ * @param username     the username; required and unique
+ * @param password     the plain-text initial password; required, hashed before it is stored
+ * @param role         {@code STUDENT} or {@code FACULTY_MEMBER}
+ * @param name         the full name; required
+ * @param email        the email address; required and unique
+ * @param phone        the phone number; optional
+ * @param departmentId the ID of the department of the profile; required
+ * @param year         the year of study of a student; optional
+ * @param officeHours  the office hours of a faculty member; optional
+ * @param photo        the photo of the profile; optional
+ */
+public record UserImportRow(
+        String username,
+        String password,
+        String role,
+        String name,
+        String email,
+        String phone,
+        Long departmentId,
+        String year,
+        String officeHours,
+        String photo
+) {}
@@ -19,10 +19,9 @@ public class AdministratorProfile {
 
     /**
      * Primary key for the AdministratorProfile entity.
-     * Automatically generated by the database.
+     * Shared with the associated user and corresponds to the 'user_id' column.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long userId;
 
     /**
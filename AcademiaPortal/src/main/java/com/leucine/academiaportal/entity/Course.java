@@ -9,8 +9,10 @@ import lombok.NoArgsConstructor;
 /**
  * Entity class representing a course in the system.
  * This entity is mapped to the 'course' table in the database.
+ * Indexed on department and ID, the order in which the catalog is paged.
  */
 @Entity
+@Table(indexes = @Index(name = "idx_course_department_id_id", columnList = "department_id, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,10 +20,11 @@ public class Course {
 
     /**
      * Primary key for the Course entity.
-     * Automatically generated by the database.
+     * Allocated from the 'course_seq' sequence in blocks of 50, so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     private Long id;
 
     /**
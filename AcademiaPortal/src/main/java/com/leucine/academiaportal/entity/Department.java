@@ -18,10 +18,11 @@ public class Department {
 
     /**
      * Primary key for the Department entity.
-     * Automatically generated by the database.
+     * Allocated from the 'department_seq' sequence in blocks of 50, so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_seq")
+    @SequenceGenerator(name = "department_seq", sequenceName = "department_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -17,10 +17,11 @@ public class Enrollment {
 
     /**
      * Primary key for the Enrollment entity.
-     * Automatically generated by the database.
+     * Allocated from the 'enrollment_seq' sequence in blocks of 50, so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,59 @@
+package com.leucine.academiaportal.entity;
+
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+
+/**
+ * Entity class representing the current version of an aggregate.
+ * This entity is mapped to the 'entity_version' table in the database.
+ * Versions only ever increase; an aggregate without a row is at version 0. Rows are written with
+ * atomic increments, or inserted by the first bump, by {@link com.leucine.academiaportal.service.EntityVersionServiceImpl}.
+ */
+@Entity
+@IdClass(EntityVersion.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityVersion {
+
+    /**
+     * The kind of aggregate. Stored as a plain string, so new kinds need no schema change.
+     */
+    @Id
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
+    private VersionedAggregate aggregate;
+
+    /**
+     * The ID of the aggregate.
+     */
+    @Id
+    private Long aggregateId;
+
+    /**
+     * The number of saved changes to the aggregate.
+     */
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * Primary key of an {@link EntityVersion}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private VersionedAggregate aggregate;
+
+        private Long aggregateId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.leucine.academiaportal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a revoked JWT token.
+ * This entity is mapped to the 'revoked_token' table in the database.
+ * Only the token ID ({@code jti}) is stored, never the token itself.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    /**
+     * The ID ({@code jti} claim) of the revoked token.
+     */
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    /**
+     * The expiry of the revoked token.
+     * Once it has passed, the token is rejected anyway and the entry can be pruned.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * When the token was revoked.
+     */
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -17,10 +17,9 @@ public class StudentProfile {
 
     /**
      * Primary key for the StudentProfile entity.
-     * Automatically generated by the database and corresponds to the 'user_id' column.
+     * Shared with the associated user and corresponds to the 'user_id' column.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long userId;
 
     /**
@@ -1,5 +1,7 @@
 package com.leucine.academiaportal.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.leucine.academiaportal.enums.Role;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
@@ -10,11 +12,21 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+import java.util.Locale;
+
 /**
  * Entity class representing a user in the system.
  * This entity is mapped to the 'user' table in the database.
+ *
+ * Logins are looked up by case-normalized copies of the username and email, each backed by its
+ * own unique index, so a lookup is a single index seek regardless of the letter case the user typed.
  */
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_username_key", columnNames = "username_key"),
+        @UniqueConstraint(name = "uk_user_email_key", columnNames = "email_key")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,10 +34,11 @@ public class User {
 
     /**
      * Primary key for the User entity.
-     * Automatically generated by the database.
+     * Allocated from the 'user_seq' sequence in blocks of 50, so that inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -38,9 +51,10 @@ public class User {
 
     /**
      * Password of the user.
-     * This field is required.
+     * This field is required. Accepted in request bodies but never serialized.
      */
     @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @NotBlank(message = "Password cannot be blank")
     private String password;
 
@@ -77,4 +91,55 @@ public class User {
     @Size(max = 15, message = "Phone number must be less than 15 characters")
     private String phone;
 
+    /**
+     * Normalized (trimmed, lower-case) username, used for login lookups and uniqueness checks.
+     * Maintained automatically from {@link #username}; nullable only so that existing rows can be backfilled.
+     */
+    @Column(name = "username_key")
+    @JsonIgnore
+    private String usernameKey;
+
+    /**
+     * Normalized (trimmed, lower-case) email, used for login lookups and uniqueness checks.
+     * Maintained automatically from {@link #email}; nullable only so that existing rows can be backfilled.
+     */
+    @Column(name = "email_key")
+    @JsonIgnore
+    private String emailKey;
+
+    /**
+     * Time of the most recent successful username/password login, or {@code null} if the user never logged in.
+     * Written only by {@link com.leucine.academiaportal.service.LoginActivityService}, in batches.
+     */
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastLoginAt;
+
+    /**
+     * Number of successful username/password logins, or {@code null} if the user never logged in.
+     * Written only by {@link com.leucine.academiaportal.service.LoginActivityService}, in batches.
+     */
+    @Column(name = "login_count", insertable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long loginCount;
+
+    /**
+     * Updates the normalized lookup keys before the user is inserted or updated.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateLookupKeys() {
+        usernameKey = normalizeKey(username);
+        emailKey = normalizeKey(email);
+    }
+
+    /**
+     * Normalizes a username or email for lookups: trimmed and lower-cased.
+     *
+     * @param value the username or email
+     * @return the normalized value, or {@code null} if the value is {@code null}
+     */
+    public static String normalizeKey(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
 }
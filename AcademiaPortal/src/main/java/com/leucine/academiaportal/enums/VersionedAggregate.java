@@ -0,0 +1,19 @@
+package com.leucine.academiaportal.enums;
+
+/**
+ * The aggregates whose representations are versioned for conditional GET requests.
+ * Each saved change to an aggregate bumps its version; see {@link com.leucine.academiaportal.entity.EntityVersion}.
+ */
+public enum VersionedAggregate {
+
+    /**
+     * A user together with their student, faculty or administrator profile, keyed by user ID.
+     */
+    USER,
+
+    /**
+     * The course catalog: all courses and departments, as one aggregate with ID 0.
+     * Course and profile representations embed departments and faculty names, so these share a version.
+     */
+    CATALOG
+}
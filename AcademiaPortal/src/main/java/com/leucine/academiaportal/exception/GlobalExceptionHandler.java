@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -72,4 +73,17 @@ public class GlobalExceptionHandler {
 		log.warn("AcademiaPortalApplication: " + ex.getMessage(), ex);
 		return new ResponseEntity<>(new ErrorDetails(ex.getMessage(), wr.getDescription(false), LocalDateTime.now()), HttpStatus.BAD_REQUEST);
 	}
+
+	/**
+	 * Handles authentication failures raised by controllers, such as an invalid refresh token.
+	 *
+	 * @param ex the authentication exception thrown
+	 * @param wr the web request context
+	 * @return a ResponseEntity with ErrorDetails and HTTP status UNAUTHORIZED
+	 */
+	@ExceptionHandler(AuthenticationException.class)
+	public ResponseEntity<ErrorDetails> authenticationException(AuthenticationException ex, WebRequest wr) {
+		log.warn("AuthenticationException: " + ex.getMessage());
+		return new ResponseEntity<>(new ErrorDetails(ex.getMessage(), wr.getDescription(false), LocalDateTime.now()), HttpStatus.UNAUTHORIZED);
+	}
 }
@@ -0,0 +1,83 @@
+package com.leucine.academiaportal.logging;
+
+import java.time.Instant;
+import java.util.Map;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+/**
+ * Logback layout that writes every log event as a single line of JSON.
+ *
+ * Each line carries the timestamp, level, thread, logger, formatted message and, when present,
+ * the request ID set by {@link RequestIdFilter} and the stack trace of the logged exception.
+ * The JSON is written by hand so no serialization library is touched on the logging path.
+ */
+public class JsonLayout extends LayoutBase<ILoggingEvent> {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	@Override
+	public String doLayout(ILoggingEvent event) {
+		StringBuilder json = new StringBuilder(256);
+		json.append("{\"@timestamp\":\"").append(Instant.ofEpochMilli(event.getTimeStamp())).append('"');
+		json.append(",\"level\":\"").append(event.getLevel()).append('"');
+		appendField(json, "thread", event.getThreadName());
+		appendField(json, "logger", event.getLoggerName());
+		appendField(json, "message", event.getFormattedMessage());
+
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		String requestId = mdc == null ? null : mdc.get(RequestIdFilter.MDC_KEY);
+		if (requestId != null) {
+			appendField(json, RequestIdFilter.MDC_KEY, requestId);
+		}
+
+		IThrowableProxy throwableProxy = event.getThrowableProxy();
+		if (throwableProxy != null) {
+			appendField(json, "exception", ThrowableProxyUtil.asString(throwableProxy));
+		}
+		return json.append('}').append(CoreConstants.LINE_SEPARATOR).toString();
+	}
+
+	@Override
+	public String getContentType() {
+		return "application/json";
+	}
+
+	private static void appendField(StringBuilder json, String name, String value) {
+		json.append(",\"").append(name).append("\":");
+		if (value == null) {
+			json.append("null");
+			return;
+		}
+		json.append('"');
+		appendEscaped(json, value);
+		json.append('"');
+	}
+
+	/**
+	 * Appends a string with the characters JSON requires to be escaped.
+	 */
+	static void appendEscaped(StringBuilder json, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\n' -> json.append("\\n");
+				case '\r' -> json.append("\\r");
+				case '\t' -> json.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+					} else {
+						json.append(c);
+					}
+				}
+			}
+		}
+	}
+}
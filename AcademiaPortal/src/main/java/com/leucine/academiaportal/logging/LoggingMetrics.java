@@ -0,0 +1,61 @@
+package com.leucine.academiaportal.logging;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes metrics of the logging setup configured in {@code logback-spring.xml}.
+ *
+ * <ul>
+ *     <li>{@code logging.sampled.dropped}: messages dropped by each {@link SamplingTurboFilter} rule, tagged with its logger prefix</li>
+ *     <li>{@code logging.async.queue.size} and {@code logging.async.queue.remaining}: the fill level of each {@link AsyncAppender}</li>
+ * </ul>
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+			return;
+		}
+
+		for (TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+			if (turboFilter instanceof SamplingTurboFilter samplingTurboFilter) {
+				samplingTurboFilter.getDroppedCounts().forEach((prefix, dropped) ->
+						FunctionCounter.builder("logging.sampled.dropped", dropped, LongAdder::sum)
+								.description("Log messages dropped by sampling")
+								.tag("logger", prefix)
+								.register(registry));
+			}
+		}
+
+		Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		for (Iterator<Appender<ILoggingEvent>> it = rootLogger.iteratorForAppenders(); it.hasNext(); ) {
+			if (it.next() instanceof AsyncAppender asyncAppender) {
+				Gauge.builder("logging.async.queue.size", asyncAppender, AsyncAppender::getNumberOfElementsInQueue)
+						.description("Log events waiting to be written")
+						.tag("appender", asyncAppender.getName())
+						.register(registry);
+				Gauge.builder("logging.async.queue.remaining", asyncAppender, AsyncAppender::getRemainingCapacity)
+						.description("Free slots in the asynchronous logging queue")
+						.tag("appender", asyncAppender.getName())
+						.register(registry);
+			}
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.leucine.academiaportal.logging;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that assigns every request a request ID.
+ *
+ * The ID is taken from the {@value #REQUEST_ID_HEADER} request header when the caller, e.g. a
+ * gateway, already assigned one, and generated otherwise. It is put into the logging MDC under
+ * {@value #MDC_KEY}, so every log line written while handling the request carries it, and
+ * returned in the {@value #REQUEST_ID_HEADER} response header.
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+	/**
+	 * The request and response header carrying the request ID.
+	 */
+	public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+	/**
+	 * The MDC key under which the request ID is stored.
+	 */
+	public static final String MDC_KEY = "requestId";
+
+	/**
+	 * Request IDs accepted from callers; anything else is replaced to keep the logs clean.
+	 */
+	private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String requestId = request.getHeader(REQUEST_ID_HEADER);
+		if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+			requestId = generateRequestId();
+		}
+
+		MDC.put(MDC_KEY, requestId);
+		response.setHeader(REQUEST_ID_HEADER, requestId);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+		}
+	}
+
+	/**
+	 * Generates a random 16-digit hexadecimal request ID.
+	 * Request IDs only need to be unique enough to correlate log lines, so no secure random is needed.
+	 */
+	private static String generateRequestId() {
+		String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		return "0".repeat(16 - hex.length()) + hex;
+	}
+}
@@ -0,0 +1,124 @@
+package com.leucine.academiaportal.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback turbo filter that samples high-volume log messages per category.
+ *
+ * Each sampling rule maps a logger name prefix to the fraction of messages to keep, e.g.
+ * {@code com.leucine.academiaportal.config.JwtTokenValidatorFilter=0.01} keeps about 1% of the
+ * messages of that logger. The most specific prefix wins. Only messages below {@code WARN} are
+ * sampled; warnings and errors are always written. Messages dropped by a rule are counted per rule
+ * and published by {@link LoggingMetrics}.
+ *
+ * Rules are configured in {@code logback-spring.xml}, one {@code <sample>} element per rule.
+ * Since turbo filters run before a log event is even created, a dropped message costs a map
+ * lookup and a random number.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	/**
+	 * The rule of loggers without a configured rule: every message is kept.
+	 */
+	private static final Rule UNSAMPLED = new Rule("", 1.0);
+
+	/**
+	 * The configured rules keyed by logger name prefix.
+	 */
+	private final Map<String, Rule> rules = new LinkedHashMap<>();
+
+	/**
+	 * The rule resolved for each logger name, so prefix matching is done once per logger.
+	 */
+	private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds a sampling rule. Called by Logback for every {@code <sample>} element.
+	 *
+	 * @param sample the rule, in the form {@code logger.name.prefix=rate} with a rate between 0 and 1
+	 */
+	public void addSample(String sample) {
+		int separator = sample.lastIndexOf('=');
+		if (separator <= 0) {
+			addError("Invalid sampling rule, expected <logger>=<rate>: " + sample);
+			return;
+		}
+		String prefix = sample.substring(0, separator).trim();
+		double rate;
+		try {
+			rate = Double.parseDouble(sample.substring(separator + 1).trim());
+		} catch (NumberFormatException e) {
+			addError("Invalid sampling rate in rule: " + sample);
+			return;
+		}
+		if (rate < 0 || rate > 1) {
+			addError("Sampling rate must be between 0 and 1: " + sample);
+			return;
+		}
+		rules.put(prefix, new Rule(prefix, rate));
+		rulesByLogger.clear();
+	}
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+		// Leave isXxxEnabled() checks, warnings and errors, and disabled levels alone
+		if (format == null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+			return FilterReply.NEUTRAL;
+		}
+
+		Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::resolveRule);
+		if (rule.rate() >= 1.0 || ThreadLocalRandom.current().nextDouble() < rule.rate()) {
+			return FilterReply.NEUTRAL;
+		}
+		rule.dropped().increment();
+		return FilterReply.DENY;
+	}
+
+	/**
+	 * @return the number of dropped messages keyed by the logger name prefix of the rule that dropped them
+	 */
+	public Map<String, LongAdder> getDroppedCounts() {
+		Map<String, LongAdder> droppedCounts = new LinkedHashMap<>();
+		rules.forEach((prefix, rule) -> droppedCounts.put(prefix, rule.dropped()));
+		return Collections.unmodifiableMap(droppedCounts);
+	}
+
+	/**
+	 * Finds the rule with the longest prefix matching the given logger name.
+	 * Prefixes match whole name segments only, so {@code com.example.Foo} does not match {@code com.example.FooBar}.
+	 */
+	private Rule resolveRule(String loggerName) {
+		Rule best = UNSAMPLED;
+		for (Rule rule : rules.values()) {
+			String prefix = rule.prefix();
+			boolean matches = loggerName.equals(prefix)
+					|| (loggerName.startsWith(prefix) && loggerName.charAt(prefix.length()) == '.');
+			if (matches && prefix.length() > best.prefix().length()) {
+				best = rule;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * A sampling rule and the number of messages it dropped.
+	 */
+	private record Rule(String prefix, double rate, LongAdder dropped) {
+
+		Rule(String prefix, double rate) {
+			this(prefix, rate, new LongAdder());
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.leucine.academiaportal.mapper;
+
+import com.leucine.academiaportal.dto.AdministratorProfileDTO;
+import com.leucine.academiaportal.dto.CourseDTO;
+import com.leucine.academiaportal.dto.DepartmentDTO;
+import com.leucine.academiaportal.dto.FacultyProfileDTO;
+import com.leucine.academiaportal.dto.StudentProfileDTO;
+import com.leucine.academiaportal.dto.UserDTO;
+import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.entity.User;
+
+/**
+ * Maps entities to the DTOs returned by the controllers.
+ *
+ * Written by hand with plain getter calls: no reflection at runtime, and the compiler checks every
+ * field. Only the fields of the DTO are read, so Jackson never walks an entity graph and never
+ * triggers a lazy load, and secrets such as the password hash cannot leak into a response.
+ * Every method returns {@code null} for a {@code null} entity.
+ */
+public final class DtoMapper {
+
+    private DtoMapper() {
+    }
+
+    /**
+     * Maps a user, without the password hash.
+     *
+     * @param user the user
+     * @return the user DTO
+     */
+    public static UserDTO toDto(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new UserDTO(user.getId(), user.getUsername(), user.getRole(), user.getName(), user.getEmail(),
+                user.getPhone(), user.getLastLoginAt(), user.getLoginCount());
+    }
+
+    /**
+     * Maps a department.
+     *
+     * @param department the department
+     * @return the department DTO
+     */
+    public static DepartmentDTO toDto(Department department) {
+        if (department == null) {
+            return null;
+        }
+        return new DepartmentDTO(department.getId(), department.getName(), department.getDescription());
+    }
+
+    /**
+     * Maps a student profile with its user and department.
+     *
+     * @param profile the student profile
+     * @return the student profile DTO
+     */
+    public static StudentProfileDTO toDto(StudentProfile profile) {
+        if (profile == null) {
+            return null;
+        }
+        return new StudentProfileDTO(profile.getUserId(), toDto(profile.getUser()), profile.getPhoto(),
+                toDto(profile.getDepartment()), profile.getYear());
+    }
+
+    /**
+     * Maps a faculty profile with its user and department.
+     *
+     * @param profile the faculty profile
+     * @return the faculty profile DTO
+     */
+    public static FacultyProfileDTO toDto(FacultyProfile profile) {
+        if (profile == null) {
+            return null;
+        }
+        return new FacultyProfileDTO(profile.getUserId(), toDto(profile.getUser()), profile.getPhoto(),
+                toDto(profile.getDepartment()), profile.getOfficeHours());
+    }
+
+    /**
+     * Maps an administrator profile with its user and department.
+     *
+     * @param profile the administrator profile
+     * @return the administrator profile DTO
+     */
+    public static AdministratorProfileDTO toDto(AdministratorProfile profile) {
+        if (profile == null) {
+            return null;
+        }
+        return new AdministratorProfileDTO(profile.getUserId(), toDto(profile.getUser()), profile.getPhoto(),
+                toDto(profile.getDepartment()));
+    }
+
+    /**
+     * Maps a course with its department and the ID and name of its faculty member.
+     *
+     * @param course the course
+     * @return the course DTO
+     */
+    public static CourseDTO toDto(Course course) {
+        if (course == null) {
+            return null;
+        }
+        FacultyProfile faculty = course.getFaculty();
+        User facultyUser = faculty == null ? null : faculty.getUser();
+        return new CourseDTO(course.getId(), course.getTitle(), course.getDescription(), toDto(course.getDepartment()),
+                faculty == null ? null : faculty.getUserId(), facultyUser == null ? null : facultyUser.getName());
+    }
+}
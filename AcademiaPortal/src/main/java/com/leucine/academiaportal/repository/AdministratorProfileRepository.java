@@ -1,7 +1,14 @@
 package com.leucine.academiaportal.repository;
 
+import com.leucine.academiaportal.dto.DirectoryExportRow;
 import com.leucine.academiaportal.entity.AdministratorProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link AdministratorProfile} entities.
@@ -11,4 +18,16 @@ public interface AdministratorProfileRepository extends JpaRepository<Administra
 
     // JpaRepository provides basic CRUD operations (save, findById, findAll, deleteById) out of the box.
     // You can add custom query methods if needed here.
+
+    /**
+     * Streams administrators with their user and department for the directory export, ordered by user ID.
+     * Rows are fetched from a database cursor in batches and never loaded as entities.
+     * Must be consumed, and closed, within a transaction.
+     *
+     * @return the directory rows of all administrators
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.leucine.academiaportal.dto.DirectoryExportRow(u.id, u.username, u.role, u.name, u.email, u.phone, "
+            + "d.id, d.name, cast(null as String), cast(null as String)) from AdministratorProfile p join p.user u left join p.department d order by u.id")
+    Stream<DirectoryExportRow> streamDirectoryRows();
 }
@@ -1,14 +1,88 @@
 package com.leucine.academiaportal.repository;
 
+import com.leucine.academiaportal.dto.CourseExportRow;
 import com.leucine.academiaportal.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Course} entities.
  * This interface extends JpaRepository to provide basic CRUD operations and additional query capabilities.
+ *
+ * The catalog is read in keyset pages ordered by department and ID, which the
+ * {@code (department_id, id)} index serves without sorting or skipping rows. Each page is loaded
+ * with its department and faculty member in a single joined query.
  */
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
-    // JpaRepository provides basic CRUD operations (save, findById, findAll, deleteById) out of the box.
-    // You can add custom query methods if needed here.
+    /**
+     * Retrieves the next page of courses that belong to a department, ordered by department ID and course ID.
+     *
+     * @param departmentId the department ID of the last course of the previous page, or 0 for the first page
+     * @param id the ID of the last course of the previous page, or 0 for the first page
+     * @param limit the maximum number of courses to return
+     * @return the courses after the given position, with their department and faculty member
+     */
+    @EntityGraph(attributePaths = {"department", "faculty", "faculty.user", "faculty.department"})
+    @Query("select c from Course c where c.department.id > :departmentId "
+            + "or (c.department.id = :departmentId and c.id > :id) order by c.department.id, c.id")
+    List<Course> findPageAfter(@Param("departmentId") Long departmentId, @Param("id") Long id, Limit limit);
+
+    /**
+     * Retrieves the next page of courses without a department, ordered by ID.
+     * These follow all courses with a department in the catalog.
+     *
+     * @param id the ID of the last course of the previous page, or 0 to start
+     * @param limit the maximum number of courses to return
+     * @return the courses after the given ID, with their faculty member
+     */
+    @EntityGraph(attributePaths = {"department", "faculty", "faculty.user", "faculty.department"})
+    @Query("select c from Course c where c.department is null and c.id > :id order by c.id")
+    List<Course> findPageWithoutDepartmentAfter(@Param("id") Long id, Limit limit);
+
+    /**
+     * Retrieves the searchable text of every course, without loading the courses.
+     *
+     * @return the ID, title, description, department ID and department name of all courses
+     */
+    @Query("select c.id as id, c.title as title, c.description as description, d.id as departmentId, d.name as departmentName "
+            + "from Course c left join c.department d")
+    List<SearchFields> findAllSearchFields();
+
+    /**
+     * Streams all courses with their department and faculty member for the catalog export, ordered by ID.
+     * Rows are fetched from a database cursor in batches and never loaded as entities.
+     * Must be consumed, and closed, within a transaction.
+     *
+     * @return all courses
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.leucine.academiaportal.dto.CourseExportRow(c.id, c.title, c.description, d.id, d.name, f.userId, u.name) "
+            + "from Course c left join c.department d left join c.faculty f left join f.user u order by c.id")
+    Stream<CourseExportRow> streamExportRows();
+
+    /**
+     * Projection of the searchable text of a course.
+     */
+    interface SearchFields {
+
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        Long getDepartmentId();
+
+        String getDepartmentName();
+    }
 }
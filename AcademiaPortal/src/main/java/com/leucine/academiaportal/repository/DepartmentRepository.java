@@ -1,7 +1,15 @@
 package com.leucine.academiaportal.repository;
 
+import com.leucine.academiaportal.dto.DepartmentDTO;
 import com.leucine.academiaportal.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Department} entities.
@@ -11,4 +19,23 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
     // JpaRepository provides basic CRUD operations (save, findById, findAll, deleteById) out of the box.
     // Custom query methods can be defined here if needed.
+
+    /**
+     * Retrieves the IDs of all departments without loading the departments.
+     *
+     * @return the IDs of all departments
+     */
+    @Query("select d.id from Department d")
+    List<Long> findAllIds();
+
+    /**
+     * Streams all departments for the catalog export, ordered by ID.
+     * Rows are fetched from a database cursor in batches and never loaded as entities.
+     * Must be consumed, and closed, within a transaction.
+     *
+     * @return all departments
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.leucine.academiaportal.dto.DepartmentDTO(d.id, d.name, d.description) from Department d order by d.id")
+    Stream<DepartmentDTO> streamExportRows();
 }
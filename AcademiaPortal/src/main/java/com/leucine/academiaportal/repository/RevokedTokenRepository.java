@@ -0,0 +1,37 @@
+package com.leucine.academiaportal.repository;
+
+import com.leucine.academiaportal.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link RevokedToken} entities.
+ * This interface extends {@link JpaRepository} to provide standard CRUD operations and custom query capabilities.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Retrieves all revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the revoked tokens expiring after {@code now}
+     */
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Deletes all revoked tokens that have expired.
+     *
+     * @param now the current time
+     * @return the number of deleted entries
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,7 +1,14 @@
 package com.leucine.academiaportal.repository;
 
+import com.leucine.academiaportal.dto.DirectoryExportRow;
 import com.leucine.academiaportal.entity.StudentProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link StudentProfile} entities.
@@ -11,4 +18,16 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
 
     // JpaRepository provides basic CRUD operations (save, findById, findAll, deleteById) out of the box.
     // Custom query methods can be defined here if needed.
+
+    /**
+     * Streams students with their user and department for the directory export, ordered by user ID.
+     * Rows are fetched from a database cursor in batches and never loaded as entities.
+     * Must be consumed, and closed, within a transaction.
+     *
+     * @return the directory rows of all students
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.leucine.academiaportal.dto.DirectoryExportRow(u.id, u.username, u.role, u.name, u.email, u.phone, "
+            + "d.id, d.name, p.year, cast(null as String)) from StudentProfile p join p.user u left join p.department d order by u.id")
+    Stream<DirectoryExportRow> streamDirectoryRows();
 }
@@ -2,7 +2,13 @@ package com.leucine.academiaportal.repository;
 
 import com.leucine.academiaportal.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,13 +18,136 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
-     * Retrieves a {@link User} entity by either username or email.
-     * This method searches for a user whose username or email matches the provided value.
-     * If a matching user is found, it is returned wrapped in an {@link Optional}.
-     * If no match is found, an empty {@link Optional} is returned.
+     * Retrieves a {@link User} entity by the normalized username.
      *
-     * @param usernameOrEmail the username or email to search for; cannot be {@code null}
+     * @param usernameKey the normalized username, see {@link User#normalizeKey(String)}
      * @return an {@link Optional} containing the matching user if found, or an empty {@link Optional} if no user matches
      */
-    Optional<User> findByUsernameOrEmail(String usernameOrEmail);
+    Optional<User> findByUsernameKey(String usernameKey);
+
+    /**
+     * Retrieves a {@link User} entity by the normalized email.
+     *
+     * @param emailKey the normalized email, see {@link User#normalizeKey(String)}
+     * @return an {@link Optional} containing the matching user if found, or an empty {@link Optional} if no user matches
+     */
+    Optional<User> findByEmailKey(String emailKey);
+
+    /**
+     * Retrieves the users whose normalized email or normalized username equals the given key, with a single
+     * query. Each condition is answered from its unique index, so there are at most two users.
+     *
+     * @param key the normalized username or email, see {@link User#normalizeKey(String)}
+     * @return the matching users
+     */
+    @Query("select u from User u where u.emailKey = :key or u.usernameKey = :key")
+    List<User> findAllByLoginKey(@Param("key") String key);
+
+    /**
+     * Retrieves a {@link User} entity by the username or email entered at login, in any letter case.
+     * The login is matched against both the email and the username in one query, hits and misses alike.
+     * Should it match one user's email and another user's username, a login containing an {@code @}
+     * is taken as the email, any other login as the username.
+     *
+     * @param login the username or email entered at login
+     * @return an {@link Optional} containing the matching user if found, or an empty {@link Optional} if no user matches
+     */
+    default Optional<User> findByLogin(String login) {
+        String key = User.normalizeKey(login);
+        if (key == null || key.isEmpty()) {
+            return Optional.empty();
+        }
+        List<User> users = findAllByLoginKey(key);
+        boolean byEmail = key.indexOf('@') >= 0;
+        return users.stream()
+                .filter(user -> key.equals(byEmail ? user.getEmailKey() : user.getUsernameKey()))
+                .findFirst()
+                .or(() -> users.stream().findFirst());
+    }
+
+    /**
+     * Checks whether a user with the given normalized username exists, without loading it.
+     *
+     * @param usernameKey the normalized username, see {@link User#normalizeKey(String)}
+     * @return {@code true} if such a user exists
+     */
+    boolean existsByUsernameKey(String usernameKey);
+
+    /**
+     * Checks whether a user with the given normalized email exists, without loading it.
+     *
+     * @param emailKey the normalized email, see {@link User#normalizeKey(String)}
+     * @return {@code true} if such a user exists
+     */
+    boolean existsByEmailKey(String emailKey);
+
+    /**
+     * Returns which of the given normalized usernames are already taken, with a single query.
+     *
+     * @param usernameKeys the normalized usernames to check, see {@link User#normalizeKey(String)}
+     * @return the normalized usernames that belong to existing users
+     */
+    @Query("select u.usernameKey from User u where u.usernameKey in :usernameKeys")
+    List<String> findExistingUsernameKeys(@Param("usernameKeys") Collection<String> usernameKeys);
+
+    /**
+     * Returns which of the given normalized emails are already registered, with a single query.
+     *
+     * @param emailKeys the normalized emails to check, see {@link User#normalizeKey(String)}
+     * @return the normalized emails that belong to existing users
+     */
+    @Query("select u.emailKey from User u where u.emailKey in :emailKeys")
+    List<String> findExistingEmailKeys(@Param("emailKeys") Collection<String> emailKeys);
+
+    /**
+     * Returns the IDs of the users with the given normalized emails, with a single query.
+     *
+     * @param emailKeys the normalized emails, see {@link User#normalizeKey(String)}
+     * @return the IDs of the users with these emails
+     */
+    @Query("select u.id from User u where u.emailKey in :emailKeys")
+    List<Long> findIdsByEmailKeys(@Param("emailKeys") Collection<String> emailKeys);
+
+    /**
+     * Retrieves the normalized username and email of every user, without loading the users.
+     * Users stored before the keys were introduced are included with their keys computed on the fly.
+     *
+     * @return the lookup keys of all users
+     */
+    @Query("select coalesce(u.usernameKey, lower(trim(u.username))) as usernameKey, "
+            + "coalesce(u.emailKey, lower(trim(u.email))) as emailKey from User u")
+    List<LookupKeys> findAllLookupKeys();
+
+    /**
+     * Fills in the normalized lookup keys of users stored before the keys were introduced.
+     *
+     * @return the number of updated users
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.usernameKey = lower(trim(u.username)), u.emailKey = lower(trim(u.email)) "
+            + "where u.usernameKey is null or u.emailKey is null")
+    int backfillLookupKeys();
+
+    /**
+     * Replaces the stored password hash of the {@link User} with the given email.
+     *
+     * @param emailKey the normalized email of the user, see {@link User#normalizeKey(String)}
+     * @param password the new password hash
+     * @return the number of updated users
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.emailKey = :emailKey")
+    int updatePasswordByEmailKey(@Param("emailKey") String emailKey, @Param("password") String password);
+
+    /**
+     * Projection of the normalized lookup keys of a user.
+     */
+    interface LookupKeys {
+
+        String getUsernameKey();
+
+        String getEmailKey();
+    }
 }
@@ -1,6 +1,7 @@
 package com.leucine.academiaportal.service;
 
 import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.AdministratorProfileRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -20,9 +21,13 @@ public class AdministratorProfileServiceImpl implements AdministratorProfileServ
     @Autowired
     public AdministratorProfileRepository administratorProfileRepository;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
      * Saves a new or existing {@link AdministratorProfile} entity.
-     * This method is responsible for persisting the administrator profile data.
+     * This method is responsible for persisting the administrator profile data
+     * and bumps the version of its user.
      *
      * @param administratorProfile the administrator profile to be saved
      * @return the saved {@link AdministratorProfile} entity
@@ -40,6 +45,7 @@ public class AdministratorProfileServiceImpl implements AdministratorProfileServ
         // Log and save the profile
         log.info("Saving AdministratorProfile with ID: {}", administratorProfile.getUserId());
         AdministratorProfile savedProfile = administratorProfileRepository.save(administratorProfile);
+        entityVersionService.bump(VersionedAggregate.USER, savedProfile.getUserId());
         log.info("Successfully saved AdministratorProfile with ID: {}", savedProfile.getUserId());
         return savedProfile;
     }
@@ -0,0 +1,56 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.dto.CourseSearchHit;
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+
+import java.util.List;
+
+/**
+ * Service interface for full-text search over the course catalog.
+ * Courses are matched on their title, description and department name.
+ */
+public interface CourseSearchService {
+
+    /**
+     * Finds the courses best matching a query.
+     *
+     * @param query the words to search for
+     * @param limit the maximum number of courses, or {@code null} for the configured default
+     * @return the matching courses, most relevant first
+     * @throws AcademiaPortalException if the query is blank or the limit out of range
+     */
+    List<CourseSearchHit> search(String query, Integer limit) throws AcademiaPortalException;
+
+    /**
+     * Completes the last word of a partially typed query from the words of course titles.
+     *
+     * @param prefix the query typed so far
+     * @param limit the maximum number of completions, or {@code null} for the configured default
+     * @return the completed queries, the most common title words first
+     * @throws AcademiaPortalException if the prefix is blank or the limit out of range
+     */
+    List<String> suggest(String prefix, Integer limit) throws AcademiaPortalException;
+
+    /**
+     * Adds a newly stored course to the index, or updates it.
+     * Must be called after the course has been saved.
+     *
+     * @param course the saved course
+     */
+    void index(Course course);
+
+    /**
+     * Updates the department name of the indexed courses of a department, so they are found by, and
+     * shown with, its new name. Must be called after the department has been saved.
+     *
+     * @param department the saved department
+     */
+    void renameDepartment(Department department);
+
+    /**
+     * Rebuilds the index from the database.
+     */
+    void rebuild();
+}
@@ -0,0 +1,291 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.dto.CourseSearchHit;
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.CourseRepository;
+import com.leucine.academiaportal.util.Bm25Index;
+import com.leucine.academiaportal.util.PrefixTrie;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation for full-text search over the course catalog.
+ *
+ * The title, description and department name of every course are kept in an in-memory
+ * {@link Bm25Index}, loaded from the database at startup and updated whenever a course or department is saved, so
+ * a search ranks courses by BM25 without any database access. Title words count twice, so a course
+ * named after a word ranks above one that merely mentions it. The words of course titles are also
+ * kept in a {@link PrefixTrie} to complete partially typed queries.
+ *
+ * Searches share a read lock and run concurrently; saves take the write lock for the few
+ * microseconds an update needs. The index only learns about courses and departments saved by this
+ * instance, so it is rebuilt from the database periodically.
+ */
+@Service
+@Slf4j
+public class CourseSearchServiceImpl implements CourseSearchService {
+
+    /**
+     * How many times a word of the title counts, relative to words of the description and department name.
+     */
+    private static final int TITLE_WEIGHT = 2;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    private final int defaultLimit;
+
+    private final int maxLimit;
+
+    private final Timer searchTimer;
+
+    private final Timer suggestTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The index answering searches. Replaced as a whole on every rebuild; guarded by {@link #lock}.
+     */
+    private SearchIndex searchIndex = new SearchIndex();
+
+    /**
+     * The changes made to the index while a rebuild is loading, or {@code null}. Guarded by {@link #lock}.
+     */
+    private List<Consumer<SearchIndex>> changedDuringRebuild;
+
+    /**
+     * Creates the service with an empty index.
+     *
+     * @param defaultLimit the number of results when the client does not ask for a limit
+     * @param maxLimit the largest number of results a client may ask for
+     * @param meterRegistry the registry the search timings are published to
+     */
+    public CourseSearchServiceImpl(@Value("${academiaportal.course-search.limit.default:10}") int defaultLimit,
+                                   @Value("${academiaportal.course-search.limit.max:50}") int maxLimit,
+                                   MeterRegistry meterRegistry) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.searchTimer = meterRegistry.timer("course.search", "operation", "search");
+        this.suggestTimer = meterRegistry.timer("course.search", "operation", "suggest");
+    }
+
+    /**
+     * Loads the course catalog at startup.
+     */
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    @Override
+    public List<CourseSearchHit> search(String query, Integer limit) throws AcademiaPortalException {
+        List<String> terms = Bm25Index.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new AcademiaPortalException("Search query must not be blank");
+        }
+        int resultLimit = checkLimit(limit);
+        return searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                List<CourseSearchHit> hits = new ArrayList<>();
+                for (Bm25Index.Hit hit : searchIndex.index.search(terms, resultLimit)) {
+                    CourseDocument course = searchIndex.documents.get(hit.key());
+                    hits.add(new CourseSearchHit(course.id(), course.title(), course.department(), hit.score()));
+                }
+                return hits;
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public List<String> suggest(String prefix, Integer limit) throws AcademiaPortalException {
+        List<String> terms = Bm25Index.tokenize(prefix);
+        if (terms.isEmpty()) {
+            throw new AcademiaPortalException("Search prefix must not be blank");
+        }
+        int resultLimit = checkLimit(limit);
+        if (!Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1))) {
+            // The last word is complete: nothing to complete
+            return List.of();
+        }
+        String typed = String.join(" ", terms.subList(0, terms.size() - 1));
+        List<String> completions;
+        lock.readLock().lock();
+        try {
+            completions = suggestTimer.record(() -> searchIndex.titleTerms.complete(terms.get(terms.size() - 1), resultLimit));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return typed.isEmpty() ? completions : completions.stream().map(term -> typed + " " + term).toList();
+    }
+
+    @Override
+    public void index(Course course) {
+        Long departmentId = course.getDepartment() == null ? null : course.getDepartment().getId();
+        CourseDocument document = toDocument(course.getId(), course.getTitle(), course.getDescription(),
+                departmentId, departmentName(course));
+        change(index -> index.put(document));
+    }
+
+    @Override
+    public void renameDepartment(Department department) {
+        if (department.getId() != null) {
+            change(index -> index.renameDepartment(department.getId(), department.getName()));
+        }
+    }
+
+    /**
+     * Applies a change to the index, and remembers it for a rebuild that is loading.
+     */
+    private void change(Consumer<SearchIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(searchIndex);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database. Runs periodically to pick up courses saved by other instances.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${academiaportal.course-search.rebuild-interval-millis:600000}",
+            fixedDelayString = "${academiaportal.course-search.rebuild-interval-millis:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        changedDuringRebuild = new ArrayList<>();
+        lock.writeLock().unlock();
+        try {
+            SearchIndex rebuilt = new SearchIndex();
+            List<CourseRepository.SearchFields> courses = courseRepository.findAllSearchFields();
+            for (CourseRepository.SearchFields course : courses) {
+                rebuilt.put(toDocument(course.getId(), course.getTitle(), course.getDescription(),
+                        course.getDepartmentId(), course.getDepartmentName()));
+            }
+            lock.writeLock().lock();
+            try {
+                // Courses and departments saved while loading may be missing from, or older in, what was loaded
+                changedDuringRebuild.forEach(change -> change.accept(rebuilt));
+                searchIndex = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Course search index rebuilt with {} courses", courses.size());
+        } finally {
+            lock.writeLock().lock();
+            changedDuringRebuild = null;
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int checkLimit(Integer limit) {
+        int resultLimit = limit == null ? defaultLimit : limit;
+        if (resultLimit < 1 || resultLimit > maxLimit) {
+            throw new AcademiaPortalException("Limit must be between 1 and " + maxLimit);
+        }
+        return resultLimit;
+    }
+
+    /**
+     * Returns the name of a saved course's department. A course saved with a reference to its
+     * department by ID only is resolved through the department cache.
+     */
+    private String departmentName(Course course) {
+        if (course.getDepartment() == null) {
+            return null;
+        }
+        if (course.getDepartment().getName() != null || course.getDepartment().getId() == null) {
+            return course.getDepartment().getName();
+        }
+        return departmentService.getDepartment(course.getDepartment().getId()).getName();
+    }
+
+    private static CourseDocument toDocument(Long id, String title, String description, Long departmentId, String department) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        List<String> titleTerms = Bm25Index.tokenize(title);
+        titleTerms.forEach(term -> termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        Bm25Index.tokenize(description).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        Bm25Index.tokenize(department).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        return new CourseDocument(id, title, departmentId, department, termFrequencies, new LinkedHashSet<>(titleTerms));
+    }
+
+    /**
+     * A course as indexed: what search results show, and the terms it is found by.
+     *
+     * @param id the course's ID
+     * @param title the title
+     * @param departmentId the department's ID, or {@code null}
+     * @param department the department name, or {@code null}
+     * @param termFrequencies the weighted occurrences of every term of the title, description and department name
+     * @param titleTerms the distinct terms of the title
+     */
+    private record CourseDocument(Long id, String title, Long departmentId, String department,
+                                  Map<String, Integer> termFrequencies, Set<String> titleTerms) {
+
+        /**
+         * Returns this course with another department name, found by the terms of the new name instead of the old one.
+         */
+        CourseDocument withDepartment(String name) {
+            Map<String, Integer> renamed = new HashMap<>(termFrequencies);
+            Bm25Index.tokenize(department).forEach(term -> renamed.merge(term, -1, (a, b) -> a + b == 0 ? null : a + b));
+            Bm25Index.tokenize(name).forEach(term -> renamed.merge(term, 1, Integer::sum));
+            return new CourseDocument(id, title, departmentId, name, renamed, titleTerms);
+        }
+    }
+
+    /**
+     * The ranked index of all courses, and the title words offered as completions.
+     */
+    private static final class SearchIndex {
+
+        private final Bm25Index index = new Bm25Index();
+
+        private final PrefixTrie titleTerms = new PrefixTrie();
+
+        private final Map<Long, CourseDocument> documents = new HashMap<>();
+
+        void put(CourseDocument document) {
+            CourseDocument previous = documents.put(document.id(), document);
+            if (previous != null) {
+                previous.titleTerms().forEach(titleTerms::remove);
+            }
+            document.titleTerms().forEach(titleTerms::add);
+            index.put(document.id(), document.termFrequencies());
+        }
+
+        void renameDepartment(Long departmentId, String name) {
+            List<CourseDocument> renamed = documents.values().stream()
+                    .filter(document -> departmentId.equals(document.departmentId()))
+                    .map(document -> document.withDepartment(name))
+                    .toList();
+            renamed.forEach(this::put);
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.leucine.academiaportal.service;
 
+import com.leucine.academiaportal.dto.CoursePage;
 import com.leucine.academiaportal.entity.Course;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 
-import java.util.List;
-
 /**
  * Service interface for managing {@link Course} entities.
  */
@@ -29,10 +28,12 @@ public interface CourseService {
     Course getCourse(Long id) throws AcademiaPortalException;
 
     /**
-     * Retrieves all {@link Course} entities.
+     * Retrieves a page of the course catalog, ordered by department and ID.
      *
-     * @return a list of all courses
-     * @throws AcademiaPortalException if no courses are found
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the number of courses per page, or {@code null} for the configured default
+     * @return the page of courses, empty if there are no more courses
+     * @throws AcademiaPortalException if the cursor is malformed or the page size out of range
      */
-    List<Course> getAllCourses() throws AcademiaPortalException;
+    CoursePage getCourses(String cursor, Integer size) throws AcademiaPortalException;
 }
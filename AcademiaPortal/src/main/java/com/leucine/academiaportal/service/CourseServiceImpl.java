@@ -1,30 +1,65 @@
 package com.leucine.academiaportal.service;
 
+import com.leucine.academiaportal.dto.CoursePage;
 import com.leucine.academiaportal.entity.Course;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.mapper.DtoMapper;
 import com.leucine.academiaportal.repository.CourseRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Service implementation for managing {@link Course} entities.
- * This class provides methods to save, retrieve, and list courses with proper logging and exception handling.
+ * This class provides methods to save, retrieve, and page through courses with proper logging and exception handling.
  */
 @Service
 @Slf4j
 public class CourseServiceImpl implements CourseService {
 
+    /**
+     * Department part of the cursors of courses without a department.
+     */
+    private static final String WITHOUT_DEPARTMENT = "-";
+
     @Autowired
     public CourseRepository courseRepository;
 
+    @Autowired
+    private CourseSearchService courseSearchService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
+    /**
+     * Creates the service.
+     *
+     * @param defaultPageSize the number of courses per catalog page when the client does not ask for a size
+     * @param maxPageSize the largest page size a client may ask for
+     */
+    public CourseServiceImpl(@Value("${academiaportal.courses.page-size.default:50}") int defaultPageSize,
+                             @Value("${academiaportal.courses.page-size.max:500}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
     /**
      * Saves a {@link Course} entity.
      * Validates that the course object is not null before saving it to the repository.
      * Logs the saving operation and throws an {@link AcademiaPortalException} if the course is null.
+     * The saved course is added to the search index right away, and the version of the catalog is bumped.
      *
      * @param course the course entity to be saved
      * @return the saved course entity
@@ -41,8 +76,11 @@ public class CourseServiceImpl implements CourseService {
                     return new AcademiaPortalException("Course cannot be null");
                 });
 
-        // Save the course to the repository and return the saved entity
-        return courseRepository.save(course);
+        // Save the course to the repository, make it searchable and return the saved entity
+        Course savedCourse = courseRepository.save(course);
+        courseSearchService.index(savedCourse);
+        entityVersionService.bumpCatalog();
+        return savedCourse;
     }
 
     /**
@@ -67,30 +105,70 @@ public class CourseServiceImpl implements CourseService {
     }
 
     /**
-     * Retrieves all {@link Course} entities.
-     * Fetches all courses from the repository and throws an {@link AcademiaPortalException} if no courses are found.
-     * Logs the number of courses retrieved and any issues encountered.
+     * Retrieves a page of the course catalog.
+     * Courses are ordered by department ID and course ID, with courses without a department last,
+     * and each page continues after the last course of the previous one (keyset pagination): no rows
+     * are skipped or counted, so every page costs the same however deep the client pages. One row more
+     * than the page size is read to tell whether another page follows.
      *
-     * @return a list of all courses
-     * @throws AcademiaPortalException if no courses are found in the repository
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the number of courses per page, or {@code null} for the configured default
+     * @return the page of courses, with the cursor of the next page if there is one
+     * @throws AcademiaPortalException if the cursor is malformed or the page size out of range
      */
     @Override
-    public List<Course> getAllCourses() throws AcademiaPortalException {
-        log.info("Fetching all courses");
-
-        // Retrieve all courses from the repository
-        List<Course> courses = courseRepository.findAll();
-
-        // Handle the case when no courses are found
-        return Optional.ofNullable(courses)
-                .filter(list -> !list.isEmpty()) // Check if the list is not empty
-                .map(list -> {
-                    log.info("Number of courses found: {}", list.size());
-                    return list;
-                })
-                .orElseThrow(() -> {
-                    log.warn("No courses found");
-                    return new AcademiaPortalException("No courses found");
-                });
+    public CoursePage getCourses(String cursor, Integer size) throws AcademiaPortalException {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new AcademiaPortalException("Page size must be between 1 and " + maxPageSize);
+        }
+        Position position = decodeCursor(cursor);
+        log.info("Fetching {} courses after {}", pageSize, position);
+
+        List<Course> courses = new ArrayList<>(pageSize + 1);
+        if (position.departmentId() != null) {
+            courses.addAll(courseRepository.findPageAfter(position.departmentId(), position.id(), Limit.of(pageSize + 1)));
+        }
+        if (courses.size() <= pageSize) {
+            // Courses with a department are exhausted: continue with those without one
+            long afterId = position.departmentId() == null ? position.id() : 0;
+            courses.addAll(courseRepository.findPageWithoutDepartmentAfter(afterId, Limit.of(pageSize + 1 - courses.size())));
+        }
+
+        boolean hasMore = courses.size() > pageSize;
+        List<Course> page = hasMore ? courses.subList(0, pageSize) : courses;
+        log.info("Number of courses found: {}", page.size());
+        return new CoursePage(page.stream().map(DtoMapper::toDto).toList(),
+                hasMore ? encodeCursor(page.get(page.size() - 1)) : null);
+    }
+
+    private static String encodeCursor(Course course) {
+        String position = course.getDepartment() == null
+                ? WITHOUT_DEPARTMENT + ":" + course.getId()
+                : course.getDepartment().getId() + ":" + course.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
     }
+
+    private static Position decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new Position(0L, 0);
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf(':');
+            String department = position.substring(0, separator);
+            long id = Long.parseLong(position.substring(separator + 1));
+            return new Position(department.equals(WITHOUT_DEPARTMENT) ? null : Long.valueOf(department), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new AcademiaPortalException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * The position of the last course of a page.
+     *
+     * @param departmentId the course's department ID, or {@code null} for courses without a department
+     * @param id the course's ID
+     */
+    private record Position(Long departmentId, long id) {}
 }
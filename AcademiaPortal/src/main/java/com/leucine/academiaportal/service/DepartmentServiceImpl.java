@@ -1,30 +1,117 @@
 package com.leucine.academiaportal.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.leucine.academiaportal.entity.Department;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.DepartmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service implementation for managing {@link Department} entities.
  * This class provides methods to save, retrieve, and list departments with proper logging and exception handling.
+ *
+ * Departments almost never change, so they are kept in a size-bounded near cache, warmed once the
+ * application has started: single departments by ID, and the full list as one snapshot. Saving a
+ * department invalidates both on this instance; entries also expire after a while so that changes
+ * made through other instances are picked up. Callers get copies, so the cached entities are never
+ * modified. Size, hit and eviction metrics are published as {@code cache.*} meters tagged
+ * {@code cache=departments}.
+ *
+ * A read that races with a save could otherwise put what it read before the save back into the cache
+ * after the save invalidated it. Every save therefore moves the cache to a new generation, and cached
+ * entries are stamped with the generation that was current when their read started: entries of an
+ * older generation are ignored and read again.
  */
 @Service
 @Slf4j
 public class DepartmentServiceImpl implements DepartmentService {
 
+    /**
+     * The name under which the cache metrics are published.
+     */
+    public static final String CACHE_NAME = "departments";
+
     @Autowired
     public DepartmentRepository departmentRepository;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    /**
+     * Lazy, since the course search service resolves department names through this service.
+     */
+    @Autowired
+    @Lazy
+    private CourseSearchService courseSearchService;
+
+    private final long maximumSize;
+
+    private final long timeToLiveNanos;
+
+    private final Cache<Long, CachedDepartment> cache;
+
+    /**
+     * Snapshot of all departments, or {@code null} when it has to be read from the database.
+     */
+    private volatile CachedList allDepartments;
+
+    /**
+     * Generation of the cache, advanced by every save; only entries of the current generation are served.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates the service and its department cache.
+     *
+     * @param maximumSize the maximum number of cached departments; the full list is only cached while it fits
+     * @param timeToLive how long a cached department is reused before it is read from the database again
+     * @param meterRegistry the registry the cache metrics are published to
+     */
+    public DepartmentServiceImpl(@Value("${academiaportal.departments.cache.maximum-size:1000}") long maximumSize,
+                                 @Value("${academiaportal.departments.cache.time-to-live:10m}") Duration timeToLive,
+                                 MeterRegistry meterRegistry) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Loads all departments into the cache once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        List<Department> departments = loadAll();
+        log.info("Department cache warmed with {} department(s)", departments.size());
+    }
+
     /**
      * Saves a {@link Department} entity.
      * Validates the department object before saving it to the repository.
      * Logs the saving operation and throws an {@link AcademiaPortalException} if the department is null.
+     * The cached copies of the departments and of the department list are invalidated, again once the
+     * enclosing transaction, if any, has committed, and the version of the catalog is bumped.
+     * The indexed courses of the department are updated with its name, so searches find them by their new department name.
      *
      * @param department the department entity to be saved
      * @return the saved department entity
@@ -35,58 +122,81 @@ public class DepartmentServiceImpl implements DepartmentService {
         log.info("Saving department with name: {}", department.getName());
 
         // Validate the department object is not null
-        return Optional.ofNullable(department)
+        Department savedDepartment = Optional.ofNullable(department)
                 .map(dept -> departmentRepository.save(dept))
                 .orElseThrow(() -> {
                     String errorMessage = "Failed to save department with name: " + department.getName();
                     log.error(errorMessage);
                     return new AcademiaPortalException(errorMessage);
                 });
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Until the commit, reads still see the previous state and may cache it in the new generation
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        }
+        entityVersionService.bumpCatalog();
+        courseSearchService.renameDepartment(savedDepartment);
+        return savedDepartment;
     }
 
     /**
      * Retrieves a {@link Department} entity by its ID.
-     * Fetches the department from the repository and throws an {@link AcademiaPortalException} if the department is not found.
+     * Serves the department from the cache, or fetches it from the repository and throws an
+     * {@link AcademiaPortalException} if the department is not found.
      * Logs the retrieval operation and the result.
      *
      * @param id the ID of the department to retrieve
-     * @return the department entity associated with the given ID
+     * @return a copy of the department entity associated with the given ID
      * @throws AcademiaPortalException if the department with the given ID is not found
      */
     @Override
     public Department getDepartment(Long id) throws AcademiaPortalException {
+        long currentGeneration = generation.get();
+        CachedDepartment cached = cache.getIfPresent(id);
+        if (cached != null && cached.generation() == currentGeneration) {
+            log.debug("Department served from cache: {}", id);
+            return copy(cached.department());
+        }
         log.info("Fetching department with ID: {}", id);
 
         // Retrieve the department from the repository and handle the case when it's not found
-        return departmentRepository.findById(id)
+        Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> {
                     String errorMessage = "Department not found with ID: " + id;
                     log.warn(errorMessage);
                     return new AcademiaPortalException(errorMessage);
                 });
+        cache.put(id, new CachedDepartment(copy(department), currentGeneration));
+        return department;
     }
 
     /**
      * Retrieves all {@link Department} entities.
-     * Fetches all departments from the repository and throws an {@link AcademiaPortalException} if no departments are found.
+     * Serves the departments from the cached snapshot, or fetches them from the repository and throws an
+     * {@link AcademiaPortalException} if no departments are found.
      * Logs the number of departments retrieved and any issues encountered.
      *
-     * @return a list of all departments
+     * @return copies of all departments
      * @throws AcademiaPortalException if no departments are found in the repository
      */
     @Override
     public List<Department> getAllDepartments() throws AcademiaPortalException {
-        log.info("Fetching all departments");
-
-        // Retrieve all departments from the repository
-        List<Department> departments = departmentRepository.findAll();
+        CachedList cached = allDepartments;
+        List<Department> departments = cached != null && cached.isCurrent(generation.get())
+                ? cached.departments()
+                : loadAll();
 
         // Handle the case when no departments are found
         return Optional.of(departments)
                 .filter(list -> !list.isEmpty()) // Check if the list is not empty
                 .map(list -> {
-                    log.info("Number of departments found: {}", list.size());
-                    return list;
+                    log.debug("Number of departments found: {}", list.size());
+                    return list.stream().map(DepartmentServiceImpl::copy).toList();
                 })
                 .orElseThrow(() -> {
                     String errorMessage = "No departments found";
@@ -94,4 +204,58 @@ public class DepartmentServiceImpl implements DepartmentService {
                     return new AcademiaPortalException(errorMessage);
                 });
     }
+
+    /**
+     * Reads all departments from the database and caches them, each by ID and, while they fit, as a list.
+     *
+     * @return the cached departments
+     */
+    private List<Department> loadAll() {
+        log.info("Fetching all departments");
+        long currentGeneration = generation.get();
+        List<Department> departments = departmentRepository.findAll().stream().map(DepartmentServiceImpl::copy).toList();
+        if (departments.size() <= maximumSize) {
+            departments.stream()
+                    .filter(department -> department.getId() != null)
+                    .forEach(department -> cache.put(department.getId(), new CachedDepartment(department, currentGeneration)));
+            allDepartments = new CachedList(departments, System.nanoTime() + timeToLiveNanos, currentGeneration);
+        }
+        return departments;
+    }
+
+    /**
+     * Moves the cache to a new generation, so that no entry read before is served any more, and drops the entries.
+     */
+    private void invalidate() {
+        generation.incrementAndGet();
+        allDepartments = null;
+        cache.invalidateAll();
+    }
+
+    private static Department copy(Department department) {
+        return new Department(department.getId(), department.getName(), department.getDescription());
+    }
+
+    /**
+     * Cached copy of a department.
+     *
+     * @param department the department, never modified
+     * @param generation the generation of the cache when the department was read
+     */
+    private record CachedDepartment(Department department, long generation) {
+    }
+
+    /**
+     * Snapshot of all departments.
+     *
+     * @param departments the departments, never modified
+     * @param expiresAtNanos the {@link System#nanoTime()} after which the snapshot is reloaded
+     * @param generation the generation of the cache when the departments were read
+     */
+    private record CachedList(List<Department> departments, long expiresAtNanos, long generation) {
+
+        boolean isCurrent(long currentGeneration) {
+            return generation == currentGeneration && System.nanoTime() - expiresAtNanos <= 0;
+        }
+    }
 }
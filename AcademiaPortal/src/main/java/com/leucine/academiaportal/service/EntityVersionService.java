@@ -0,0 +1,51 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.enums.VersionedAggregate;
+
+import java.util.Collection;
+
+/**
+ * Service interface for the versions of aggregates, which identify their representations for
+ * conditional GET requests. A version is bumped after every saved change to its aggregate, so a
+ * client's copy is current exactly when the version it was served with still is.
+ *
+ * Callers read the entity tag before loading the representation it is sent with: a change saved in
+ * between then costs the client one more full response, and never leaves it with a stale copy.
+ */
+public interface EntityVersionService {
+
+    /**
+     * Bumps the version of an aggregate after a change to it has been saved.
+     *
+     * @param aggregate the kind of aggregate
+     * @param id the ID of the aggregate, 0 for the catalog
+     */
+    void bump(VersionedAggregate aggregate, long id);
+
+    /**
+     * Bumps the version of the course catalog after a course or department has been saved.
+     */
+    void bumpCatalog();
+
+    /**
+     * Bumps the versions of the users with the given normalized emails.
+     *
+     * @param emailKeys the normalized emails, see {@link com.leucine.academiaportal.entity.User#normalizeKey(String)}
+     */
+    void bumpUsersByEmailKey(Collection<String> emailKeys);
+
+    /**
+     * Returns the entity tag of a user's profile, from the versions of the user and of the catalog.
+     *
+     * @param userId the ID of the user
+     * @return the entity tag, without quotes
+     */
+    String getUserETag(Long userId);
+
+    /**
+     * Returns the entity tag of course catalog representations, from the version of the catalog.
+     *
+     * @return the entity tag, without quotes
+     */
+    String getCatalogETag();
+}
@@ -0,0 +1,104 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.entity.EntityVersion;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service implementation for the versions of aggregates, kept in the {@link EntityVersion} table.
+ *
+ * A bump increments the stored version, and inserts version 1 if the aggregate has no row yet. This is
+ * plain SQL that every database runs, rather than a vendor-specific upsert. Concurrent bumps from any
+ * number of instances are never lost: the increment is atomic, and when two first bumps race, the
+ * losing insert fails on the primary key and is retried as an increment. On databases that abort a
+ * transaction on a failed statement (PostgreSQL), the bump should therefore run after the change it
+ * records has been committed. Reading the entity tag of a representation is
+ * one primary key lookup, which is all a conditional GET for an unchanged aggregate costs: the
+ * aggregate itself is neither loaded nor serialized.
+ */
+@Service
+@Slf4j
+public class EntityVersionServiceImpl implements EntityVersionService {
+
+    /**
+     * The ID of the single catalog aggregate.
+     */
+    private static final long CATALOG_ID = 0;
+
+    private static final String INCREMENT_SQL = "update entity_version set version = version + 1 "
+            + "where aggregate = ? and aggregate_id = ?";
+
+    private static final String INSERT_SQL = "insert into entity_version (aggregate, aggregate_id, version) values (?, ?, 1)";
+
+    private static final String SELECT_USER_AND_CATALOG_SQL = "select aggregate, version from entity_version "
+            + "where (aggregate = ? and aggregate_id = ?) or (aggregate = ? and aggregate_id = ?)";
+
+    private static final String SELECT_SQL = "select version from entity_version where aggregate = ? and aggregate_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public void bump(VersionedAggregate aggregate, long id) {
+        while (jdbcTemplate.update(INCREMENT_SQL, aggregate.name(), id) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, aggregate.name(), id);
+                break;
+            } catch (DuplicateKeyException e) {
+                // A concurrent first bump inserted the row in the meantime; increment it instead
+                log.debug("Version of {} {} inserted concurrently, retrying the increment", aggregate, id);
+            }
+        }
+        log.debug("Version of {} {} bumped", aggregate, id);
+    }
+
+    @Override
+    public void bumpCatalog() {
+        bump(VersionedAggregate.CATALOG, CATALOG_ID);
+    }
+
+    @Override
+    public void bumpUsersByEmailKey(Collection<String> emailKeys) {
+        if (emailKeys.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = userRepository.findIdsByEmailKeys(emailKeys);
+        List<Object[]> increments = userIds.stream()
+                .map(userId -> new Object[] {VersionedAggregate.USER.name(), userId})
+                .toList();
+        // Most users already have a version, so increment all in one batch and insert only the missing ones
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, increments);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                bump(VersionedAggregate.USER, userIds.get(i));
+            }
+        }
+    }
+
+    @Override
+    public String getUserETag(Long userId) {
+        long[] versions = new long[2];
+        jdbcTemplate.query(SELECT_USER_AND_CATALOG_SQL, row -> {
+            int index = VersionedAggregate.valueOf(row.getString(1)) == VersionedAggregate.USER ? 0 : 1;
+            versions[index] = row.getLong(2);
+        }, VersionedAggregate.USER.name(), userId, VersionedAggregate.CATALOG.name(), CATALOG_ID);
+        return "u" + versions[0] + "-c" + versions[1];
+    }
+
+    @Override
+    public String getCatalogETag() {
+        List<Long> versions = jdbcTemplate.queryForList(SELECT_SQL, Long.class, VersionedAggregate.CATALOG.name(), CATALOG_ID);
+        return "c" + (versions.isEmpty() ? 0 : versions.get(0));
+    }
+}
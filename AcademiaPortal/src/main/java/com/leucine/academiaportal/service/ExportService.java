@@ -0,0 +1,99 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Service interface for exporting the course catalog and the user directory in bulk, e.g. for reporting or archival.
+ */
+public interface ExportService {
+
+    /**
+     * The supported formats of an export.
+     */
+    enum Format {
+
+        /**
+         * Comma-separated values with a header row naming the columns.
+         */
+        CSV("text/csv;charset=UTF-8", "csv"),
+
+        /**
+         * Newline-delimited JSON: one JSON object per line.
+         */
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        /**
+         * @return the media type of an export in this format
+         */
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * @return the file name extension of an export in this format
+         */
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Resolves a format from its name, ignoring case.
+         *
+         * @param name the name, e.g. {@code csv}
+         * @return the format
+         * @throws AcademiaPortalException if no format has that name
+         */
+        public static Format of(String name) throws AcademiaPortalException {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new AcademiaPortalException("Unsupported export format: " + name);
+            }
+        }
+    }
+
+    /**
+     * Writes all courses, with their department and faculty member, ordered by ID.
+     * Rows are streamed from the database as they are written, so memory use does not depend on the size of the catalog.
+     *
+     * @param output the stream to write to, UTF-8 encoded; it is flushed but not closed
+     * @param format the format to write
+     * @return the number of rows written
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    long exportCourses(OutputStream output, Format format) throws IOException;
+
+    /**
+     * Writes all departments, ordered by ID.
+     *
+     * @param output the stream to write to, UTF-8 encoded; it is flushed but not closed
+     * @param format the format to write
+     * @return the number of rows written
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    long exportDepartments(OutputStream output, Format format) throws IOException;
+
+    /**
+     * Writes the directory of all users with a profile: students, then faculty members, then administrators,
+     * each group ordered by user ID. Rows are streamed from the database as they are written.
+     *
+     * @param output the stream to write to, UTF-8 encoded; it is flushed but not closed
+     * @param format the format to write
+     * @return the number of rows written
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    long exportDirectory(OutputStream output, Format format) throws IOException;
+}
@@ -0,0 +1,177 @@
+package com.leucine.academiaportal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.leucine.academiaportal.dto.CourseExportRow;
+import com.leucine.academiaportal.dto.DepartmentDTO;
+import com.leucine.academiaportal.dto.DirectoryExportRow;
+import com.leucine.academiaportal.repository.AdministratorProfileRepository;
+import com.leucine.academiaportal.repository.CourseRepository;
+import com.leucine.academiaportal.repository.DepartmentRepository;
+import com.leucine.academiaportal.repository.FacultyProfileRepository;
+import com.leucine.academiaportal.repository.StudentProfileRepository;
+import com.leucine.academiaportal.util.CsvWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation for bulk exports.
+ *
+ * Rows are read through the streaming queries of the repositories, which select DTO projections
+ * rather than entities and fetch them from a database cursor in batches (see the fetch size hints
+ * and {@code useCursorFetch} on the datasource URL). Each row is written as soon as it is read and
+ * then dropped: projections are never attached to the persistence context, so there is nothing to
+ * detach or clear, and heap use stays the same for ten rows or half a million.
+ *
+ * Output goes through a buffered UTF-8 writer that is flushed once at the end, so the servlet
+ * container sends the response in chunks as its buffer fills instead of once per row.
+ */
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private StudentProfileRepository studentProfileRepository;
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private AdministratorProfileRepository administratorProfileRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCourses(OutputStream output, Format format) throws IOException {
+        try (RowWriter<CourseExportRow> writer = new RowWriter<>(output, format, CourseExportRow.class)) {
+            return writer.writeAll(courseRepository::streamExportRows);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDepartments(OutputStream output, Format format) throws IOException {
+        try (RowWriter<DepartmentDTO> writer = new RowWriter<>(output, format, DepartmentDTO.class)) {
+            return writer.writeAll(departmentRepository::streamExportRows);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDirectory(OutputStream output, Format format) throws IOException {
+        try (RowWriter<DirectoryExportRow> writer = new RowWriter<>(output, format, DirectoryExportRow.class)) {
+            // One cursor at a time: each query is read to the end and closed before the next one is opened
+            return writer.writeAll(studentProfileRepository::streamDirectoryRows)
+                    + writer.writeAll(facultyProfileRepository::streamDirectoryRows)
+                    + writer.writeAll(administratorProfileRepository::streamDirectoryRows);
+        }
+    }
+
+    /**
+     * Writes rows of one record type as CSV, with a header row of the record's component names, or as NDJSON.
+     * Closing the writer flushes it but leaves the underlying stream open.
+     */
+    private final class RowWriter<T extends Record> implements AutoCloseable {
+
+        private final Writer writer;
+
+        private final RecordComponent[] columns;
+
+        /**
+         * The generator for NDJSON, or {@code null} for CSV.
+         */
+        private final JsonGenerator generator;
+
+        private final ObjectWriter rowWriter;
+
+        RowWriter(OutputStream output, Format format, Class<T> type) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            this.columns = type.getRecordComponents();
+            if (format == Format.NDJSON) {
+                this.generator = objectMapper.getFactory().createGenerator(writer)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // Lines are separated by the newline written after each row, not by a space
+                this.generator.setRootValueSeparator(null);
+                this.rowWriter = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            } else {
+                this.generator = null;
+                this.rowWriter = null;
+                writer.write(CsvWriter.formatLine(Arrays.stream(columns).map(RecordComponent::getName).toList()));
+                writer.write("\r\n");
+            }
+        }
+
+        /**
+         * Writes every row of a query and closes it.
+         *
+         * @param query opens the stream of rows
+         * @return the number of rows written
+         */
+        long writeAll(Supplier<Stream<T>> query) throws IOException {
+            long count = 0;
+            try (Stream<T> rows = query.get()) {
+                for (Iterator<T> iterator = rows.iterator(); iterator.hasNext(); count++) {
+                    write(iterator.next());
+                }
+            }
+            return count;
+        }
+
+        private void write(T row) throws IOException {
+            if (generator != null) {
+                rowWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            } else {
+                writer.write(CsvWriter.formatLine(values(row)));
+                writer.write("\r\n");
+            }
+        }
+
+        private List<Object> values(T row) {
+            List<Object> values = new ArrayList<>(columns.length);
+            for (RecordComponent column : columns) {
+                try {
+                    values.add(column.getAccessor().invoke(row));
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Cannot read " + column.getName() + " of " + row, e);
+                }
+            }
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (generator != null) {
+                generator.close();
+            }
+            writer.flush();
+        }
+    }
+}
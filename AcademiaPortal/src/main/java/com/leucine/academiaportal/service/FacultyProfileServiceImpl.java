@@ -1,6 +1,7 @@
 package com.leucine.academiaportal.service;
 
 import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.FacultyProfileRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -20,10 +21,14 @@ public class FacultyProfileServiceImpl implements FacultyProfileService {
     @Autowired
     public FacultyProfileRepository facultyProfileRepository;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
      * Saves a {@link FacultyProfile} entity.
      * This method is responsible for persisting the faculty profile data to the repository.
      * Logs the saving operation and returns the saved profile.
+     * Bumps the version of its user, and of the catalog, whose courses show the faculty member's name.
      *
      * @param facultyProfile the faculty profile entity to be saved
      * @return the saved {@link FacultyProfile} entity
@@ -32,7 +37,10 @@ public class FacultyProfileServiceImpl implements FacultyProfileService {
     public FacultyProfile saveFacultyProfile(FacultyProfile facultyProfile) {
         log.info("Saving faculty profile for user ID: {}", facultyProfile.getUserId());
         // Save the faculty profile to the repository
-        return facultyProfileRepository.save(facultyProfile);
+        FacultyProfile savedProfile = facultyProfileRepository.save(facultyProfile);
+        entityVersionService.bump(VersionedAggregate.USER, savedProfile.getUserId());
+        entityVersionService.bumpCatalog();
+        return savedProfile;
     }
 
     /**
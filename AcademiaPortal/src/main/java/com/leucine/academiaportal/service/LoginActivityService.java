@@ -0,0 +1,23 @@
+package com.leucine.academiaportal.service;
+
+/**
+ * Service interface for tracking when and how often users log in.
+ * Logins are buffered in memory and written to the {@code last_login_at} and {@code login_count}
+ * columns of the user table in batches.
+ */
+public interface LoginActivityService {
+
+    /**
+     * Records a successful login. Never waits on the database.
+     *
+     * @param email the email of the user, as stored
+     */
+    void recordLogin(String email);
+
+    /**
+     * Writes the buffered logins to the database, one batched update for all users.
+     *
+     * @return the number of users whose login activity was written
+     */
+    int flush();
+}
@@ -0,0 +1,227 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.util.SqlIdentifiers;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Service implementation for tracking when and how often users log in, written behind.
+ *
+ * Writing a row on every login would double the write load of the login path. Instead, each login
+ * only bumps two atomic counters in a per-user buffer entry, without locks and, once the entry
+ * exists, without allocation. A scheduled flusher drains the buffer and writes all users' activity
+ * with one batched UPDATE, so any number of logins of a user between two flushes costs one row
+ * update. The buffer is also flushed on graceful shutdown. Profiles show the login activity, so the
+ * versions of the written users are bumped after each flush.
+ *
+ * Entries are removed once a flush finds them idle. A removed entry is marked retired, so a login
+ * racing with the removal notices it and records itself in a fresh entry instead.
+ */
+@Service
+@Slf4j
+public class LoginActivityServiceImpl implements LoginActivityService {
+
+    /**
+     * Coalesces the logins of one user since the last flush into a single row update. The stored last login
+     * never moves backwards, so instances flushing out of order cannot lose the most recent login.
+     * The table name is filled in quoted, since {@code user} is a reserved word on some databases.
+     */
+    private static final String UPDATE_SQL = "update %s set "
+            + "last_login_at = case when last_login_at is null or last_login_at < ? then ? else last_login_at end, "
+            + "login_count = coalesce(login_count, 0) + ? "
+            + "where email_key = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    /**
+     * Buffered login activity since the last flush, keyed by the email of the user as stored.
+     */
+    private final Map<String, Activity> buffer = new ConcurrentHashMap<>();
+
+    private final LongSupplier clock;
+
+    private final Timer flushTimer;
+
+    /**
+     * {@link #UPDATE_SQL} for the connected database, resolved on the first flush.
+     */
+    private String updateSql;
+
+    /**
+     * Creates the service.
+     *
+     * @param meterRegistry the registry the buffer size and flush metrics are published to
+     */
+    @Autowired
+    public LoginActivityServiceImpl(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the service using the given clock.
+     *
+     * @param meterRegistry the registry the buffer size and flush metrics are published to
+     * @param clock the clock, in epoch milliseconds
+     */
+    public LoginActivityServiceImpl(MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+        this.flushTimer = meterRegistry.timer("login.activity.flush");
+        Gauge.builder("login.activity.buffered", buffer, Map::size)
+                .description("Users with login activity waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordLogin(String email) {
+        if (email == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        while (true) {
+            Activity activity = buffer.get(email);
+            if (activity == null) {
+                activity = buffer.computeIfAbsent(email, key -> new Activity());
+            }
+            if (activity.record(now)) {
+                return;
+            }
+            // Retired by a concurrent flush: help remove it and record in a fresh entry
+            buffer.remove(email, activity);
+        }
+    }
+
+    /**
+     * Writes the buffered logins to the database. Runs periodically, and a final time on shutdown.
+     * Activity that cannot be written is put back into the buffer and retried with the next flush.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${academiaportal.login-activity.flush-interval-millis:10000}",
+            fixedDelayString = "${academiaportal.login-activity.flush-interval-millis:10000}")
+    public synchronized int flush() {
+        List<String> emails = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        buffer.forEach((email, activity) -> {
+            long logins = activity.count.getAndSet(0);
+            if (logins > 0) {
+                Timestamp lastLogin = new Timestamp(activity.lastLoginMillis.get());
+                emails.add(email);
+                updates.add(new Object[] {lastLogin, lastLogin, logins, User.normalizeKey(email)});
+            } else if (activity.count.compareAndSet(0, Activity.RETIRED)) {
+                // Idle since the last flush
+                buffer.remove(email, activity);
+            }
+        });
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(updateSql(), updates));
+            log.debug("Login activity written for {} users", updates.size());
+        } catch (DataAccessException e) {
+            log.warn("Writing login activity of {} users failed, retrying with the next flush: {}", updates.size(), e.getMessage());
+            for (int i = 0; i < updates.size(); i++) {
+                restore(emails.get(i), ((Timestamp) updates.get(i)[0]).getTime(), (Long) updates.get(i)[2]);
+            }
+            return 0;
+        }
+
+        try {
+            entityVersionService.bumpUsersByEmailKey(updates.stream().map(update -> (String) update[3]).toList());
+        } catch (DataAccessException e) {
+            // The activity is written; only cached copies of these profiles may stay until their next change
+            log.warn("Bumping the versions of {} users failed: {}", updates.size(), e.getMessage());
+        }
+        return updates.size();
+    }
+
+    /**
+     * Writes the remaining buffered logins on graceful shutdown.
+     */
+    @PreDestroy
+    void shutdown() {
+        int written = flush();
+        log.info("Login activity of {} users written on shutdown", written);
+    }
+
+    /**
+     * @return the update statement, with the user table quoted for the connected database
+     */
+    private String updateSql() {
+        if (updateSql == null) {
+            updateSql = UPDATE_SQL.formatted(SqlIdentifiers.quote(jdbcTemplate, "user"));
+        }
+        return updateSql;
+    }
+
+    /**
+     * Puts activity that could not be written back into the buffer.
+     */
+    private void restore(String email, long lastLoginMillis, long logins) {
+        while (true) {
+            Activity activity = buffer.computeIfAbsent(email, key -> new Activity());
+            if (activity.add(lastLoginMillis, logins)) {
+                return;
+            }
+            buffer.remove(email, activity);
+        }
+    }
+
+    /**
+     * The login activity of one user since the last flush.
+     */
+    private static final class Activity {
+
+        /**
+         * Value of {@link #count} once the entry has been removed from the buffer.
+         */
+        static final long RETIRED = -1;
+
+        private final AtomicLong count = new AtomicLong();
+
+        private final AtomicLong lastLoginMillis = new AtomicLong();
+
+        boolean record(long nowMillis) {
+            return add(nowMillis, 1);
+        }
+
+        /**
+         * Adds logins to this entry.
+         *
+         * @return {@code false} if the entry has been retired and the logins were not added
+         */
+        boolean add(long lastLoginMillis, long logins) {
+            // Update the time first, so a flush that sees the new count also sees the time
+            this.lastLoginMillis.accumulateAndGet(lastLoginMillis, Math::max);
+            long current;
+            do {
+                current = count.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+            } while (!count.compareAndSet(current, current + logins));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group-commit writer for user registrations.
+ *
+ * Under registration bursts every {@link UserServiceImpl#saveUser(User)} call would otherwise run its
+ * own transaction and pay its own commit. When enabled, registrations are queued and a single writer
+ * thread collects the requests arriving within {@code max-wait} of each other, up to
+ * {@code max-batch-size}, and stores them with one batched insert in one transaction. Each caller's
+ * future completes with its own saved user or its own error, after the version of the saved user has
+ * been bumped.
+ *
+ * Uniqueness is enforced per request: a registration is rejected if its email or username is taken by
+ * an existing user or by an earlier request of the same batch. Should the batch still violate a unique
+ * constraint, e.g. because of a concurrent writer outside the batcher, it is retried one registration
+ * per transaction so that only the offending requests fail.
+ *
+ * When the queue is full, registrations are written directly on the calling thread. A caller waits at
+ * most {@code timeout} for its registration; the writer survives any failure of a batch, including
+ * errors, so a single bad batch cannot leave later registrations waiting on a dead thread.
+ */
+@Component
+@Slf4j
+public class RegistrationBatcher {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    private final boolean enabled;
+
+    private final int maxBatchSize;
+
+    private final long maxWaitNanos;
+
+    private final long timeoutNanos;
+
+    private final BlockingQueue<PendingRegistration> queue;
+
+    private final DistributionSummary batchSizes;
+
+    private Thread writer;
+
+    /**
+     * Creates the batcher. The writer thread is started once the batcher is initialized.
+     *
+     * @param enabled whether registrations are group-committed at all
+     * @param maxBatchSize the maximum number of registrations stored in one transaction
+     * @param maxWait how long the writer waits for further registrations after the first one of a batch
+     * @param queueCapacity the maximum number of registrations waiting for the writer
+     * @param timeout how long a caller waits for its registration to be stored
+     * @param meterRegistry the registry the batch size distribution is published to
+     */
+    public RegistrationBatcher(@Value("${academiaportal.registration.group-commit.enabled:false}") boolean enabled,
+                               @Value("${academiaportal.registration.group-commit.max-batch-size:100}") int maxBatchSize,
+                               @Value("${academiaportal.registration.group-commit.max-wait:5ms}") Duration maxWait,
+                               @Value("${academiaportal.registration.group-commit.queue-capacity:1000}") int queueCapacity,
+                               @Value("${academiaportal.registration.group-commit.timeout:10s}") Duration timeout,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("registration.batch.size")
+                .description("Registrations stored per group commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the writer thread if group commit is enabled.
+     */
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("registration-writer-");
+            threadFactory.setDaemon(true);
+            writer = threadFactory.newThread(this::run);
+            writer.start();
+            log.info("Registration group commit enabled: up to {} registrations per {} ms",
+                    maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+        }
+    }
+
+    /**
+     * Stops the writer thread after it has stored its current batch, and fails registrations still queued.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        List<PendingRegistration> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.fail("Registration service is shutting down, please retry"));
+    }
+
+    /**
+     * @return whether registrations are group-committed
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a registration for the next group commit.
+     *
+     * @param user the user to store, with an already encoded password
+     * @return a future completing with the saved user, or exceptionally with an {@link AcademiaPortalException}
+     * if the email or username is already taken
+     */
+    public CompletableFuture<User> submit(User user) {
+        return enqueue(user).result;
+    }
+
+    /**
+     * Stores a user with the next group commit and waits for the result, for at most the timeout.
+     * A registration that times out while still queued is withdrawn, so it is never stored after its caller gave up.
+     *
+     * @param user the user to store, with an already encoded password
+     * @return the saved user
+     * @throws AcademiaPortalException if the email or username is already taken, or the registration timed out
+     */
+    public User save(User user) {
+        PendingRegistration pending = enqueue(user);
+        try {
+            return pending.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Registration failed", e.getCause());
+        } catch (TimeoutException e) {
+            boolean withdrawn = queue.remove(pending);
+            log.error("Registration of {} timed out {} the writer", user.getUsername(), withdrawn ? "waiting for" : "in");
+            throw new AcademiaPortalException("Registration timed out, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new AcademiaPortalException("Registration interrupted, please retry");
+        }
+    }
+
+    private PendingRegistration enqueue(User user) {
+        PendingRegistration pending = new PendingRegistration(user);
+        if (!enabled || !queue.offer(pending)) {
+            // No writer thread, or it is saturated: write this registration on its own
+            writeBatch(List.of(pending));
+        }
+        return pending;
+    }
+
+    /**
+     * The writer loop: takes the first waiting registration, collects further ones until the batch is
+     * full or the maximum wait has passed, and stores them.
+     */
+    private void run() {
+        List<PendingRegistration> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    PendingRegistration next = remainingNanos > 0 ? queue.poll(remainingNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Store what has been collected, then stop
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    writeBatch(batch);
+                } catch (Throwable e) {
+                    // writeBatch handles runtime exceptions itself; anything else must not end the loop
+                    log.error("Group commit of {} registrations failed", batch.size(), e);
+                    batch.forEach(pending -> pending.result.completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Stores a batch of registrations and completes their futures.
+     */
+    void writeBatch(List<PendingRegistration> batch) {
+        batchSizes.record(batch.size());
+        try {
+            List<PendingRegistration> accepted = rejectTakenKeys(batch);
+            if (accepted.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> store(accepted));
+                accepted.forEach(this::bumpVersion);
+                accepted.forEach(PendingRegistration::complete);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Group commit of {} registrations violated a constraint, storing them one by one", accepted.size());
+                accepted.forEach(this::writeSingle);
+            }
+        } catch (RuntimeException e) {
+            log.error("Group commit of {} registrations failed", batch.size(), e);
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Rejects registrations whose email or username belongs to an existing user or to an earlier
+     * registration of the same batch, with one query per key for the whole batch.
+     */
+    private List<PendingRegistration> rejectTakenKeys(List<PendingRegistration> batch) {
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmailKeys(
+                batch.stream().map(pending -> pending.emailKey).toList()));
+        Set<String> takenUsernames = new HashSet<>(userRepository.findExistingUsernameKeys(
+                batch.stream().map(pending -> pending.usernameKey).toList()));
+
+        List<PendingRegistration> accepted = new ArrayList<>(batch.size());
+        for (PendingRegistration pending : batch) {
+            if (takenEmails.contains(pending.emailKey)) {
+                pending.fail("Email is already registered: " + pending.user.getEmail());
+            } else if (takenUsernames.contains(pending.usernameKey)) {
+                pending.fail("Username is already taken: " + pending.user.getUsername());
+            } else {
+                takenEmails.add(pending.emailKey);
+                takenUsernames.add(pending.usernameKey);
+                accepted.add(pending);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Stores a single registration in its own transaction, after its batch failed.
+     */
+    private void writeSingle(PendingRegistration pending) {
+        // The failed batch already assigned an ID that was rolled back
+        pending.user.setId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> store(List.of(pending)));
+            bumpVersion(pending);
+            pending.complete();
+        } catch (DataIntegrityViolationException e) {
+            pending.fail("Username or email is already registered");
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Bumps the version of a committed registration's user. A failure is only logged, since the registration is stored.
+     */
+    private void bumpVersion(PendingRegistration pending) {
+        try {
+            entityVersionService.bump(VersionedAggregate.USER, pending.user.getId());
+        } catch (DataAccessException e) {
+            log.warn("Bumping the version of registered user {} failed: {}", pending.user.getId(), e.getMessage());
+        }
+    }
+
+    private void store(List<PendingRegistration> registrations) {
+        userRepository.saveAll(registrations.stream().map(pending -> pending.user).toList());
+        // Flush inside the transaction so that constraint violations surface as DataAccessExceptions here
+        userRepository.flush();
+    }
+
+    /**
+     * A registration waiting for its group commit.
+     */
+    static final class PendingRegistration {
+
+        private final User user;
+
+        private final String emailKey;
+
+        private final String usernameKey;
+
+        private final CompletableFuture<User> result = new CompletableFuture<>();
+
+        PendingRegistration(User user) {
+            this.user = user;
+            this.emailKey = User.normalizeKey(user.getEmail());
+            this.usernameKey = User.normalizeKey(user.getUsername());
+        }
+
+        void complete() {
+            result.complete(user);
+        }
+
+        void fail(String message) {
+            log.warn(message);
+            result.completeExceptionally(new AcademiaPortalException(message));
+        }
+    }
+}
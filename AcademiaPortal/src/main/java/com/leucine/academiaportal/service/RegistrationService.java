@@ -0,0 +1,44 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+
+/**
+ * Service interface for onboarding users together with their profile.
+ * Each method stores the profile's new user and the profile in a single transaction,
+ * so a user never exists without the profile of its role.
+ */
+public interface RegistrationService {
+
+    /**
+     * Registers a student: creates the profile's user with the STUDENT role and the student profile.
+     *
+     * @param studentProfile the student profile, holding the new user and optionally a department reference by ID
+     * @return the saved student profile, with its saved user
+     * @throws AcademiaPortalException if the user details are missing, the email or username is taken,
+     *                                 or the department does not exist
+     */
+    StudentProfile registerStudent(StudentProfile studentProfile) throws AcademiaPortalException;
+
+    /**
+     * Registers a faculty member: creates the profile's user with the FACULTY_MEMBER role and the faculty profile.
+     *
+     * @param facultyProfile the faculty profile, holding the new user and optionally a department reference by ID
+     * @return the saved faculty profile, with its saved user
+     * @throws AcademiaPortalException if the user details are missing, the email or username is taken,
+     *                                 or the department does not exist
+     */
+    FacultyProfile registerFaculty(FacultyProfile facultyProfile) throws AcademiaPortalException;
+
+    /**
+     * Registers an administrator: creates the profile's user with the ADMINISTRATOR role and the administrator profile.
+     *
+     * @param administratorProfile the administrator profile, holding the new user and a department reference by ID
+     * @return the saved administrator profile, with its saved user
+     * @throws AcademiaPortalException if the user details or department are missing, the email or username is taken,
+     *                                 or the department does not exist
+     */
+    AdministratorProfile registerAdministrator(AdministratorProfile administratorProfile) throws AcademiaPortalException;
+}
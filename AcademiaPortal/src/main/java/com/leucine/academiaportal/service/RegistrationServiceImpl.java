@@ -0,0 +1,161 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.config.CustomerUserDetailsService;
+import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.AdministratorProfileRepository;
+import com.leucine.academiaportal.repository.DepartmentRepository;
+import com.leucine.academiaportal.repository.FacultyProfileRepository;
+import com.leucine.academiaportal.repository.StudentProfileRepository;
+import com.leucine.academiaportal.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Service implementation for onboarding users together with their profile.
+ *
+ * Replaces registering a user and then creating its profile in a second request: the user and
+ * the profile are inserted in one transaction, so onboarding takes one round trip and one commit,
+ * and a failed profile leaves no user behind. The password is hashed before the transaction is
+ * opened, so no connection is held while BCrypt runs. Registrations are not group-committed by the
+ * {@link RegistrationBatcher}, whose batches hold users only.
+ */
+@Service
+@Slf4j
+public class RegistrationServiceImpl implements RegistrationService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentProfileRepository studentProfileRepository;
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private AdministratorProfileRepository administratorProfileRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Override
+    public StudentProfile registerStudent(StudentProfile studentProfile) {
+        return register(studentProfile.getUser(), Role.STUDENT, () -> {
+            studentProfile.setDepartment(findDepartment(studentProfile.getDepartment(), false));
+            return studentProfileRepository.save(studentProfile);
+        });
+    }
+
+    @Override
+    public FacultyProfile registerFaculty(FacultyProfile facultyProfile) {
+        return register(facultyProfile.getUser(), Role.FACULTY_MEMBER, () -> {
+            facultyProfile.setDepartment(findDepartment(facultyProfile.getDepartment(), false));
+            return facultyProfileRepository.save(facultyProfile);
+        });
+    }
+
+    @Override
+    public AdministratorProfile registerAdministrator(AdministratorProfile administratorProfile) {
+        return register(administratorProfile.getUser(), Role.ADMINISTRATOR, () -> {
+            administratorProfile.setDepartment(findDepartment(administratorProfile.getDepartment(), true));
+            return administratorProfileRepository.save(administratorProfile);
+        });
+    }
+
+    /**
+     * Checks and stores a new user and, in the same transaction, its profile.
+     * The version of the user is bumped once the transaction has committed.
+     *
+     * @param user the new user of the profile
+     * @param role the role of the profile; the user must have it or no role at all
+     * @param saveProfile saves the profile once the user has been stored
+     * @return the saved profile
+     */
+    private <P> P register(User user, Role role, Supplier<P> saveProfile) {
+        if (user == null) {
+            throw new AcademiaPortalException("User details are required");
+        }
+        if (user.getRole() != null && user.getRole() != role) {
+            throw new AcademiaPortalException("Role must be " + role + " for this registration");
+        }
+        log.info("Registering {} with username: {}", role, user.getUsername());
+
+        if (userRepository.existsByEmailKey(User.normalizeKey(user.getEmail()))) {
+            String errorMessage = "Email is already registered: " + user.getEmail();
+            log.warn(errorMessage);
+            throw new AcademiaPortalException(errorMessage);
+        }
+        if (userRepository.existsByUsernameKey(User.normalizeKey(user.getUsername()))) {
+            String errorMessage = "Username is already taken: " + user.getUsername();
+            log.warn(errorMessage);
+            throw new AcademiaPortalException(errorMessage);
+        }
+
+        user.setId(null);
+        user.setRole(role);
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        P savedProfile;
+        try {
+            savedProfile = transactionTemplate.execute(status -> {
+                userRepository.save(user);
+                return saveProfile.get();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration took the email or username after the checks above
+            log.warn("Registration of {} violated a unique constraint: {}", user.getUsername(), e.getMostSpecificCause().getMessage());
+            throw new AcademiaPortalException("Username or email is already registered");
+        }
+
+        customerUserDetailsService.evict(user);
+        userAvailabilityService.markTaken(user.getUsername(), user.getEmail());
+        entityVersionService.bump(VersionedAggregate.USER, user.getId());
+        log.info("{} registered with ID: {}", role, user.getId());
+        return savedProfile;
+    }
+
+    /**
+     * Loads the department a profile refers to by ID.
+     *
+     * @param reference the department reference from the request, holding at least the ID
+     * @param required whether the profile must belong to a department
+     * @return the department, or {@code null} if none is referenced and none is required
+     */
+    private Department findDepartment(Department reference, boolean required) {
+        if (reference == null || reference.getId() == null) {
+            if (required) {
+                throw new AcademiaPortalException("Department is required");
+            }
+            return null;
+        }
+        return departmentRepository.findById(reference.getId())
+                .orElseThrow(() -> new AcademiaPortalException("Department not found with ID: " + reference.getId()));
+    }
+}
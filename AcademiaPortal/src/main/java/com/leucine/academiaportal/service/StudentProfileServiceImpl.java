@@ -1,6 +1,7 @@
 package com.leucine.academiaportal.service;
 
 import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.StudentProfileRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +21,11 @@ public class StudentProfileServiceImpl implements StudentProfileService {
     @Autowired
     public StudentProfileRepository studentProfileRepository;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
-     * Saves a {@link StudentProfile} entity.
+     * Saves a {@link StudentProfile} entity and bumps the version of its user.
      *
      * @param studentProfile the student profile to be saved
      * @return the saved student profile entity
@@ -29,7 +33,9 @@ public class StudentProfileServiceImpl implements StudentProfileService {
     @Override
     public StudentProfile saveStudentProfile(StudentProfile studentProfile) {
         log.info("Saving student profile for user ID: {}", studentProfile.getUserId());
-        return studentProfileRepository.save(studentProfile);
+        StudentProfile savedProfile = studentProfileRepository.save(studentProfile);
+        entityVersionService.bump(VersionedAggregate.USER, savedProfile.getUserId());
+        return savedProfile;
     }
 
     /**
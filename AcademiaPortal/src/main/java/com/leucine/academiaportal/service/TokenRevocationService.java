@@ -0,0 +1,32 @@
+package com.leucine.academiaportal.service;
+
+import java.time.Instant;
+
+/**
+ * Service interface for revoking JWT tokens before they expire.
+ * Tokens are identified by their ID ({@code jti} claim).
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revokes a token. The revocation is stored, so it survives restarts and reaches other
+     * instances at their next rebuild.
+     *
+     * @param tokenId the ID of the token
+     * @param expiresAt the expiry of the token; the revocation is kept until then
+     */
+    void revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * Checks whether a token has been revoked.
+     *
+     * @param tokenId the ID of the token, or {@code null} for tokens issued without an ID
+     * @return {@code true} if the token has been revoked
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Prunes expired revocations and rebuilds the in-memory revocation set from the database.
+     */
+    void rebuild();
+}
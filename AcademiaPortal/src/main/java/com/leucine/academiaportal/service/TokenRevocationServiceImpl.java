@@ -0,0 +1,170 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.entity.RevokedToken;
+import com.leucine.academiaportal.repository.RevokedTokenRepository;
+import com.leucine.academiaportal.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for revoking JWT tokens before they expire.
+ *
+ * Revoked token IDs are stored in the database and mirrored in memory: an exact set of the
+ * revoked IDs fronted by a {@link BloomFilter}. Almost every token checked by
+ * {@link com.leucine.academiaportal.config.JwtTokenValidatorFilter} is not revoked, and the Bloom
+ * filter answers that in a few nanoseconds without touching the set; only Bloom filter hits,
+ * revoked tokens and rare false positives, reach the exact set.
+ *
+ * Bloom filters cannot forget elements, so the in-memory state is rebuilt periodically from the
+ * database, after pruning revocations whose tokens have expired anyway. Rebuilding also picks up
+ * revocations made by other instances.
+ */
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    /**
+     * The smallest number of elements a Bloom filter is sized for.
+     */
+    private static final int MINIMUM_CAPACITY = 1024;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final double falsePositiveProbability;
+
+    private final Counter falsePositives;
+
+    private final Counter revokedHits;
+
+    /**
+     * The current in-memory revocation set. Replaced as a whole on every rebuild.
+     */
+    private volatile RevocationSet revocationSet;
+
+    /**
+     * Creates the service with an empty revocation set.
+     *
+     * @param falsePositiveProbability the false positive probability of the Bloom filter at its sized capacity
+     * @param meterRegistry the registry the revocation metrics are published to
+     */
+    public TokenRevocationServiceImpl(
+            @Value("${academiaportal.security.revocation.false-positive-probability:0.001}") double falsePositiveProbability,
+            MeterRegistry meterRegistry) {
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.revocationSet = new RevocationSet(MINIMUM_CAPACITY, falsePositiveProbability);
+        this.falsePositives = meterRegistry.counter("token.revocation.lookups", "result", "false-positive");
+        this.revokedHits = meterRegistry.counter("token.revocation.lookups", "result", "revoked");
+        Gauge.builder("token.revocation.size", this, service -> service.revocationSet.expiries.size())
+                .description("Revoked tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the stored revocations at startup.
+     */
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    @Override
+    public synchronized void revoke(String tokenId, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (tokenId == null || !expiresAt.isAfter(now)) {
+            // Tokens without an ID cannot be revoked, and expired tokens are rejected anyway
+            return;
+        }
+
+        // Persist first, so a concurrent rebuild never loses the revocation
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt, now));
+        RevocationSet current = revocationSet;
+        current.add(tokenId, expiresAt.toEpochMilli());
+
+        // Resize early if the Bloom filter has outgrown its capacity before the next rebuild
+        if (current.expiries.size() > current.bloomFilter.getExpectedInsertions()) {
+            revocationSet = RevocationSet.copyOf(current.expiries, falsePositiveProbability, now.toEpochMilli());
+        }
+        log.info("Token revoked: {}", tokenId);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        RevocationSet current = revocationSet;
+        if (!current.bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        if (current.expiries.containsKey(tokenId)) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Prunes expired revocations and rebuilds the in-memory revocation set from the database.
+     * Runs periodically, and holds the same lock as {@link #revoke(String, Instant)} while reading,
+     * so no revocation made in the meantime is lost.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${academiaportal.security.revocation.rebuild-interval-millis:60000}",
+            fixedDelayString = "${academiaportal.security.revocation.rebuild-interval-millis:60000}")
+    public synchronized void rebuild() {
+        Instant now = Instant.now();
+        int pruned = revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        RevocationSet rebuilt = new RevocationSet(Math.max(MINIMUM_CAPACITY, revokedTokens.size() * 2L), falsePositiveProbability);
+        for (RevokedToken revokedToken : revokedTokens) {
+            rebuilt.add(revokedToken.getTokenId(), revokedToken.getExpiresAt().toEpochMilli());
+        }
+        revocationSet = rebuilt;
+        log.info("Token revocation set rebuilt with {} entries, {} expired entries pruned", revokedTokens.size(), pruned);
+    }
+
+    /**
+     * The revoked token IDs with their expiries, fronted by a Bloom filter.
+     */
+    private static final class RevocationSet {
+
+        private final BloomFilter bloomFilter;
+
+        private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+
+        RevocationSet(long capacity, double falsePositiveProbability) {
+            this.bloomFilter = new BloomFilter(capacity, falsePositiveProbability);
+        }
+
+        static RevocationSet copyOf(Map<String, Long> expiries, double falsePositiveProbability, long nowMillis) {
+            RevocationSet copy = new RevocationSet(Math.max(MINIMUM_CAPACITY, expiries.size() * 2L), falsePositiveProbability);
+            expiries.forEach((tokenId, expiresAtMillis) -> {
+                if (expiresAtMillis > nowMillis) {
+                    copy.add(tokenId, expiresAtMillis);
+                }
+            });
+            return copy;
+        }
+
+        void add(String tokenId, long expiresAtMillis) {
+            // Add to the exact set first, so a Bloom filter hit always finds the entry
+            expiries.put(tokenId, expiresAtMillis);
+            bloomFilter.add(tokenId);
+        }
+    }
+}
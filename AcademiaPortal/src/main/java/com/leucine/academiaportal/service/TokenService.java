@@ -0,0 +1,28 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.dto.TokenResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+
+/**
+ * Service interface for exchanging refresh tokens for new access tokens, and revoking tokens at logout.
+ */
+public interface TokenService {
+
+    /**
+     * Issues a new access token for the user a refresh token was issued to.
+     * The user's current authorities are looked up again, but no password check is performed.
+     *
+     * @param refreshToken the refresh token issued at login
+     * @return the new access token together with the refresh token to use next
+     * @throws BadCredentialsException if the refresh token is invalid or expired, or the user no longer exists
+     */
+    TokenResponse refresh(String refreshToken) throws BadCredentialsException;
+
+    /**
+     * Logs a user out by revoking their access token and, if given, their refresh token.
+     *
+     * @param accessToken the access token the logout request was authenticated with, or {@code null}
+     * @param refreshToken the refresh token issued at login, or {@code null}
+     */
+    void logout(String accessToken, String refreshToken);
+}
@@ -0,0 +1,101 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.config.CustomerUserDetailsService;
+import com.leucine.academiaportal.config.JwtAuthenticationCache;
+import com.leucine.academiaportal.config.JwtCodec;
+import com.leucine.academiaportal.dto.TokenResponse;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Service implementation for exchanging refresh tokens for new access tokens.
+ * Users are loaded through the cached {@link CustomerUserDetailsService}, so a refresh costs an
+ * HMAC check and, at most, one database lookup, but never a BCrypt check.
+ * Revoked refresh tokens are rejected.
+ */
+@Service
+@Slf4j
+public class TokenServiceImpl implements TokenService {
+
+    @Autowired
+    private JwtCodec jwtCodec;
+
+    @Autowired
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    /**
+     * Issues a new access token for the user a refresh token was issued to.
+     * The refresh token itself is returned unchanged and stays valid until it expires.
+     *
+     * @param refreshToken the refresh token issued at login
+     * @return the new access token together with the refresh token to use next
+     * @throws BadCredentialsException if the refresh token is invalid or expired, or the user no longer exists
+     */
+    @Override
+    public TokenResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BadCredentialsException("Refresh token is missing.");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtCodec.parseRefresh(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid refresh token received: {}", e.getMessage());
+            throw new BadCredentialsException("Invalid refresh token received.");
+        }
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            log.warn("Revoked refresh token received: {}", claims.getId());
+            throw new BadCredentialsException("Invalid refresh token received.");
+        }
+
+        // Look up the current authorities, so role changes take effect at the next refresh
+        String username = claims.get("username", String.class);
+        UserDetails userDetails = customerUserDetailsService.loadUserByUsername(username);
+        String accessToken = jwtCodec.issue(userDetails.getUsername(), userDetails.getAuthorities());
+        log.info("Access token refreshed for user: {}", username);
+        return new TokenResponse(accessToken, refreshToken,
+                TimeUnit.MILLISECONDS.toSeconds(jwtCodec.getExpirationMillis()));
+    }
+
+    /**
+     * Logs a user out by revoking their access token and, if given, their refresh token.
+     * Invalid or expired tokens are skipped, since they are rejected anyway.
+     *
+     * @param accessToken the access token the logout request was authenticated with, or {@code null}
+     * @param refreshToken the refresh token issued at login, or {@code null}
+     */
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            revoke(accessToken, jwtCodec::parse);
+            jwtAuthenticationCache.invalidate(accessToken);
+        }
+        if (refreshToken != null) {
+            revoke(refreshToken, jwtCodec::parseRefresh);
+        }
+    }
+
+    private void revoke(String token, Function<String, Claims> parser) {
+        try {
+            Claims claims = parser.apply(token);
+            tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Skipping revocation of invalid token: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.dto.UsageReport;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Service interface for tracking who uses which endpoints, for capacity planning.
+ * Tracking is approximate and constant in memory: distinct users are estimated, not stored.
+ */
+public interface UsageTrackingService {
+
+    /**
+     * Records a handled request.
+     *
+     * @param endpoint the path pattern of the handler, e.g. {@code /api/student/profile/{id}}
+     * @param method the HTTP method
+     * @param authentication the authentication of the caller, or {@code null} for anonymous requests
+     */
+    void recordRequest(String endpoint, String method, Authentication authentication);
+
+    /**
+     * Returns a snapshot of the active users and request counts.
+     *
+     * @return the usage report
+     */
+    UsageReport report();
+}
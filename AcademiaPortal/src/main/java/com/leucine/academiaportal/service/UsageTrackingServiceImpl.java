@@ -0,0 +1,231 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.config.RoleClaims;
+import com.leucine.academiaportal.dto.UsageReport;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.util.HyperLogLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Service implementation for tracking active users and request counts.
+ *
+ * Distinct active users are estimated with one {@link HyperLogLog} sketch per role and UTC day,
+ * kept for the last 30 days in a ring; the monthly figure is the union of those sketches. Memory
+ * stays constant however many users are active, and recording a request never takes a lock.
+ *
+ * Requests are counted per endpoint pattern, HTTP method and role in {@link LongAdder}s, which
+ * stripe contended increments across cells. The counters are published to Micrometer as
+ * {@code http.server.usage} and read only when the metrics are scraped.
+ */
+@Service
+public class UsageTrackingServiceImpl implements UsageTrackingService {
+
+    private static final int DAYS_PER_MONTH = 30;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final Role[] ROLES = Role.values();
+
+    /**
+     * Counter slot of requests without a role: anonymous callers, or authorities that are not roles.
+     */
+    private static final int ANONYMOUS = ROLES.length;
+
+    private static final String ANONYMOUS_LABEL = "ANONYMOUS";
+
+    private final int precision;
+
+    private final MeterRegistry meterRegistry;
+
+    private final LongSupplier clock;
+
+    /**
+     * The sketches of the last 30 days, at index {@code epochDay % 30}. A slot still holding an
+     * older day is replaced by the first request of the new day.
+     */
+    private final AtomicReferenceArray<DaySketches> days = new AtomicReferenceArray<>(DAYS_PER_MONTH);
+
+    /**
+     * Request counters by endpoint pattern and HTTP method, one per role plus one for anonymous requests.
+     */
+    private final Map<String, Map<String, LongAdder[]>> requestCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the service and registers the active user gauges.
+     *
+     * @param precision the precision of the HyperLogLog sketches, see {@link HyperLogLog#HyperLogLog(int)}
+     * @param meterRegistry the registry the usage metrics are published to
+     */
+    @Autowired
+    public UsageTrackingServiceImpl(
+            @Value("${academiaportal.usage.hll-precision:14}") int precision,
+            MeterRegistry meterRegistry) {
+        this(precision, meterRegistry, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the service with the given clock.
+     *
+     * @param precision the precision of the HyperLogLog sketches
+     * @param meterRegistry the registry the usage metrics are published to
+     * @param clock the current time in epoch milliseconds
+     */
+    public UsageTrackingServiceImpl(int precision, MeterRegistry meterRegistry, LongSupplier clock) {
+        // Fails fast on an invalid precision
+        new HyperLogLog(precision);
+        this.precision = precision;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        for (Role role : ROLES) {
+            int index = role.ordinal();
+            Gauge.builder("users.active", this, service -> service.dailyActiveUsers(index))
+                    .tags("role", role.name(), "window", "daily")
+                    .register(meterRegistry);
+            Gauge.builder("users.active", this, service -> service.monthlyActiveUsers(index))
+                    .tags("role", role.name(), "window", "monthly")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void recordRequest(String endpoint, String method, Authentication authentication) {
+        int role = roleIndex(authentication);
+        counters(endpoint, method)[role].increment();
+        if (role != ANONYMOUS) {
+            today().byRole[role].add(authentication.getName());
+        }
+    }
+
+    @Override
+    public UsageReport report() {
+        Map<String, UsageReport.ActiveUsers> activeUsers = new LinkedHashMap<>();
+        double standardError = new HyperLogLog(precision).getStandardError();
+        for (Role role : ROLES) {
+            activeUsers.put(role.name(), new UsageReport.ActiveUsers(
+                    dailyActiveUsers(role.ordinal()), monthlyActiveUsers(role.ordinal()), standardError));
+        }
+        List<UsageReport.EndpointUsage> requests = new ArrayList<>();
+        requestCounts.forEach((endpoint, byMethod) -> byMethod.forEach((method, counters) -> {
+            for (int role = 0; role < counters.length; role++) {
+                long count = counters[role].sum();
+                if (count > 0) {
+                    requests.add(new UsageReport.EndpointUsage(endpoint, method, roleLabel(role), count));
+                }
+            }
+        }));
+        requests.sort(Comparator.comparing(UsageReport.EndpointUsage::endpoint)
+                .thenComparing(UsageReport.EndpointUsage::method)
+                .thenComparing(UsageReport.EndpointUsage::role));
+        return new UsageReport(activeUsers, requests);
+    }
+
+    private long dailyActiveUsers(int role) {
+        long day = currentDay();
+        DaySketches sketches = days.get(slot(day));
+        return sketches != null && sketches.epochDay == day ? sketches.byRole[role].estimate() : 0;
+    }
+
+    private long monthlyActiveUsers(int role) {
+        long day = currentDay();
+        HyperLogLog union = new HyperLogLog(precision);
+        for (int i = 0; i < DAYS_PER_MONTH; i++) {
+            DaySketches sketches = days.get(i);
+            if (sketches != null && sketches.epochDay > day - DAYS_PER_MONTH && sketches.epochDay <= day) {
+                union.merge(sketches.byRole[role]);
+            }
+        }
+        return union.estimate();
+    }
+
+    private DaySketches today() {
+        long day = currentDay();
+        int slot = slot(day);
+        DaySketches sketches = days.get(slot);
+        if (sketches == null || sketches.epochDay < day) {
+            DaySketches fresh = new DaySketches(day, precision);
+            // Only one thread starts the new day; the others use its sketches
+            sketches = days.compareAndSet(slot, sketches, fresh) ? fresh : days.get(slot);
+        }
+        return sketches;
+    }
+
+    private LongAdder[] counters(String endpoint, String method) {
+        // Plain lookups first: computeIfAbsent may lock the bin even when the key is present
+        Map<String, LongAdder[]> byMethod = requestCounts.get(endpoint);
+        if (byMethod == null) {
+            byMethod = requestCounts.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>());
+        }
+        LongAdder[] counters = byMethod.get(method);
+        if (counters == null) {
+            counters = byMethod.computeIfAbsent(method, key -> registerCounters(endpoint, key));
+        }
+        return counters;
+    }
+
+    private LongAdder[] registerCounters(String endpoint, String method) {
+        LongAdder[] counters = new LongAdder[ROLES.length + 1];
+        for (int role = 0; role < counters.length; role++) {
+            counters[role] = new LongAdder();
+            FunctionCounter.builder("http.server.usage", counters[role], LongAdder::sum)
+                    .tags("endpoint", endpoint, "method", method, "role", roleLabel(role))
+                    .register(meterRegistry);
+        }
+        return counters;
+    }
+
+    private long currentDay() {
+        return Math.floorDiv(clock.getAsLong(), MILLIS_PER_DAY);
+    }
+
+    private static int slot(long day) {
+        return (int) Math.floorMod(day, (long) DAYS_PER_MONTH);
+    }
+
+    private static int roleIndex(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return ANONYMOUS;
+        }
+        int mask = RoleClaims.toMask(authentication.getAuthorities());
+        // Users have a single role; the lowest one counts if there ever are more
+        return mask > 0 ? Integer.numberOfTrailingZeros(mask) : ANONYMOUS;
+    }
+
+    private static String roleLabel(int role) {
+        return role == ANONYMOUS ? ANONYMOUS_LABEL : ROLES[role].name();
+    }
+
+    /**
+     * The active user sketches of one UTC day, one per role.
+     */
+    private static final class DaySketches {
+
+        private final long epochDay;
+
+        private final HyperLogLog[] byRole = new HyperLogLog[ROLES.length];
+
+        DaySketches(long epochDay, int precision) {
+            this.epochDay = epochDay;
+            for (int role = 0; role < byRole.length; role++) {
+                byRole[role] = new HyperLogLog(precision);
+            }
+        }
+    }
+}
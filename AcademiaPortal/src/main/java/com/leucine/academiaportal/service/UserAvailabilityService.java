@@ -0,0 +1,42 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+
+/**
+ * Service interface for checking whether usernames and emails can still be registered.
+ * Both are compared by their normalized keys, see {@link com.leucine.academiaportal.entity.User#normalizeKey(String)}.
+ */
+public interface UserAvailabilityService {
+
+    /**
+     * Checks whether a username is still available.
+     *
+     * @param username the username
+     * @return {@code true} if no user has this username
+     * @throws AcademiaPortalException if the username is blank
+     */
+    boolean isUsernameAvailable(String username) throws AcademiaPortalException;
+
+    /**
+     * Checks whether an email is still available.
+     *
+     * @param email the email
+     * @return {@code true} if no user has this email
+     * @throws AcademiaPortalException if the email is blank
+     */
+    boolean isEmailAvailable(String email) throws AcademiaPortalException;
+
+    /**
+     * Records the username and email of a newly stored user as taken.
+     * Must be called after the user has been committed.
+     *
+     * @param username the username of the user
+     * @param email the email of the user
+     */
+    void markTaken(String username, String email);
+
+    /**
+     * Rebuilds the in-memory set of taken usernames and emails from the database.
+     */
+    void rebuild();
+}
@@ -0,0 +1,182 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.UserRepository;
+import com.leucine.academiaportal.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Service implementation for checking whether usernames and emails can still be registered.
+ *
+ * The sign-up form asks on every keystroke, and almost every answer is "available". All taken
+ * usernames and emails are therefore kept in a {@link BloomFilter}, warmed from the database at
+ * startup and updated whenever a user is stored. A key the filter has never seen is available
+ * without any database access; only "maybe taken" answers are confirmed with an existence query.
+ *
+ * The filter cannot forget keys and only learns about users stored by this instance, so it is
+ * rebuilt from the database periodically, and early when it outgrows its capacity.
+ */
+@Service
+@Slf4j
+public class UserAvailabilityServiceImpl implements UserAvailabilityService {
+
+    /**
+     * The smallest number of keys a Bloom filter is sized for.
+     */
+    private static final int MINIMUM_CAPACITY = 1024;
+
+    private static final String USERNAME_PREFIX = "u:";
+
+    private static final String EMAIL_PREFIX = "e:";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final double falsePositiveProbability;
+
+    private final Counter filterAnswers;
+
+    private final Counter databaseAnswers;
+
+    /**
+     * The filter answering availability checks. Replaced as a whole on every rebuild.
+     */
+    private volatile TakenKeys takenKeys;
+
+    /**
+     * The filter being loaded by a running rebuild, or {@code null}. Keys taken meanwhile are added to it as well.
+     */
+    private volatile TakenKeys rebuilding;
+
+    /**
+     * Creates the service with an empty filter.
+     *
+     * @param falsePositiveProbability the false positive probability of the Bloom filter at its sized capacity
+     * @param meterRegistry the registry the lookup metrics are published to
+     */
+    public UserAvailabilityServiceImpl(
+            @Value("${academiaportal.availability.false-positive-probability:0.01}") double falsePositiveProbability,
+            MeterRegistry meterRegistry) {
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.takenKeys = new TakenKeys(MINIMUM_CAPACITY, falsePositiveProbability);
+        this.filterAnswers = meterRegistry.counter("user.availability.lookups", "answered-by", "filter");
+        this.databaseAnswers = meterRegistry.counter("user.availability.lookups", "answered-by", "database");
+    }
+
+    /**
+     * Loads the taken usernames and emails at startup.
+     */
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    @Override
+    public boolean isUsernameAvailable(String username) {
+        return isAvailable(USERNAME_PREFIX, "Username", username, userRepository::existsByUsernameKey);
+    }
+
+    @Override
+    public boolean isEmailAvailable(String email) {
+        return isAvailable(EMAIL_PREFIX, "Email", email, userRepository::existsByEmailKey);
+    }
+
+    @Override
+    public void markTaken(String username, String email) {
+        // Add to a running rebuild first: once it has been swapped in, the key is already there
+        TakenKeys loading = rebuilding;
+        if (loading != null) {
+            loading.add(username, email);
+        }
+        TakenKeys current = takenKeys;
+        current.add(username, email);
+        if (current.size.get() > current.bloomFilter.getExpectedInsertions()) {
+            synchronized (this) {
+                // Only the first caller to notice rebuilds
+                if (takenKeys == current) {
+                    log.info("Availability filter outgrew its capacity of {} keys, rebuilding", current.bloomFilter.getExpectedInsertions());
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the database. Runs periodically to pick up users stored by other
+     * instances, and when the filter outgrows its capacity.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${academiaportal.availability.rebuild-interval-millis:3600000}",
+            fixedDelayString = "${academiaportal.availability.rebuild-interval-millis:3600000}")
+    public synchronized void rebuild() {
+        long expectedUsers = Math.max(userRepository.count(), takenKeys.size.get() / 2);
+        // Two keys per user, with room for as many registrations again before the next rebuild
+        TakenKeys rebuilt = new TakenKeys(Math.max(MINIMUM_CAPACITY, expectedUsers * 4), falsePositiveProbability);
+        rebuilding = rebuilt;
+        try {
+            List<UserRepository.LookupKeys> lookupKeys = userRepository.findAllLookupKeys();
+            for (UserRepository.LookupKeys keys : lookupKeys) {
+                rebuilt.addKeys(keys.getUsernameKey(), keys.getEmailKey());
+            }
+            takenKeys = rebuilt;
+            log.info("Availability filter rebuilt with {} users", lookupKeys.size());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private boolean isAvailable(String prefix, String label, String value, Predicate<String> existsInDatabase) {
+        String key = User.normalizeKey(value);
+        if (key == null || key.isEmpty()) {
+            throw new AcademiaPortalException(label + " must not be blank");
+        }
+        if (!takenKeys.bloomFilter.mightContain(prefix + key)) {
+            filterAnswers.increment();
+            return true;
+        }
+        // Maybe taken: the filter can be wrong in this direction only, so ask the database
+        databaseAnswers.increment();
+        return !existsInDatabase.test(key);
+    }
+
+    /**
+     * The normalized keys of the taken usernames and emails, in a Bloom filter.
+     */
+    private static final class TakenKeys {
+
+        private final BloomFilter bloomFilter;
+
+        private final AtomicLong size = new AtomicLong();
+
+        TakenKeys(long capacity, double falsePositiveProbability) {
+            this.bloomFilter = new BloomFilter(capacity, falsePositiveProbability);
+        }
+
+        void add(String username, String email) {
+            addKeys(User.normalizeKey(username), User.normalizeKey(email));
+        }
+
+        void addKeys(String usernameKey, String emailKey) {
+            if (usernameKey != null) {
+                bloomFilter.add(USERNAME_PREFIX + usernameKey);
+                size.incrementAndGet();
+            }
+            if (emailKey != null) {
+                bloomFilter.add(EMAIL_PREFIX + emailKey);
+                size.incrementAndGet();
+            }
+        }
+    }
+}
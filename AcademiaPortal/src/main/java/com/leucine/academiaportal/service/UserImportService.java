@@ -0,0 +1,40 @@
+package com.leucine.academiaportal.service;
+
+import com.leucine.academiaportal.dto.UserImportReport;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for importing users in bulk, e.g. when onboarding students and faculty at the start of a term.
+ */
+public interface UserImportService {
+
+    /**
+     * The supported formats of an import file.
+     */
+    enum Format {
+
+        /**
+         * Comma-separated values with a header row naming the columns.
+         */
+        CSV,
+
+        /**
+         * Newline-delimited JSON: one JSON object per line.
+         */
+        NDJSON
+    }
+
+    /**
+     * Imports users together with their student or faculty profile.
+     * The input is read as a stream, so memory use does not depend on the size of the file.
+     * Invalid rows are skipped and reported; all other rows are imported.
+     *
+     * @param input the import file, UTF-8 encoded
+     * @param format the format of the file
+     * @return a report of the imported and rejected rows
+     * @throws AcademiaPortalException if the file cannot be read at all, e.g. because the CSV header is missing
+     */
+    UserImportReport importUsers(InputStream input, Format format) throws AcademiaPortalException;
+}
@@ -0,0 +1,501 @@
+package com.leucine.academiaportal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leucine.academiaportal.config.OffloadingPasswordEncoder;
+import com.leucine.academiaportal.dto.UserImportError;
+import com.leucine.academiaportal.dto.UserImportReport;
+import com.leucine.academiaportal.dto.UserImportRow;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.DepartmentRepository;
+import com.leucine.academiaportal.repository.FacultyProfileRepository;
+import com.leucine.academiaportal.repository.StudentProfileRepository;
+import com.leucine.academiaportal.repository.UserRepository;
+import com.leucine.academiaportal.util.CsvParser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Service implementation for importing users in bulk.
+ *
+ * The file is read line by line and processed in chunks of a fixed size, so memory use stays flat
+ * however large the file is. For each chunk:
+ * <ol>
+ *     <li>rows are validated, and duplicates within the chunk and against existing users are rejected
+ *     with one existence query per key;</li>
+ *     <li>passwords are hashed in parallel on the shared password hashing pool, with a bounded number
+ *     of hashes in flight so interactive logins keep their share of the pool;</li>
+ *     <li>users and their student or faculty profiles are saved in a single transaction. Their IDs come
+ *     from pooled sequences, so Hibernate sends the inserts as JDBC batches. If the chunk fails, it is
+ *     retried row by row to find the culprits.</li>
+ * </ol>
+ */
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    /**
+     * The roles that can be imported; each comes with its own profile table.
+     */
+    private static final Set<Role> IMPORTABLE_ROLES = Set.of(Role.STUDENT, Role.FACULTY_MEMBER);
+
+    /**
+     * The CSV columns every import file must have.
+     */
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "password", "role", "name", "email", "departmentid");
+
+    /**
+     * How long to wait before resubmitting a hash the saturated hashing pool rejected.
+     */
+    private static final long HASHING_RETRY_MILLIS = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentProfileRepository studentProfileRepository;
+
+    @Autowired
+    private FacultyProfileRepository facultyProfileRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${academiaportal.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${academiaportal.import.max-in-flight-hashes:32}")
+    private int maxInFlightHashes;
+
+    @Value("${academiaportal.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${academiaportal.password.hashing.timeout-millis:5000}")
+    private long hashingTimeoutMillis;
+
+    /**
+     * Imports users together with their student or faculty profile, chunk by chunk.
+     *
+     * @param input the import file, UTF-8 encoded
+     * @param format the format of the file
+     * @return a report of the imported and rejected rows
+     * @throws AcademiaPortalException if the file cannot be read at all, e.g. because the CSV header is missing
+     */
+    @Override
+    public UserImportReport importUsers(InputStream input, Format format) {
+        Set<Long> departmentIds = new HashSet<>(departmentRepository.findAllIds());
+        ImportProgress progress = new ImportProgress(maxReportedErrors);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            Function<String, UserImportRow> rowReader;
+            if (format == Format.CSV) {
+                String header = reader.readLine();
+                lineNumber++;
+                if (header == null) {
+                    throw new AcademiaPortalException("The import file is empty");
+                }
+                rowReader = csvRowReader(header);
+            } else {
+                rowReader = this::readJsonRow;
+            }
+
+            List<PendingRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.processed++;
+                try {
+                    chunk.add(new PendingRow(lineNumber, rowReader.apply(line)));
+                } catch (IllegalArgumentException e) {
+                    progress.fail(lineNumber, "Malformed row: " + e.getMessage());
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, departmentIds, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, departmentIds, progress);
+            }
+        } catch (IOException e) {
+            throw new AcademiaPortalException("Could not read the import file: " + e.getMessage());
+        }
+
+        log.info("User import finished: {} rows processed, {} imported, {} failed",
+                progress.processed, progress.imported, progress.failed);
+        return progress.toReport();
+    }
+
+    /**
+     * Records the username and email of an imported row as taken for the availability checks,
+     * and bumps the version of the new user once its chunk has been committed.
+     */
+    private void markImported(PendingRow row) {
+        userAvailabilityService.markTaken(row.row.username(), row.row.email());
+        try {
+            entityVersionService.bump(VersionedAggregate.USER, row.userId);
+        } catch (DataAccessException e) {
+            // The user is stored; a failed bump must not send the row through the row-by-row retry
+            log.warn("Bumping the version of imported user {} failed: {}", row.userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Validates, hashes and inserts one chunk of rows.
+     */
+    private void importChunk(List<PendingRow> chunk, Set<Long> departmentIds, ImportProgress progress) {
+        List<PendingRow> valid = hashPasswords(rejectExistingUsers(validate(chunk, departmentIds, progress), progress), progress);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(valid));
+            progress.imported += valid.size();
+            valid.forEach(this::markImported);
+        } catch (DataAccessException e) {
+            log.warn("Batch insert of {} users failed, retrying row by row: {}", valid.size(), e.getMessage());
+            for (PendingRow row : valid) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                    progress.imported++;
+                    markImported(row);
+                } catch (DataIntegrityViolationException duplicate) {
+                    progress.fail(row.line, "Username or email is already registered");
+                } catch (DataAccessException rowException) {
+                    progress.fail(row.line, "Could not be stored: " + rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        log.debug("Imported chunk of {} users", valid.size());
+    }
+
+    /**
+     * Checks the required fields, role and department of each row, and rejects duplicates within the chunk.
+     */
+    private List<PendingRow> validate(List<PendingRow> chunk, Set<Long> departmentIds, ImportProgress progress) {
+        List<PendingRow> valid = new ArrayList<>(chunk.size());
+        Set<String> usernameKeys = new HashSet<>();
+        Set<String> emailKeys = new HashSet<>();
+        for (PendingRow pending : chunk) {
+            UserImportRow row = pending.row;
+            String error = null;
+            if (isBlank(row.username()) || isBlank(row.password()) || isBlank(row.name()) || isBlank(row.email())
+                    || isBlank(row.role()) || row.departmentId() == null) {
+                error = "username, password, role, name, email and departmentId are required";
+            } else if (row.email().indexOf('@') <= 0) {
+                error = "Email should be valid: " + row.email();
+            } else if (row.username().indexOf('@') >= 0) {
+                error = "Username must not contain '@': " + row.username();
+            } else if (row.phone() != null && row.phone().length() > 15) {
+                error = "Phone number must be less than 15 characters";
+            } else if (!departmentIds.contains(row.departmentId())) {
+                error = "Department not found with ID: " + row.departmentId();
+            } else {
+                pending.role = parseRole(row.role());
+                if (pending.role == null) {
+                    error = "Role must be one of " + IMPORTABLE_ROLES + ": " + row.role();
+                }
+            }
+
+            if (error == null) {
+                pending.usernameKey = User.normalizeKey(row.username());
+                pending.emailKey = User.normalizeKey(row.email());
+                if (!usernameKeys.add(pending.usernameKey)) {
+                    error = "Duplicate username in the import file: " + row.username();
+                } else if (!emailKeys.add(pending.emailKey)) {
+                    error = "Duplicate email in the import file: " + row.email();
+                }
+            }
+
+            if (error == null) {
+                valid.add(pending);
+            } else {
+                progress.fail(pending.line, error);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Rejects rows whose username or email is already registered, with one query per key.
+     */
+    private List<PendingRow> rejectExistingUsers(List<PendingRow> rows, ImportProgress progress) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmailKeys(
+                rows.stream().map(row -> row.emailKey).toList()));
+        Set<String> existingUsernames = new HashSet<>(userRepository.findExistingUsernameKeys(
+                rows.stream().map(row -> row.usernameKey).toList()));
+
+        List<PendingRow> remaining = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            if (existingEmails.contains(row.emailKey)) {
+                progress.fail(row.line, "Email is already registered: " + row.row.email());
+            } else if (existingUsernames.contains(row.usernameKey)) {
+                progress.fail(row.line, "Username is already taken: " + row.row.username());
+            } else {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Hashes the passwords of all rows in parallel, with at most {@code maxInFlightHashes} hashes
+     * queued on or running in the shared hashing pool at a time.
+     */
+    private List<PendingRow> hashPasswords(List<PendingRow> rows, ImportProgress progress) {
+        Semaphore inFlight = new Semaphore(maxInFlightHashes);
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rows.size());
+        try {
+            for (PendingRow row : rows) {
+                inFlight.acquire();
+                CompletableFuture<String> hash = submitHash(row.row.password());
+                hash.whenComplete((encoded, e) -> inFlight.release());
+                hashes.add(hash);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AcademiaPortalException("User import interrupted");
+        }
+
+        List<PendingRow> hashed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            try {
+                row.encodedPassword = hashes.get(i).join();
+                hashed.add(row);
+            } catch (CompletionException e) {
+                progress.fail(row.line, "Password could not be hashed: " + e.getCause().getMessage());
+            }
+        }
+        return hashed;
+    }
+
+    /**
+     * Submits a password to the hashing pool, retrying while the pool is saturated, e.g. by a burst of
+     * logins, for at most the hashing timeout.
+     */
+    private CompletableFuture<String> submitHash(String rawPassword) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + hashingTimeoutMillis;
+        while (true) {
+            try {
+                return passwordEncoder.encodeAsync(rawPassword);
+            } catch (AuthenticationServiceException e) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return CompletableFuture.failedFuture(e);
+                }
+                Thread.sleep(HASHING_RETRY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Saves the users and their student or faculty profiles and flushes them, so that Hibernate
+     * sends them as batched inserts ordered by table. Must run in a transaction.
+     *
+     * The persistence context is cleared afterwards, whether the flush succeeded or not. Under
+     * open-in-view every chunk's transaction joins the entity manager bound to the request, which
+     * would otherwise keep every imported entity managed, and dirty-check all of them on each
+     * later flush, until the request ends.
+     */
+    private void insert(List<PendingRow> rows) {
+        List<User> users = new ArrayList<>(rows.size());
+        List<StudentProfile> students = new ArrayList<>();
+        List<FacultyProfile> faculty = new ArrayList<>();
+        for (PendingRow row : rows) {
+            User user = new User(null, row.row.username().trim(), row.encodedPassword, row.role, row.row.name().trim(),
+                    row.row.email().trim(), blankToNull(row.row.phone()), null, null, null, null);
+            users.add(user);
+            Department department = departmentRepository.getReferenceById(row.row.departmentId());
+            if (row.role == Role.STUDENT) {
+                students.add(new StudentProfile(null, user, blankToNull(row.row.photo()), department, blankToNull(row.row.year())));
+            } else {
+                faculty.add(new FacultyProfile(null, user, blankToNull(row.row.photo()), department, blankToNull(row.row.officeHours())));
+            }
+        }
+        try {
+            userRepository.saveAll(users);
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).userId = users.get(i).getId();
+            }
+            studentProfileRepository.saveAll(students);
+            facultyProfileRepository.saveAll(faculty);
+            // Flush through a repository so that constraint violations are translated to DataAccessExceptions
+            userRepository.flush();
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Creates a reader mapping CSV rows to {@link UserImportRow} by the column names in the header.
+     * Column names are matched case-insensitively; a byte order mark at the start of the header is ignored.
+     */
+    private static Function<String, UserImportRow> csvRowReader(String header) {
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        List<String> headerFields = CsvParser.parseLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new AcademiaPortalException("The CSV header is missing the columns: " + String.join(", ", missing));
+        }
+
+        return line -> {
+            List<String> fields = CsvParser.parseLine(line);
+            Function<String, String> field = column -> {
+                Integer index = columns.get(column);
+                return index == null || index >= fields.size() ? null : blankToNull(fields.get(index));
+            };
+            String departmentId = field.apply("departmentid");
+            return new UserImportRow(field.apply("username"), field.apply("password"), field.apply("role"),
+                    field.apply("name"), field.apply("email"), field.apply("phone"),
+                    departmentId == null ? null : Long.valueOf(departmentId),
+                    field.apply("year"), field.apply("officehours"), field.apply("photo"));
+        };
+    }
+
+    private UserImportRow readJsonRow(String line) {
+        try {
+            return objectMapper.readValue(line, UserImportRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+    }
+
+    private static Role parseRole(String role) {
+        try {
+            Role parsed = Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+            return IMPORTABLE_ROLES.contains(parsed) ? parsed : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value.trim();
+    }
+
+    /**
+     * A row on its way through a chunk, with the values derived from it.
+     */
+    private static final class PendingRow {
+
+        private final long line;
+
+        private final UserImportRow row;
+
+        private Role role;
+
+        private String usernameKey;
+
+        private String emailKey;
+
+        private String encodedPassword;
+
+        /**
+         * The ID assigned to the user of the row when it was saved.
+         */
+        private Long userId;
+
+        PendingRow(long line, UserImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+    }
+
+    /**
+     * The counters and the bounded error list of an import.
+     */
+    private static final class ImportProgress {
+
+        private final int maxReportedErrors;
+
+        private final List<UserImportError> errors = new ArrayList<>();
+
+        private long processed;
+
+        private long imported;
+
+        private long failed;
+
+        ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportError(line, message));
+            }
+        }
+
+        UserImportReport toReport() {
+            return new UserImportReport(processed, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
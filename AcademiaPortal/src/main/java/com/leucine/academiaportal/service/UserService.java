@@ -23,13 +23,23 @@ public interface UserService {
     Optional<User> findByUsernameOrEmail(@Nullable String usernameOrEmail) throws AcademiaPortalException;
 
     /**
-     * Saves a {@link User} entity.
+     * Saves a {@link User} entity registering themselves.
      * This method will save the user entity to the repository. If the user with the given email already exists,
+     * or the user's role is not one users may register themselves with (student or faculty member),
      * an {@link AcademiaPortalException} will be thrown.
      *
      * @param user the user entity to be saved
      * @return the saved user entity
-     * @throws AcademiaPortalException if the user with the given email already exists
+     * @throws AcademiaPortalException if the role is not allowed or the user with the given email already exists
      */
     User saveUser(User user) throws AcademiaPortalException;
+
+    /**
+     * Replaces the stored password hash of a {@link User}.
+     * Used to upgrade hashes created with an outdated BCrypt cost.
+     *
+     * @param email the email of the user
+     * @param encodedPassword the new, already encoded password
+     */
+    void updatePassword(String email, String encodedPassword);
 }
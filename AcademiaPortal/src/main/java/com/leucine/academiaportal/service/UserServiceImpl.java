@@ -1,13 +1,20 @@
 package com.leucine.academiaportal.service;
 
+import com.leucine.academiaportal.config.CustomerUserDetailsService;
 import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service implementation for managing {@link User} entities.
@@ -17,9 +24,29 @@ import java.util.Optional;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    /**
+     * The roles users may register themselves with; administrators are registered by administrators.
+     */
+    private static final Set<Role> SELF_REGISTRATION_ROLES = Set.of(Role.STUDENT, Role.FACULTY_MEMBER);
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @Autowired
+    private RegistrationBatcher registrationBatcher;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
      * Finds a user by username or email.
      * Searches for a user with the given username or email in the repository.
@@ -32,7 +59,7 @@ public class UserServiceImpl implements UserService {
     public Optional<User> findByUsernameOrEmail(String usernameOrEmail) {
         log.info("Searching for user with username or email: {}", usernameOrEmail);
 
-        Optional<User> userOptional = userRepository.findByUsernameOrEmail(usernameOrEmail);
+        Optional<User> userOptional = userRepository.findByLogin(usernameOrEmail);
         return userOptional
                 .map(user -> {
                     log.info("User found with username or email: {}", usernameOrEmail);
@@ -46,25 +73,81 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Saves a new user.
-     * Checks if a user with the given email already exists before saving the new user.
+     * Saves a new user registering themselves.
+     * Only the {@link #SELF_REGISTRATION_ROLES student and faculty member roles} are accepted.
+     * Checks if a user with the given email or username already exists before saving the new user.
+     * The checks are existence-only queries on the normalized keys and never load a user.
+     * The password is BCrypt-hashed on the password hashing pool before it is stored,
+     * and any cached login details of the user are evicted. The username and email are then
+     * recorded as taken for the availability checks, and the version of the user is bumped.
+     * When group commit is enabled, the user is stored together with concurrent registrations
+     * by the {@link RegistrationBatcher}, which checks the email and username again for the whole batch.
      *
      * @param user the {@link User} entity to save
      * @return the saved {@link User} entity
-     * @throws AcademiaPortalException if a user with the provided email already exists
+     * @throws AcademiaPortalException if the role is missing or not allowed, or a user with the provided email or username already exists
      */
     @Override
     public User saveUser(User user) {
         log.info("Attempting to save user with email: {}", user.getEmail());
 
-        boolean emailExists = userRepository.findByUsernameOrEmail(user.getEmail()).isPresent();
+        if (!SELF_REGISTRATION_ROLES.contains(user.getRole())) {
+            String errorMessage = "Role must be one of " + SELF_REGISTRATION_ROLES + ": " + user.getRole();
+            log.warn(errorMessage);
+            throw new AcademiaPortalException(errorMessage);
+        }
+
+        boolean emailExists = userRepository.existsByEmailKey(User.normalizeKey(user.getEmail()));
         if (emailExists) {
             String errorMessage = "Email is already registered: " + user.getEmail();
             log.warn(errorMessage);
             throw new AcademiaPortalException(errorMessage);
         }
 
+        boolean usernameExists = userRepository.existsByUsernameKey(User.normalizeKey(user.getUsername()));
+        if (usernameExists) {
+            String errorMessage = "Username is already taken: " + user.getUsername();
+            log.warn(errorMessage);
+            throw new AcademiaPortalException(errorMessage);
+        }
+
         log.info("Saving user with username: {}", user.getUsername());
-        return userRepository.save(user);
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        User savedUser;
+        if (registrationBatcher.isEnabled()) {
+            // The batcher bumps the versions of the users it stores
+            savedUser = registrationBatcher.save(user);
+        } else {
+            savedUser = userRepository.save(user);
+            entityVersionService.bump(VersionedAggregate.USER, savedUser.getId());
+        }
+        customerUserDetailsService.evict(savedUser);
+        userAvailabilityService.markTaken(savedUser.getUsername(), savedUser.getEmail());
+        return savedUser;
+    }
+
+    /**
+     * Replaces the stored password hash of a user and evicts their cached login details.
+     *
+     * @param email the email of the user
+     * @param encodedPassword the new, already encoded password
+     */
+    @Override
+    public void updatePassword(String email, String encodedPassword) {
+        int updated = userRepository.updatePasswordByEmailKey(User.normalizeKey(email), encodedPassword);
+        customerUserDetailsService.evictByEmail(email);
+        log.info("Password hash updated for {} ({} row(s))", email, updated);
+    }
+
+    /**
+     * Fills in the normalized lookup keys of users stored before the keys were introduced.
+     * Runs once the application has started; a no-op when all users already have their keys.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLookupKeys() {
+        int updated = userRepository.backfillLookupKeys();
+        if (updated > 0) {
+            log.info("Lookup keys backfilled for {} user(s)", updated);
+        }
     }
 }
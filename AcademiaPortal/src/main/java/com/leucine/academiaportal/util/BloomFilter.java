@@ -0,0 +1,105 @@
+package com.leucine.academiaportal.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ *
+ * A Bloom filter answers "definitely not present" or "possibly present" for a fixed amount of
+ * memory. Lookups and insertions are lock-free and allocation-free: the bit positions are derived
+ * from one 64-bit {@link Hashing#hash64(CharSequence) hash} by double hashing, and bits are set
+ * with compare-and-set. Elements cannot be removed; a filter is rebuilt instead.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final long expectedInsertions;
+
+    /**
+     * Creates a filter sized for the given number of elements and false positive probability.
+     *
+     * @param expectedInsertions the number of elements the filter is sized for
+     * @param falsePositiveProbability the desired false positive probability at that size, between 0 and 1
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+        // Optimal sizing: m = -n ln p / (ln 2)^2 bits and k = m / n ln 2 hash functions
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * Adds an element.
+     *
+     * @param value the element
+     */
+    public void add(CharSequence value) {
+        long hash = Hashing.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Checks whether an element may have been added.
+     *
+     * @param value the element
+     * @return {@code false} if the element was definitely never added, {@code true} if it possibly was
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash = Hashing.hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of elements the filter was sized for
+     */
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * @return the number of bits of the filter
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    private long index(int combinedHash) {
+        // Flip negative hashes so every bit position is reachable
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitCount;
+    }
+}
@@ -0,0 +1,328 @@
+package com.leucine.academiaportal.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index ranking documents with Okapi BM25.
+ *
+ * Documents are identified by a {@code long} key and mapped to dense {@code int} ordinals; each
+ * term's postings are parallel {@code int} arrays of ordinals and term frequencies, kept sorted by
+ * ordinal. A query touches only the postings of its terms, accumulates the scores of the matching
+ * documents in a hash table sized by those postings, and keeps the best {@code k} documents in a
+ * bounded heap, so its cost depends on how many documents match, not on the size of the index.
+ *
+ * Documents can be added, replaced and removed at any time; a replaced or removed document is taken
+ * out of every posting list of its terms, so document frequencies stay exact.
+ * Not thread-safe: callers must synchronize access.
+ */
+public class Bm25Index {
+
+    private static final float K1 = 1.2f;
+
+    private static final float B = 0.75f;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private final Map<Long, Integer> ordinalByKey = new HashMap<>();
+
+    /**
+     * By ordinal: the key, the length (sum of term frequencies) and the distinct terms of each
+     * document. Ordinals are never reused; the terms of removed documents are {@code null}.
+     */
+    private long[] keys = new long[16];
+
+    private int[] lengths = new int[16];
+
+    private String[][] terms = new String[16][];
+
+    private int nextOrdinal;
+
+    private int documentCount;
+
+    private long totalLength;
+
+    /**
+     * Splits text into normalized terms: accents are stripped, letters lower-cased, and every run of
+     * characters that are neither letters nor digits separates two terms.
+     *
+     * @param text the text, may be {@code null}
+     * @return the terms in order of appearance, with repetitions
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : NON_WORD.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds a document, replacing any document with the same key.
+     *
+     * @param key the document's key
+     * @param termFrequencies the (weighted) number of occurrences of each term in the document
+     */
+    public void put(long key, Map<String, Integer> termFrequencies) {
+        remove(key);
+        int ordinal = nextOrdinal++;
+        if (ordinal == keys.length) {
+            keys = Arrays.copyOf(keys, ordinal * 2);
+            lengths = Arrays.copyOf(lengths, ordinal * 2);
+            terms = Arrays.copyOf(terms, ordinal * 2);
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+            // New ordinals are the largest, so appending keeps every posting list sorted
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings()).append(ordinal, entry.getValue());
+            length += entry.getValue();
+        }
+        keys[ordinal] = key;
+        lengths[ordinal] = length;
+        terms[ordinal] = termFrequencies.keySet().toArray(String[]::new);
+        ordinalByKey.put(key, ordinal);
+        documentCount++;
+        totalLength += length;
+    }
+
+    /**
+     * Removes a document.
+     *
+     * @param key the document's key
+     * @return {@code true} if the document was indexed
+     */
+    public boolean remove(long key) {
+        Integer ordinal = ordinalByKey.remove(key);
+        if (ordinal == null) {
+            return false;
+        }
+        for (String term : terms[ordinal]) {
+            Postings list = postings.get(term);
+            list.remove(ordinal);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        documentCount--;
+        totalLength -= lengths[ordinal];
+        terms[ordinal] = null;
+        return true;
+    }
+
+    /**
+     * Finds the documents best matching the query terms.
+     *
+     * @param queryTerms the query terms; repeated terms count once
+     * @param limit the maximum number of results
+     * @return the matching documents, best first
+     */
+    public List<Hit> search(List<String> queryTerms, int limit) {
+        if (documentCount == 0 || limit <= 0) {
+            return List.of();
+        }
+        List<Postings> lists = new ArrayList<>();
+        int postingCount = 0;
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                lists.add(list);
+                postingCount += list.size;
+            }
+        }
+        if (postingCount == 0) {
+            return List.of();
+        }
+        float averageLength = (float) totalLength / documentCount;
+        // No more documents can match than there are postings, so the table never has to grow
+        Scores scores = new Scores(postingCount);
+        for (Postings list : lists) {
+            float idf = (float) Math.log(1 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = list.ordinals[i];
+                int frequency = list.frequencies[i];
+                scores.add(ordinal, idf * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * lengths[ordinal] / averageLength)));
+            }
+        }
+        return top(scores, limit);
+    }
+
+    /**
+     * @return the number of indexed documents
+     */
+    public int size() {
+        return documentCount;
+    }
+
+    /**
+     * Selects the best documents with a bounded min-heap of score table slots, ordered by score and then by key.
+     */
+    private List<Hit> top(Scores scores, int limit) {
+        int[] heap = new int[Math.min(limit, scores.size)];
+        int heapSize = 0;
+        for (int slot = 0; slot < scores.ordinals.length; slot++) {
+            if (scores.ordinals[slot] == Scores.EMPTY) {
+                continue;
+            }
+            if (heapSize < heap.length) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++, scores);
+            } else if (worse(heap[0], slot, scores)) {
+                heap[0] = slot;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        Hit[] hits = new Hit[heapSize];
+        // Popping the minimum fills the result from the back
+        for (int i = heapSize - 1; i >= 0; i--) {
+            hits[i] = new Hit(keys[scores.ordinals[heap[0]]], scores.values[heap[0]]);
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return Arrays.asList(hits);
+    }
+
+    /**
+     * Whether the document in slot {@code a} ranks below the document in slot {@code b}.
+     */
+    private boolean worse(int a, int b, Scores scores) {
+        float scoreA = scores.values[a];
+        float scoreB = scores.values[b];
+        return scoreA < scoreB || (scoreA == scoreB && keys[scores.ordinals[a]] > keys[scores.ordinals[b]]);
+    }
+
+    private void siftUp(int[] heap, int index, Scores scores) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!worse(heap[index], heap[parent], scores)) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size, Scores scores) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && worse(heap[left], heap[smallest], scores)) {
+                smallest = left;
+            }
+            if (right < size && worse(heap[right], heap[smallest], scores)) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int swapped = heap[i];
+        heap[i] = heap[j];
+        heap[j] = swapped;
+    }
+
+    /**
+     * A matching document.
+     *
+     * @param key the document's key
+     * @param score the BM25 score, higher is better
+     */
+    public record Hit(long key, float score) {}
+
+    /**
+     * The scores of the documents matching a query, in an open-addressing hash table keyed by ordinal
+     * with linear probing. Sized for at most half occupancy and never resized.
+     */
+    private static final class Scores {
+
+        static final int EMPTY = -1;
+
+        private final int[] ordinals;
+
+        private final float[] values;
+
+        private final int mask;
+
+        private int size;
+
+        /**
+         * @param maxEntries the maximum number of documents that will be added
+         */
+        Scores(int maxEntries) {
+            int capacity = Integer.highestOneBit(maxEntries * 2 - 1) << 1;
+            ordinals = new int[capacity];
+            Arrays.fill(ordinals, EMPTY);
+            values = new float[capacity];
+            mask = capacity - 1;
+        }
+
+        void add(int ordinal, float score) {
+            int hash = ordinal * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (ordinals[slot] != ordinal) {
+                if (ordinals[slot] == EMPTY) {
+                    ordinals[slot] = ordinal;
+                    size++;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            values[slot] += score;
+        }
+    }
+
+    /**
+     * The documents containing a term, as parallel arrays sorted by ordinal.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+
+        private int[] frequencies = new int[4];
+
+        private int size;
+
+        void append(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size++] = frequency;
+        }
+
+        void remove(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index >= 0) {
+                System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+                System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.leucine.academiaportal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal parser for single CSV lines as described in RFC 4180.
+ * Fields may be quoted with double quotes, and quotes inside quoted fields are escaped by doubling
+ * them. Quoted fields spanning several lines are not supported.
+ */
+public final class CsvParser {
+
+    private CsvParser() {
+    }
+
+    /**
+     * Splits a CSV line into its fields.
+     *
+     * @param line the line, without the line terminator
+     * @return the unquoted fields; empty fields are returned as empty strings
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,68 @@
+package com.leucine.academiaportal.util;
+
+import java.util.List;
+
+/**
+ * Minimal writer of single CSV lines as described in RFC 4180, the counterpart of {@link CsvParser}.
+ * Fields containing commas, quotes or line breaks are quoted, and quotes inside them are doubled.
+ *
+ * Text fields starting with a character that spreadsheets read as the start of a formula
+ * ({@code = + - @}, tab or carriage return) are prefixed with a single quote, so an exported
+ * value can never run as a formula when the file is opened in a spreadsheet.
+ */
+public final class CsvWriter {
+
+    private CsvWriter() {
+    }
+
+    /**
+     * Formats fields as a CSV line.
+     *
+     * @param fields the fields; {@code null} is written as an empty field, anything else by its {@code toString()}
+     * @return the line, without a line terminator
+     */
+    public static String formatLine(List<?> fields) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                appendField(line, field instanceof CharSequence text ? neutralizeFormula(text.toString()) : field.toString());
+            }
+        }
+        return line.toString();
+    }
+
+    private static String neutralizeFormula(String text) {
+        if (text.isEmpty()) {
+            return text;
+        }
+        return switch (text.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + text;
+            default -> text;
+        };
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        boolean quote = false;
+        for (int i = 0; i < field.length() && !quote; i++) {
+            char c = field.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(field);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,45 @@
+package com.leucine.academiaportal.util;
+
+/**
+ * Fast, non-cryptographic hash functions for in-memory data structures such as {@link BloomFilter}.
+ * Not suitable for anything security-related.
+ */
+public final class Hashing {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private Hashing() {
+    }
+
+    /**
+     * Computes a well-mixed 64-bit hash of a string.
+     * Each character is folded into the state and the result is finished with the MurmurHash3
+     * finalizer, so that all output bits depend on all input bits.
+     *
+     * @param value the string to hash
+     * @return the 64-bit hash
+     */
+    public static long hash64(CharSequence value) {
+        long h = SEED ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+            h = Long.rotateLeft(h, 31);
+        }
+        return fmix64(h);
+    }
+
+    /**
+     * The 64-bit finalizer of MurmurHash3.
+     *
+     * @param h the value to mix
+     * @return the mixed value
+     */
+    public static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85EC9L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
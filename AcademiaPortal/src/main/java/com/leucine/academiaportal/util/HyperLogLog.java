@@ -0,0 +1,125 @@
+package com.leucine.academiaportal.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Thread-safe HyperLogLog sketch for estimating the number of distinct values in a stream.
+ *
+ * The sketch has {@code 2^precision} one-byte registers; each value is hashed once, the top
+ * {@code precision} bits pick a register and the register keeps the maximum rank (position of the
+ * first set bit) seen in the remaining bits. The standard error of the estimate is about
+ * {@code 1.04 / sqrt(2^precision)}, e.g. 0.8% for precision 14, in 16 KB regardless of the number
+ * of values. Sketches of the same precision can be merged to estimate the size of a union.
+ *
+ * Registers are updated with a compare-and-set, so concurrent adds never lose a maximum and
+ * never block each other.
+ */
+public class HyperLogLog {
+
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final int precision;
+
+    private final byte[] registers;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param precision the number of bits used to select a register, between 4 and 18
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value the value
+     */
+    public void add(CharSequence value) {
+        addHash(Hashing.hash64(value));
+    }
+
+    /**
+     * Adds a value to the sketch by its 64-bit hash.
+     *
+     * @param hash the well-mixed hash of the value
+     */
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // A guard bit bounds the rank when all remaining bits are zero
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        raise(index, (byte) rank);
+    }
+
+    /**
+     * Merges another sketch into this one, which then estimates the union of both.
+     *
+     * @param other the sketch to merge, of the same precision
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches of precision " + other.precision + " and " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            raise(i, other.registers[i]);
+        }
+    }
+
+    /**
+     * Estimates the number of distinct values added so far.
+     *
+     * @return the estimated number of distinct values
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Small cardinalities: linear counting over the empty registers is more accurate
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * @return the number of bits used to select a register
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * @return the standard error of the estimate, relative to the true count
+     */
+    public double getStandardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    private void raise(int index, byte rank) {
+        while (true) {
+            byte current = (byte) REGISTERS.getVolatile(registers, index);
+            if (current >= rank || REGISTERS.compareAndSet(registers, index, current, rank)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.leucine.academiaportal.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix trie of terms with occurrence counts, for autocompletion.
+ *
+ * Each node keeps its children in a char array sorted for binary search, so a lookup walks one node
+ * per prefix character. Completions are the terms below the prefix's node with the highest counts.
+ * Not thread-safe: callers must synchronize access.
+ */
+public class PrefixTrie {
+
+    private static final Comparator<Completion> RANKING = Comparator.comparingLong(Completion::count)
+            .thenComparing(Completion::term, Comparator.reverseOrder());
+
+    private final Node root = new Node();
+
+    /**
+     * Adds one occurrence of a term.
+     *
+     * @param term the term
+     */
+    public void add(String term) {
+        Node node = root;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.childOrCreate(term.charAt(i));
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one occurrence of a term; a term whose count drops to zero is no longer completed.
+     *
+     * @param term the term
+     */
+    public void remove(String term) {
+        Node node = find(term);
+        if (node != null && node.count > 0) {
+            node.count--;
+        }
+    }
+
+    /**
+     * Returns the terms starting with a prefix, most frequent first and alphabetically among equals.
+     *
+     * @param prefix the prefix
+     * @param limit the maximum number of terms
+     * @return the completions, possibly including the prefix itself if it is a term
+     */
+    public List<String> complete(String prefix, int limit) {
+        Node node = find(prefix);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Completion> best = new PriorityQueue<>(RANKING);
+        collect(node, new StringBuilder(prefix), best, limit);
+        List<String> completions = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            completions.add(best.poll().term());
+        }
+        Collections.reverse(completions);
+        return completions;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, StringBuilder term, PriorityQueue<Completion> best, int limit) {
+        if (node.count > 0) {
+            Completion completion = new Completion(term.toString(), node.count);
+            if (best.size() < limit) {
+                best.add(completion);
+            } else if (RANKING.compare(completion, best.peek()) > 0) {
+                best.poll();
+                best.add(completion);
+            }
+        }
+        for (int i = 0; i < node.size; i++) {
+            term.append(node.labels[i]);
+            collect(node.children[i], term, best, limit);
+            term.setLength(term.length() - 1);
+        }
+    }
+
+    private record Completion(String term, long count) {}
+
+    private static final class Node {
+
+        private char[] labels = new char[0];
+
+        private Node[] children = new Node[0];
+
+        private int size;
+
+        private long count;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, 0, size, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, 0, size, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(2, size * 2));
+                children = Arrays.copyOf(children, labels.length);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, size - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, size - insertAt);
+            Node child = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = child;
+            size++;
+            return child;
+        }
+    }
+}
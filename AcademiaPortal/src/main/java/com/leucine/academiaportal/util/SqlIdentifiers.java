@@ -0,0 +1,53 @@
+package com.leucine.academiaportal.util;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Quoting of SQL identifiers for hand-written statements.
+ *
+ * Some table names, like {@code user}, are reserved words on some databases: PostgreSQL only accepts
+ * {@code "user"}, MySQL {@code user} or {@code `user`}. The quote character and the letter case the
+ * database stores unquoted identifiers in are taken from the JDBC driver, so a quoted identifier names
+ * the same table as the unquoted one the entities and the schema use.
+ */
+public final class SqlIdentifiers {
+
+    private SqlIdentifiers() {
+    }
+
+    /**
+     * Quotes an identifier for the database behind the given template.
+     *
+     * @param jdbcTemplate the template whose database the identifier is used with
+     * @param identifier the identifier, as written unquoted
+     * @return the quoted identifier
+     */
+    public static String quote(JdbcTemplate jdbcTemplate, String identifier) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> quote(connection.getMetaData(), identifier));
+    }
+
+    /**
+     * Quotes an identifier for the database described by the given metadata.
+     *
+     * @param metaData the metadata of the database
+     * @param identifier the identifier, as written unquoted
+     * @return the quoted identifier, or the identifier itself if the database does not support quoting
+     * @throws SQLException if the metadata cannot be read
+     */
+    public static String quote(DatabaseMetaData metaData, String identifier) throws SQLException {
+        String quote = metaData.getIdentifierQuoteString().trim();
+        if (quote.isEmpty()) {
+            return identifier;
+        }
+        // Quoted identifiers are case sensitive, so use the case the database folds unquoted ones to
+        String name = metaData.storesUpperCaseIdentifiers() ? identifier.toUpperCase(Locale.ROOT)
+                : metaData.storesLowerCaseIdentifiers() ? identifier.toLowerCase(Locale.ROOT)
+                : identifier;
+        return quote + name + quote;
+    }
+}
@@ -0,0 +1,16 @@
+-- One-off migration for MySQL databases created while entity IDs were AUTO_INCREMENT columns.
+-- Run it before starting the application on such a database. Hibernate emulates the ID sequences with
+-- single-row tables on MySQL and only seeds them when it creates them, so the tables are created here,
+-- starting one block of 50 past the highest existing ID.
+
+CREATE TABLE IF NOT EXISTS user_seq (next_val BIGINT);
+INSERT INTO user_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM `user`;
+
+CREATE TABLE IF NOT EXISTS department_seq (next_val BIGINT);
+INSERT INTO department_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM department;
+
+CREATE TABLE IF NOT EXISTS course_seq (next_val BIGINT);
+INSERT INTO course_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM course;
+
+CREATE TABLE IF NOT EXISTS enrollment_seq (next_val BIGINT);
+INSERT INTO enrollment_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM enrollment;
@@ -1,20 +1,35 @@
 -- Enum for Role
 CREATE TYPE role AS ENUM ('STUDENT', 'FACULTY_MEMBER', 'ADMINISTRATOR');
 
+-- ID sequences. Hibernate allocates IDs from these in blocks of 50 (pooled optimizer), so the
+-- increment must match the allocationSize of the entities
+CREATE SEQUENCE user_seq START WITH 1 INCREMENT BY 50;
+-- The seeded departments below keep IDs 1 to 4. The pooled optimizer takes a sequence value as the
+-- upper end of a block, so starting at 100 hands out 51 to 100 first and never reaches the seeded IDs
+CREATE SEQUENCE department_seq START WITH 100 INCREMENT BY 50;
+CREATE SEQUENCE course_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE enrollment_seq START WITH 1 INCREMENT BY 50;
+
 -- User Table
 CREATE TABLE "user" (
-    id SERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     username VARCHAR(50) UNIQUE NOT NULL,
     password VARCHAR(255) NOT NULL,
     role role NOT NULL,
     name VARCHAR(100) NOT NULL,
     email VARCHAR(100) UNIQUE NOT NULL,
-    phone VARCHAR(15)
+    phone VARCHAR(15),
+    username_key VARCHAR(50),
+    email_key VARCHAR(100),
+    last_login_at TIMESTAMP,
+    login_count BIGINT,
+    CONSTRAINT uk_user_username_key UNIQUE (username_key),
+    CONSTRAINT uk_user_email_key UNIQUE (email_key)
 );
 
 -- Department Table
 CREATE TABLE department (
-    id SERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     description TEXT
 );
@@ -50,7 +65,7 @@ CREATE TABLE administrator_profile (
 
 -- Course Table
 CREATE TABLE course (
-    id SERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     title VARCHAR(100) NOT NULL,
     description TEXT,
     department_id INTEGER NOT NULL,
@@ -61,16 +76,33 @@ CREATE TABLE course (
 
 -- Enrollment Table
 CREATE TABLE enrollment (
-    id SERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     student_id INTEGER NOT NULL,
     course_id INTEGER NOT NULL,
     FOREIGN KEY (student_id) REFERENCES student_profile(user_id) ON DELETE CASCADE,
     FOREIGN KEY (course_id) REFERENCES course(id) ON DELETE CASCADE
 );
 
+-- RevokedToken Table
+CREATE TABLE revoked_token (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
+
+-- EntityVersion Table: one row per changed aggregate, version 0 when absent
+CREATE TABLE entity_version (
+    aggregate VARCHAR(32) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (aggregate, aggregate_id)
+);
+CREATE INDEX idx_course_department_id_id ON course (department_id, id);
+
 -- Insert some data into Department
-INSERT INTO department (name, description) VALUES
-('Computer Science', 'Department of Computer Science'),
-('Mathematics', 'Department of Mathematics'),
-('Physics', 'Department of Physics'),
-('Chemistry', 'Department of Chemistry');
+INSERT INTO department (id, name, description) VALUES
+(1, 'Computer Science', 'Department of Computer Science'),
+(2, 'Mathematics', 'Department of Mathematics'),
+(3, 'Physics', 'Department of Physics'),
+(4, 'Chemistry', 'Department of Chemistry');
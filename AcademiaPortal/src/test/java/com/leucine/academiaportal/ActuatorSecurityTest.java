@@ -0,0 +1,85 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.JwtCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the authorization of the actuator endpoints.
+ * Runs the full security filter chain through MockMvc against an in-memory H2 database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:actuator;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+public class ActuatorSecurityTest {
+
+    private static final String SECRET = "{\"secret\":\"a-student-chosen-secret-of-at-least-32-bytes\",\"activate\":true}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtCodec jwtCodec;
+
+    /**
+     * Tests that a student can neither add, activate nor remove JWT signing keys.
+     */
+    @Test
+    void testStudentCannotRotateKeys() throws Exception {
+        String activeKeyId = jwtCodec.getActiveKeyId();
+
+        mockMvc.perform(post("/actuator/jwtkeys/{keyId}", "student-key").with(user("sam").roles("STUDENT"))
+                        .contentType(MediaType.APPLICATION_JSON).content(SECRET))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/jwtkeys/{keyId}", activeKeyId).with(user("sam").roles("STUDENT")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/jwtkeys").with(user("sam").roles("STUDENT")))
+                .andExpect(status().isForbidden());
+
+        assertFalse(jwtCodec.getKeyIds().contains("student-key"));
+        assertTrue(jwtCodec.getKeyIds().contains(activeKeyId));
+        assertEquals(activeKeyId, jwtCodec.getActiveKeyId());
+    }
+
+    /**
+     * Tests that an administrator can add a key, and that health stays available to any authenticated caller.
+     */
+    @Test
+    void testAdministratorCanAddKey() throws Exception {
+        mockMvc.perform(post("/actuator/jwtkeys/{keyId}", "admin-key").with(user("ada").roles("ADMINISTRATOR"))
+                        .contentType(MediaType.APPLICATION_JSON).content(SECRET.replace(",\"activate\":true", "")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/health").with(user("sam").roles("STUDENT")))
+                .andExpect(status().isOk());
+
+        assertTrue(jwtCodec.getKeyIds().contains("admin-key"));
+    }
+
+    /**
+     * Tests that the usage report, which lists every endpoint and the active users per role, is for administrators only.
+     */
+    @Test
+    void testOnlyAdministratorsCanReadUsage() throws Exception {
+        mockMvc.perform(get("/actuator/usage").with(user("sam").roles("STUDENT")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/usage").with(user("fay").roles("FACULTY_MEMBER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/usage").with(user("ada").roles("ADMINISTRATOR")))
+                .andExpect(status().isOk());
+    }
+}
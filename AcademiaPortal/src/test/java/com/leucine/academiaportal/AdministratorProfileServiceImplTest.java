@@ -1,11 +1,14 @@
 package com.leucine.academiaportal;
 
 import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.AdministratorProfileRepository;
+import com.leucine.academiaportal.service.EntityVersionService;
 import com.leucine.academiaportal.service.AdministratorProfileServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -21,6 +24,9 @@ public class AdministratorProfileServiceImplTest {
     // Mocked repository used for testing
     private AdministratorProfileRepository administratorProfileRepository;
 
+    // Mocked version service used for testing
+    private EntityVersionService entityVersionService;
+
     // Service instance to be tested
     private AdministratorProfileServiceImpl administratorProfileService;
 
@@ -32,10 +38,12 @@ public class AdministratorProfileServiceImplTest {
     void setUp() {
         // Initialize the mock repository
         administratorProfileRepository = mock(AdministratorProfileRepository.class);
+        entityVersionService = mock(EntityVersionService.class);
 
         // Create an instance of the service and inject the mock repository
         administratorProfileService = new AdministratorProfileServiceImpl();
         administratorProfileService.administratorProfileRepository = administratorProfileRepository;
+        ReflectionTestUtils.setField(administratorProfileService, "entityVersionService", entityVersionService);
     }
 
     /**
@@ -58,8 +66,9 @@ public class AdministratorProfileServiceImplTest {
         assertNotNull(savedProfile);
         assertEquals(1L, savedProfile.getUserId());
 
-        // Verify that the repository's save method was called once
+        // Verify that the repository's save method was called once and the user's version was bumped
         verify(administratorProfileRepository, times(1)).save(profile);
+        verify(entityVersionService, times(1)).bump(VersionedAggregate.USER, 1L);
     }
 
     /**
@@ -0,0 +1,111 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.service.LoginActivityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for {@link com.leucine.academiaportal.controller.AuthController}.
+ * Runs registration, login and logout through the full security filter chain with MockMvc,
+ * against an in-memory H2 database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:auth;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+public class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Tests that logging out with the Authorization header exactly as issued at login revokes the access token.
+     */
+    @Test
+    void testLogoutRevokesTokenAsIssued() throws Exception {
+        register("sam", "STUDENT");
+        String token = mockMvc.perform(at(get("/api/auth/login")).with(httpBasic("sam@example.com", "Secret123!")))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Authorization");
+        assertFalse(token.startsWith("Bearer "));
+        mockMvc.perform(at(get("/api/courses")).header("Authorization", token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(at(post("/api/auth/logout")).header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        // The validator filter rejects the revoked token before the request reaches the controller
+        assertThrows(BadCredentialsException.class,
+                () -> mockMvc.perform(at(get("/api/courses")).header("Authorization", token)));
+    }
+
+    /**
+     * Tests that only logins are recorded as login activity, not other requests authenticated with HTTP Basic credentials.
+     */
+    @Test
+    void testOnlyLoginsAreRecorded() throws Exception {
+        register("kim", "STUDENT");
+        mockMvc.perform(at(get("/api/auth/login")).with(httpBasic("kim@example.com", "Secret123!")))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(at(get("/api/courses")).with(httpBasic("kim@example.com", "Secret123!")))
+                .andExpect(status().isOk());
+
+        loginActivityService.flush();
+
+        assertEquals(1, jdbcTemplate.queryForObject("select login_count from user where username = 'kim'", Integer.class));
+        assertNotNull(jdbcTemplate.queryForObject("select last_login_at from user where username = 'kim'", Object.class));
+    }
+
+    /**
+     * Tests that the public registration endpoint does not let anyone register as an administrator.
+     */
+    @Test
+    void testRegisteringAsAdministratorIsRejected() throws Exception {
+        mockMvc.perform(at(post("/api/auth/register")).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"mallory\",\"password\":\"Secret123!\",\"role\":\"ADMINISTRATOR\","
+                                + "\"name\":\"Mallory\",\"email\":\"mallory@example.com\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from user where username = 'mallory'", Integer.class));
+    }
+
+    private void register(String username, String role) throws Exception {
+        mockMvc.perform(at(post("/api/auth/register")).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"Secret123!\",\"role\":\"" + role
+                        + "\",\"name\":\"Sam\",\"email\":\"" + username + "@example.com\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    /**
+     * Sets the servlet path, which the security filters match on, to the request URI.
+     */
+    private static MockHttpServletRequestBuilder at(MockHttpServletRequestBuilder request) {
+        return request.with(r -> {
+            r.setServletPath(r.getRequestURI());
+            return r;
+        });
+    }
+}
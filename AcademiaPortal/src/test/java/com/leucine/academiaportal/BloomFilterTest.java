@@ -0,0 +1,62 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.util.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link BloomFilter}.
+ * This class contains test cases for membership checks and the false positive rate.
+ */
+public class BloomFilterTest {
+
+    /**
+     * Tests that added elements are always reported as possibly present.
+     */
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            bloomFilter.add(values[i]);
+        }
+
+        for (String value : values) {
+            assertTrue(bloomFilter.mightContain(value));
+        }
+    }
+
+    /**
+     * Tests that the false positive rate at the sized capacity stays close to the configured probability.
+     */
+    @Test
+    void testFalsePositiveRate() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Allow twice the configured probability to keep the test stable
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+    }
+
+    /**
+     * Tests that invalid sizing parameters are rejected.
+     */
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.5));
+    }
+}
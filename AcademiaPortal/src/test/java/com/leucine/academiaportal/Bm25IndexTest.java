@@ -0,0 +1,108 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.util.Bm25Index;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link Bm25Index}.
+ * This class contains test cases for tokenizing, ranking and updating documents.
+ */
+public class Bm25IndexTest {
+
+    /**
+     * Tests that text is split into lower-cased terms without accents or punctuation.
+     */
+    @Test
+    void testTokenize() {
+        assertEquals(List.of("intro", "to", "algebre", "ii", "2024"), Bm25Index.tokenize("Intro to Algèbre-II (2024)!"));
+        assertEquals(List.of(), Bm25Index.tokenize("  --  "));
+        assertEquals(List.of(), Bm25Index.tokenize(null));
+    }
+
+    /**
+     * Tests that rarer terms and more occurrences in shorter documents rank higher,
+     * and that documents matching no query term are not returned.
+     */
+    @Test
+    void testRanking() {
+        Bm25Index index = new Bm25Index();
+        index.put(1, terms("data structures in java"));
+        index.put(2, terms("java java programming"));
+        index.put(3, terms("introduction to programming with python and a long description of java"));
+        index.put(4, terms("organic chemistry"));
+
+        List<Bm25Index.Hit> hits = index.search(List.of("java"), 10);
+        assertEquals(List.of(2L, 1L, 3L), hits.stream().map(Bm25Index.Hit::key).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+
+        // "structures" appears in one document only and outweighs the common "java"
+        assertEquals(1L, index.search(List.of("java", "structures"), 1).get(0).key());
+        assertEquals(List.of(), index.search(List.of("biology"), 10));
+    }
+
+    /**
+     * Tests that only the best documents are returned, ties broken by key.
+     */
+    @Test
+    void testTopK() {
+        Bm25Index index = new Bm25Index();
+        for (long key = 100; key > 0; key--) {
+            index.put(key, terms(key % 10 == 0 ? "calculus calculus" : "calculus and more words"));
+        }
+
+        List<Bm25Index.Hit> hits = index.search(List.of("calculus"), 3);
+        assertEquals(List.of(10L, 20L, 30L), hits.stream().map(Bm25Index.Hit::key).toList());
+    }
+
+    /**
+     * Tests that replacing and removing documents takes their old terms out of the index.
+     */
+    @Test
+    void testReplaceAndRemove() {
+        Bm25Index index = new Bm25Index();
+        index.put(1, terms("linear algebra"));
+        index.put(2, terms("abstract algebra"));
+
+        index.put(1, terms("real analysis"));
+        assertEquals(2, index.size());
+        assertEquals(List.of(), index.search(List.of("linear"), 10));
+        assertEquals(List.of(1L), index.search(List.of("analysis"), 10).stream().map(Bm25Index.Hit::key).toList());
+
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertEquals(List.of(), index.search(List.of("algebra"), 10));
+        assertEquals(1, index.size());
+    }
+
+    /**
+     * Tests that a document matching several query terms is returned once, scored with the sum of its term scores,
+     * including among many documents whose ordinals collide in the score table.
+     */
+    @Test
+    void testScoresAreSummedPerDocument() {
+        Bm25Index index = new Bm25Index();
+        for (long key = 1; key <= 1000; key++) {
+            index.put(key, terms(key % 3 == 0 ? "number theory" : key % 3 == 1 ? "number systems" : "graph theory"));
+        }
+
+        List<Bm25Index.Hit> hits = index.search(List.of("number", "theory", "number"), 1000);
+        assertEquals(1000, hits.size());
+        assertEquals(1000, hits.stream().map(Bm25Index.Hit::key).distinct().count());
+        float number = index.search(List.of("number"), 1).get(0).score();
+        float theory = index.search(List.of("theory"), 1).get(0).score();
+        assertEquals(3L, hits.get(0).key());
+        assertEquals(number + theory, hits.get(0).score());
+    }
+
+    private static Map<String, Integer> terms(String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        Bm25Index.tokenize(text).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        return termFrequencies;
+    }
+}
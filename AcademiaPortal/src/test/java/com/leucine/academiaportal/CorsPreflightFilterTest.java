@@ -0,0 +1,90 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.CorsConfig;
+import com.leucine.academiaportal.config.CorsPreflightFilter;
+import com.leucine.academiaportal.config.CorsProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link CorsPreflightFilter}.
+ * This class contains test cases for answering preflight requests from the precomputed CORS policy.
+ */
+public class CorsPreflightFilterTest {
+
+    // Filter instance to be tested
+    private CorsPreflightFilter corsPreflightFilter;
+
+    // Mocked remainder of the filter chain
+    private FilterChain filterChain;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Builds the CORS policy for a single allowed origin.
+     */
+    @BeforeEach
+    void setUp() {
+        CorsProperties corsProperties = new CorsProperties();
+        corsProperties.setAllowedOriginPatterns(List.of("https://portal.example.com"));
+        corsPreflightFilter = new CorsPreflightFilter(new CorsConfig().corsConfigurationSource(corsProperties));
+        filterChain = mock(FilterChain.class);
+    }
+
+    /**
+     * Tests that a valid preflight is answered directly, with a max age, without reaching the rest of the chain.
+     */
+    @Test
+    void testValidPreflight() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        corsPreflightFilter.doFilter(preflight("https://portal.example.com"), response, filterChain);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("https://portal.example.com", response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals("1800", response.getHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE));
+        verifyNoInteractions(filterChain);
+    }
+
+    /**
+     * Tests that a preflight from an origin that is not allowed is rejected.
+     */
+    @Test
+    void testRejectedPreflight() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        corsPreflightFilter.doFilter(preflight("https://evil.example.com"), response, filterChain);
+
+        assertEquals(403, response.getStatus());
+        verifyNoInteractions(filterChain);
+    }
+
+    /**
+     * Tests that requests which are not preflights pass through.
+     */
+    @Test
+    void testNonPreflightPassesThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/courses");
+        request.addHeader(HttpHeaders.ORIGIN, "https://portal.example.com");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        corsPreflightFilter.doFilter(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+    }
+
+    private static MockHttpServletRequest preflight(String origin) {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/admin/courses");
+        request.addHeader(HttpHeaders.ORIGIN, origin);
+        request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST");
+        return request;
+    }
+}
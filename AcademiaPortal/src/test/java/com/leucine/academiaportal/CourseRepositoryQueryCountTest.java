@@ -0,0 +1,115 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.repository.CourseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-count test for the keyset pages of {@link CourseRepository}.
+ * Runs against an in-memory H2 database in MySQL mode and counts the SQL statements with Hibernate statistics.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:course-pages;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CourseRepositoryQueryCountTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Hibernate statistics used to count the executed statements
+    private Statistics statistics;
+
+    // The stored departments, in ID order
+    private Department physics;
+    private Department chemistry;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Stores courses in two departments, taught by faculty members of different departments,
+     * and one course without a department; then resets the statistics.
+     */
+    @BeforeEach
+    void setUp() {
+        physics = testEntityManager.persist(new Department(null, "Physics", null));
+        chemistry = testEntityManager.persist(new Department(null, "Chemistry", null));
+        FacultyProfile ada = faculty("ada", physics);
+        FacultyProfile bob = faculty("bob", chemistry);
+        // Stored out of catalog order on purpose
+        testEntityManager.persist(new Course(null, "Organic Chemistry", null, chemistry, ada));
+        testEntityManager.persist(new Course(null, "Mechanics", null, physics, bob));
+        testEntityManager.persist(new Course(null, "Study Skills", null, null, ada));
+        testEntityManager.persist(new Course(null, "Optics", null, physics, ada));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Tests that each page is ordered by department and ID and is loaded, with the department and the
+     * faculty member's user and department, by a single statement.
+     */
+    @Test
+    void testPageIsOneQuery() {
+        List<Course> first = courseRepository.findPageAfter(0L, 0L, Limit.of(2));
+
+        assertEquals(List.of("Mechanics", "Optics"), first.stream().map(Course::getTitle).toList());
+        // Touch every association the catalog maps
+        first.forEach(course -> assertNotNull(course.getFaculty().getUser().getName() + course.getFaculty().getDepartment().getName()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        Course last = first.get(1);
+        List<Course> second = courseRepository.findPageAfter(last.getDepartment().getId(), last.getId(), Limit.of(2));
+        assertEquals(List.of("Organic Chemistry"), second.stream().map(Course::getTitle).toList());
+        assertEquals(chemistry.getId(), second.get(0).getDepartment().getId());
+
+        List<Course> withoutDepartment = courseRepository.findPageWithoutDepartmentAfter(0L, Limit.of(2));
+        assertEquals(List.of("Study Skills"), withoutDepartment.stream().map(Course::getTitle).toList());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Tests that a page is read from the (department_id, id) index instead of scanning the table.
+     */
+    @Test
+    void testPageUsesIndex() {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id FROM course WHERE department_id = 1 AND id > 0 ORDER BY department_id, id", String.class);
+        assertTrue(plan.contains("IDX_COURSE_DEPARTMENT_ID_ID"), plan);
+    }
+
+    private FacultyProfile faculty(String username, Department department) {
+        User user = testEntityManager.persist(new User(null, username, "$2a$10$hash", Role.FACULTY_MEMBER, username, username + "@example.com", null, null, null, null, null));
+        return testEntityManager.persist(new FacultyProfile(null, user, null, department, "Mon 10-12"));
+    }
+}
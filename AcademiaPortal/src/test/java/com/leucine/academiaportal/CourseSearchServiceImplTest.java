@@ -0,0 +1,143 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.dto.CourseSearchHit;
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.CourseRepository;
+import com.leucine.academiaportal.service.CourseSearchServiceImpl;
+import com.leucine.academiaportal.service.DepartmentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link CourseSearchServiceImpl}.
+ * This class contains test cases for searching the catalog, completing queries and keeping the index up to date.
+ */
+public class CourseSearchServiceImplTest {
+
+    // Mocked repository and department service used for testing
+    private CourseRepository courseRepository;
+    private DepartmentService departmentService;
+
+    // Service instance to be tested
+    private CourseSearchServiceImpl courseSearchService;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Loads a small catalog into the index.
+     */
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        departmentService = mock(DepartmentService.class);
+        when(courseRepository.findAllSearchFields()).thenReturn(List.of(
+                new Fields(1L, "Java Programming", "Objects, classes and the JVM", 1L, "Computer Science"),
+                new Fields(2L, "Data Structures", "Lists, trees and graphs in Java", 1L, "Computer Science"),
+                new Fields(3L, "Probability", "Random variables and distributions", 2L, "Mathematics"),
+                new Fields(4L, "Programming Languages", null, null, null)));
+
+        courseSearchService = new CourseSearchServiceImpl(10, 20, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(courseSearchService, "courseRepository", courseRepository);
+        ReflectionTestUtils.setField(courseSearchService, "departmentService", departmentService);
+        courseSearchService.rebuild();
+    }
+
+    /**
+     * Tests that courses are found by title, description and department name, title matches first.
+     */
+    @Test
+    void testSearch() {
+        List<CourseSearchHit> hits = courseSearchService.search("java", null);
+        assertEquals(List.of(1L, 2L), hits.stream().map(CourseSearchHit::id).toList());
+        assertEquals("Java Programming", hits.get(0).title());
+        assertEquals("Computer Science", hits.get(0).department());
+
+        assertEquals(List.of(3L), courseSearchService.search("MATHEMATICS", null).stream().map(CourseSearchHit::id).toList());
+        assertEquals(1, courseSearchService.search("computer science", 1).size());
+        assertEquals(List.of(), courseSearchService.search("chemistry", null));
+    }
+
+    /**
+     * Tests that blank queries and out-of-range limits are rejected.
+     */
+    @Test
+    void testInvalidRequests() {
+        assertEquals("Search query must not be blank",
+                assertThrows(AcademiaPortalException.class, () -> courseSearchService.search(" ?! ", null)).getMessage());
+        assertEquals("Limit must be between 1 and 20",
+                assertThrows(AcademiaPortalException.class, () -> courseSearchService.search("java", 21)).getMessage());
+        assertThrows(AcademiaPortalException.class, () -> courseSearchService.suggest("", null));
+    }
+
+    /**
+     * Tests that the last word of a query is completed from title words, keeping the words before it.
+     */
+    @Test
+    void testSuggest() {
+        assertEquals(List.of("programming", "probability"), courseSearchService.suggest("Pro", null));
+        assertEquals(List.of("programming"), courseSearchService.suggest("pro", 1));
+        assertEquals(List.of("java programming", "java probability"), courseSearchService.suggest("Java pro", null));
+        assertEquals(List.of(), courseSearchService.suggest("java ", null));
+    }
+
+    /**
+     * Tests that a saved course is searchable right away, and its old title no longer matches.
+     * A department given by ID only is resolved through the department service.
+     */
+    @Test
+    void testIndexUpdatesCourse() {
+        Department mathematics = new Department(7L, null, null);
+        when(departmentService.getDepartment(7L)).thenReturn(new Department(7L, "Applied Mathematics", null));
+        Course course = new Course();
+        course.setId(3L);
+        course.setTitle("Statistics");
+        course.setDepartment(mathematics);
+
+        courseSearchService.index(course);
+
+        assertEquals(List.of(), courseSearchService.search("probability", null));
+        assertEquals(List.of(3L), courseSearchService.search("applied statistics", null).stream().map(CourseSearchHit::id).toList());
+        assertEquals(List.of("programming"), courseSearchService.suggest("pro", null));
+        assertEquals(List.of("statistics"), courseSearchService.suggest("sta", null));
+    }
+
+    /**
+     * Tests that a rebuild replaces the index with the courses stored in the database.
+     */
+    @Test
+    void testRebuild() {
+        when(courseRepository.findAllSearchFields()).thenReturn(List.of(new Fields(9L, "Organic Chemistry", null, null, null)));
+
+        courseSearchService.rebuild();
+
+        assertEquals(List.of(9L), courseSearchService.search("chemistry", null).stream().map(CourseSearchHit::id).toList());
+        assertEquals(List.of(), courseSearchService.search("java", null));
+    }
+
+    /**
+     * Tests that renaming a department updates its indexed courses: they are found by, and shown with, the new name only.
+     */
+    @Test
+    void testRenameDepartmentUpdatesCourses() {
+        courseSearchService.renameDepartment(new Department(1L, "Informatics", null));
+
+        List<CourseSearchHit> hits = courseSearchService.search("informatics", null);
+        assertEquals(List.of(1L, 2L), hits.stream().map(CourseSearchHit::id).sorted().toList());
+        assertEquals("Informatics", hits.get(0).department());
+        assertEquals(List.of(), courseSearchService.search("computer science", null));
+        // Other departments' courses and the words shared with the title are unaffected
+        assertEquals(List.of(3L), courseSearchService.search("mathematics", null).stream().map(CourseSearchHit::id).toList());
+        assertEquals(List.of(1L, 2L), courseSearchService.search("java", null).stream().map(CourseSearchHit::id).toList());
+    }
+
+    private record Fields(Long getId, String getTitle, String getDescription, Long getDepartmentId, String getDepartmentName)
+            implements CourseRepository.SearchFields {}
+}
@@ -1,17 +1,25 @@
 package com.leucine.academiaportal;
 
+import com.leucine.academiaportal.dto.CourseDTO;
+import com.leucine.academiaportal.dto.CoursePage;
 import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.CourseRepository;
+import com.leucine.academiaportal.service.CourseSearchService;
 import com.leucine.academiaportal.service.CourseServiceImpl;
+import com.leucine.academiaportal.service.EntityVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -20,8 +28,10 @@ import static org.mockito.Mockito.*;
  */
 public class CourseServiceImplTest {
 
-    // Mocked repository used for testing
+    // Mocked repository, search index and version service used for testing
     private CourseRepository courseRepository;
+    private CourseSearchService courseSearchService;
+    private EntityVersionService entityVersionService;
 
     // Service instance to be tested
     private CourseServiceImpl courseService;
@@ -34,10 +44,14 @@ public class CourseServiceImplTest {
     void setUp() {
         // Initialize the mock repository
         courseRepository = mock(CourseRepository.class);
+        courseSearchService = mock(CourseSearchService.class);
+        entityVersionService = mock(EntityVersionService.class);
 
-        // Create an instance of the service and inject the mock repository
-        courseService = new CourseServiceImpl();
+        // Create an instance of the service with a page size of 2 and inject the mock repository
+        courseService = new CourseServiceImpl(2, 10);
         courseService.courseRepository = courseRepository;
+        ReflectionTestUtils.setField(courseService, "courseSearchService", courseSearchService);
+        ReflectionTestUtils.setField(courseService, "entityVersionService", entityVersionService);
     }
 
     /**
@@ -62,8 +76,11 @@ public class CourseServiceImplTest {
         assertNotNull(savedCourse);
         assertEquals("Java Programming", savedCourse.getTitle());
 
-        // Verify that the repository's save method was called once
+        // Verify that the repository's save method was called once, the saved course was indexed
+        // and the catalog's version was bumped
         verify(courseRepository, times(1)).save(course);
+        verify(courseSearchService, times(1)).index(course);
+        verify(entityVersionService, times(1)).bumpCatalog();
     }
 
     /**
@@ -112,49 +129,62 @@ public class CourseServiceImplTest {
     }
 
     /**
-     * Tests the retrieval of all {@link Course} entities.
-     * Verifies that the list of courses is returned correctly and the repository's findAll method is called once.
+     * Tests paging through the catalog: a full page comes with a cursor that continues after its last course.
      *
      * @throws AcademiaPortalException if an error occurs during retrieval
      */
     @Test
-    void testGetAllCourses() throws AcademiaPortalException {
-        // Create a sample course and a list containing that course
-        Course course = new Course();
-        course.setTitle("Java Programming");
-        List<Course> courseList = Collections.singletonList(course);
+    void testGetCourses() throws AcademiaPortalException {
+        // One course more than the page size tells the service that another page follows
+        when(courseRepository.findPageAfter(0L, 0L, Limit.of(3)))
+                .thenReturn(List.of(course(1L, 10L), course(2L, 10L), course(3L, 20L)));
+
+        CoursePage first = courseService.getCourses(null, null);
 
-        // Define the behavior of the mock repository for the findAll operation
-        when(courseRepository.findAll()).thenReturn(courseList);
+        assertEquals(List.of(1L, 2L), first.courses().stream().map(CourseDTO::id).toList());
+        assertNotNull(first.nextCursor());
 
-        // Call the getAllCourses method of the service
-        List<Course> courses = courseService.getAllCourses();
+        // The next page starts after department 10, course 2, and runs into the courses without a department
+        when(courseRepository.findPageAfter(10L, 2L, Limit.of(3))).thenReturn(List.of(course(3L, 20L)));
+        when(courseRepository.findPageWithoutDepartmentAfter(0L, Limit.of(2))).thenReturn(List.of(course(4L, null)));
 
-        // Verify that the list of courses is not null and contains the expected course
-        assertNotNull(courses);
-        assertFalse(courses.isEmpty());
-        assertEquals(1, courses.size());
-        assertEquals("Java Programming", courses.get(0).getTitle());
+        CoursePage second = courseService.getCourses(first.nextCursor(), null);
 
-        // Verify that the repository's findAll method was called once
-        verify(courseRepository, times(1)).findAll();
+        assertEquals(List.of(3L, 4L), second.courses().stream().map(CourseDTO::id).toList());
+        assertNull(second.nextCursor());
     }
 
     /**
-     * Tests the retrieval of all {@link Course} entities when no courses are available.
-     * Verifies that an {@link AcademiaPortalException} is thrown with the correct message.
+     * Tests that an empty catalog is an empty last page rather than an error.
+     *
+     * @throws AcademiaPortalException if an error occurs during retrieval
      */
     @Test
-    void testGetAllCoursesNotFound() {
-        // Define the behavior of the mock repository for the findAll operation when no courses are found
-        when(courseRepository.findAll()).thenReturn(Collections.emptyList());
+    void testGetCoursesEmpty() throws AcademiaPortalException {
+        when(courseRepository.findPageAfter(anyLong(), anyLong(), any())).thenReturn(Collections.emptyList());
+        when(courseRepository.findPageWithoutDepartmentAfter(anyLong(), any())).thenReturn(Collections.emptyList());
 
-        // Call the getAllCourses method of the service and verify that an exception is thrown
-        AcademiaPortalException thrown = assertThrows(AcademiaPortalException.class, () -> {
-            courseService.getAllCourses();
-        });
+        CoursePage page = courseService.getCourses(null, 5);
 
-        // Verify that the exception message is as expected
-        assertEquals("No courses found", thrown.getMessage());
+        assertTrue(page.courses().isEmpty());
+        assertNull(page.nextCursor());
+        verify(courseRepository, never()).findAll();
+    }
+
+    /**
+     * Tests that malformed cursors and page sizes out of range are rejected.
+     */
+    @Test
+    void testGetCoursesInvalidRequest() {
+        AcademiaPortalException thrown = assertThrows(AcademiaPortalException.class, () -> courseService.getCourses("not-a-cursor", null));
+        assertEquals("Invalid cursor: not-a-cursor", thrown.getMessage());
+
+        thrown = assertThrows(AcademiaPortalException.class, () -> courseService.getCourses(null, 11));
+        assertEquals("Page size must be between 1 and 10", thrown.getMessage());
+    }
+
+    private static Course course(Long id, Long departmentId) {
+        Department department = departmentId == null ? null : new Department(departmentId, "Department " + departmentId, null);
+        return new Course(id, "Course " + id, null, department, null);
     }
 }
@@ -0,0 +1,110 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.AuthenticatedUser;
+import com.leucine.academiaportal.config.CustomerUserDetailsService;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link CustomerUserDetailsService}.
+ * This class contains test cases for loading users and caching them between logins.
+ */
+public class CustomerUserDetailsServiceTest {
+
+    // Mocked repository used for testing
+    private UserRepository userRepository;
+
+    // Service instance to be tested
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    // Sample user returned by the repository
+    private User user;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Initializes the mocked repository and the service instance.
+     */
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        customerUserDetailsService = new CustomerUserDetailsService(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(customerUserDetailsService, "userRepository", userRepository);
+
+        user = new User(1L, "jane", "$2a$10$hash", Role.STUDENT, "Jane", "jane@example.com", null, "jane", "jane@example.com", null, null);
+        when(userRepository.findByLogin(anyString())).thenReturn(Optional.of(user));
+    }
+
+    /**
+     * Tests that repeated loads, in any letter case, are served from the cache with a single database lookup.
+     */
+    @Test
+    void testLoadUserIsCached() {
+        UserDetails first = customerUserDetailsService.loadUserByUsername("jane@example.com");
+        UserDetails second = customerUserDetailsService.loadUserByUsername(" Jane@Example.com ");
+
+        assertEquals("jane@example.com", first.getUsername());
+        // The principal carries the user's ID and role for the login response
+        assertEquals(1L, ((AuthenticatedUser) first).getUserId());
+        assertEquals(Role.STUDENT, ((AuthenticatedUser) first).getRole());
+        assertEquals("$2a$10$hash", second.getPassword());
+        assertTrue(second.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_STUDENT")));
+
+        // Each load hands out its own UserDetails, so erasing the credentials of one does not affect the cache
+        assertNotSame(first, second);
+        verify(userRepository, times(1)).findByLogin(anyString());
+    }
+
+    /**
+     * Tests that an evicted user is read from the database again.
+     */
+    @Test
+    void testEvict() {
+        customerUserDetailsService.loadUserByUsername("jane");
+        customerUserDetailsService.evict(user);
+        customerUserDetailsService.loadUserByUsername("jane");
+
+        customerUserDetailsService.evictByEmail("JANE@example.com");
+        customerUserDetailsService.loadUserByUsername("jane");
+
+        verify(userRepository, times(3)).findByLogin("jane");
+    }
+
+    /**
+     * Tests that after a rename the old username no longer finds the cached user.
+     */
+    @Test
+    void testRenamedUserIsNotServedUnderOldUsername() {
+        customerUserDetailsService.loadUserByUsername("jane");
+        User renamed = new User(1L, "janet", "$2a$10$hash", Role.STUDENT, "Jane", "jane@example.com", null, "janet", "jane@example.com", null, null);
+        when(userRepository.findByLogin("jane")).thenReturn(Optional.empty());
+        when(userRepository.findByLogin("janet")).thenReturn(Optional.of(renamed));
+
+        customerUserDetailsService.evict(renamed);
+
+        assertThrows(BadCredentialsException.class, () -> customerUserDetailsService.loadUserByUsername("jane"));
+        assertEquals("jane@example.com", customerUserDetailsService.loadUserByUsername("janet").getUsername());
+    }
+
+    /**
+     * Tests that an unknown user is rejected.
+     */
+    @Test
+    void testLoadUnknownUser() {
+        when(userRepository.findByLogin("nobody")).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> customerUserDetailsService.loadUserByUsername("nobody"));
+    }
+}
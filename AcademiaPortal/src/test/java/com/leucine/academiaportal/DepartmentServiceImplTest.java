@@ -3,10 +3,15 @@ package com.leucine.academiaportal;
 import com.leucine.academiaportal.entity.Department;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.DepartmentRepository;
+import com.leucine.academiaportal.service.CourseSearchService;
 import com.leucine.academiaportal.service.DepartmentServiceImpl;
+import com.leucine.academiaportal.service.EntityVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -16,13 +21,17 @@ import static org.mockito.Mockito.*;
 
 /**
  * Unit test class for {@link DepartmentServiceImpl}.
- * This class contains test cases for methods in the DepartmentServiceImpl class.
+ * This class contains test cases for methods in the DepartmentServiceImpl class, including its department cache.
  */
 public class DepartmentServiceImplTest {
 
     // Mocked repository used for testing
     private DepartmentRepository departmentRepository;
 
+    // Mocked version and course search services used for testing
+    private EntityVersionService entityVersionService;
+    private CourseSearchService courseSearchService;
+
     // Service instance to be tested
     private DepartmentServiceImpl departmentService;
 
@@ -34,10 +43,14 @@ public class DepartmentServiceImplTest {
     void setUp() {
         // Initialize the mock repository
         departmentRepository = mock(DepartmentRepository.class);
+        entityVersionService = mock(EntityVersionService.class);
+        courseSearchService = mock(CourseSearchService.class);
 
         // Create an instance of the service and inject the mock repository
-        departmentService = new DepartmentServiceImpl();
+        departmentService = new DepartmentServiceImpl(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
         departmentService.departmentRepository = departmentRepository;
+        ReflectionTestUtils.setField(departmentService, "entityVersionService", entityVersionService);
+        ReflectionTestUtils.setField(departmentService, "courseSearchService", courseSearchService);
     }
 
     /**
@@ -62,6 +75,9 @@ public class DepartmentServiceImplTest {
 
         // Verify that the repository's save method was called once
         verify(departmentRepository, times(1)).save(department);
+        verify(entityVersionService, times(1)).bumpCatalog();
+        // The indexed courses of the department are found by its new name
+        verify(courseSearchService, times(1)).renameDepartment(department);
     }
 
     /**
@@ -155,4 +171,74 @@ public class DepartmentServiceImplTest {
         // Verify that the exception message is as expected
         assertEquals("No departments found", thrown.getMessage());
     }
+
+    /**
+     * Tests that departments are served from the cache after the first load, as copies the caller may modify.
+     */
+    @Test
+    void testDepartmentsAreCached() {
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(new Department(1L, "Physics", null)));
+        when(departmentRepository.findAll()).thenReturn(List.of(new Department(1L, "Physics", null), new Department(2L, "Chemistry", null)));
+
+        departmentService.getDepartment(1L).setName("Modified by caller");
+        assertEquals("Physics", departmentService.getDepartment(1L).getName());
+        departmentService.getAllDepartments();
+        assertEquals(2, departmentService.getAllDepartments().size());
+        // Loading the list also caches each department
+        assertEquals("Chemistry", departmentService.getDepartment(2L).getName());
+
+        verify(departmentRepository, times(1)).findById(1L);
+        verify(departmentRepository, never()).findById(2L);
+        verify(departmentRepository, times(1)).findAll();
+    }
+
+    /**
+     * Tests that saving a department invalidates the cached department and list.
+     */
+    @Test
+    void testSaveInvalidatesCache() {
+        when(departmentRepository.findAll()).thenReturn(List.of(new Department(1L, "Physics", null)));
+        departmentService.warm();
+        assertEquals("Physics", departmentService.getDepartment(1L).getName());
+
+        Department renamed = new Department(1L, "Applied Physics", null);
+        when(departmentRepository.save(renamed)).thenReturn(renamed);
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(renamed));
+        when(departmentRepository.findAll()).thenReturn(List.of(renamed));
+        departmentService.saveDepartment(renamed);
+
+        assertEquals("Applied Physics", departmentService.getDepartment(1L).getName());
+        assertEquals("Applied Physics", departmentService.getAllDepartments().get(0).getName());
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    /**
+     * Tests that departments read while a save is in progress are not served after the save,
+     * even though they are written to the cache after the save invalidated it.
+     */
+    @Test
+    void testReadRacingWithSaveIsNotCached() {
+        Department physics = new Department(1L, "Physics", null);
+        Department renamed = new Department(1L, "Applied Physics", null);
+        when(departmentRepository.save(renamed)).thenReturn(renamed);
+        // The save completes while the list and the department are being read
+        when(departmentRepository.findAll()).thenAnswer(invocation -> {
+            departmentService.saveDepartment(renamed);
+            return List.of(physics);
+        }).thenReturn(List.of(renamed));
+        when(departmentRepository.findById(1L)).thenAnswer(invocation -> {
+            departmentService.saveDepartment(renamed);
+            return Optional.of(physics);
+        }).thenReturn(Optional.of(renamed));
+
+        assertEquals("Physics", departmentService.getDepartment(1L).getName());
+        assertEquals("Applied Physics", departmentService.getDepartment(1L).getName());
+        assertEquals("Applied Physics", departmentService.getDepartment(1L).getName());
+        assertEquals("Physics", departmentService.getAllDepartments().get(0).getName());
+        assertEquals("Applied Physics", departmentService.getAllDepartments().get(0).getName());
+        assertEquals("Applied Physics", departmentService.getAllDepartments().get(0).getName());
+
+        verify(departmentRepository, times(2)).findAll();
+        verify(departmentRepository, times(2)).findById(1L);
+    }
 }
@@ -0,0 +1,70 @@
+package com.leucine.academiaportal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leucine.academiaportal.dto.AdministratorProfileDTO;
+import com.leucine.academiaportal.dto.StudentProfileDTO;
+import com.leucine.academiaportal.dto.UserDTO;
+import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.mapper.DtoMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link DtoMapper}.
+ * This class contains test cases for mapping entities to the DTOs returned by the controllers.
+ */
+public class DtoMapperTest {
+
+    /**
+     * Tests that a mapped user carries its public fields but neither the password hash nor the lookup keys.
+     */
+    @Test
+    void testUserWithoutPassword() throws Exception {
+        User user = new User(1L, "jane", "$2a$10$hash", Role.STUDENT, "Jane", "jane@example.com", "555-0100",
+                "jane", "jane@example.com", Instant.parse("2024-09-01T08:00:00Z"), 3L);
+
+        UserDTO dto = DtoMapper.toDto(user);
+
+        assertEquals(new UserDTO(1L, "jane", Role.STUDENT, "Jane", "jane@example.com", "555-0100",
+                Instant.parse("2024-09-01T08:00:00Z"), 3L), dto);
+        String json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(dto);
+        assertFalse(json.contains("password"));
+        assertFalse(json.contains("$2a$"));
+    }
+
+    /**
+     * Tests that a profile is mapped with its user and department.
+     */
+    @Test
+    void testStudentProfile() {
+        Department department = new Department(1L, "Physics", "Department of Physics");
+        User user = new User(2L, "john", "$2a$10$hash", Role.STUDENT, "John", "john@example.com", null, null, null, null, null);
+
+        StudentProfileDTO dto = DtoMapper.toDto(new StudentProfile(2L, user, "john.png", department, "Junior"));
+
+        assertEquals(2L, dto.userId());
+        assertEquals("john", dto.user().username());
+        assertEquals("Physics", dto.department().name());
+        assertEquals("Junior", dto.year());
+    }
+
+    /**
+     * Tests that missing associations and entities map to {@code null}.
+     */
+    @Test
+    void testNullsAreKept() {
+        AdministratorProfileDTO dto = DtoMapper.toDto(new AdministratorProfile(3L, null, null, null));
+
+        assertNull(dto.user());
+        assertNull(dto.department());
+        assertNull(DtoMapper.toDto((User) null));
+    }
+}
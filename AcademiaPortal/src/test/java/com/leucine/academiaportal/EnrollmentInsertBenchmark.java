@@ -0,0 +1,150 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.entity.Course;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.Enrollment;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark comparing bulk inserts of enrollments with database-generated IDs (the previous
+ * {@code GenerationType.IDENTITY} mapping, which disables JDBC batching) against the pooled sequence
+ * allocation of {@link Enrollment}, with the JDBC batching configured in application.properties.
+ * Runs against H2 by default; point it at MySQL or PostgreSQL to include real network round trips.
+ * Only runs when requested:
+ * {@code mvn test -Dtest=EnrollmentInsertBenchmark -Dbenchmark=true [-Dbenchmark.datasource.url=... -Dbenchmark.dialect=...]}
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${benchmark.datasource.url:jdbc:h2:mem:enrollment-benchmark;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE}",
+        "spring.datasource.username=${benchmark.datasource.username:sa}",
+        "spring.datasource.password=${benchmark.datasource.password:}",
+        "spring.jpa.properties.hibernate.dialect=${benchmark.dialect:org.hibernate.dialect.H2Dialect}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EnrollmentInsertBenchmark {
+
+    private static final int ENROLLMENTS = 100_000;
+
+    private static final int WARMUP_ENROLLMENTS = 10_000;
+
+    // Matches hibernate.jdbc.batch_size, so each flush sends one batch
+    private static final int FLUSH_INTERVAL = 50;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // IDs of the student and course all enrollments refer to
+    private Long studentId;
+    private Long courseId;
+
+    /**
+     * Inserts the enrollments with both ID schemes and prints the time taken by each.
+     */
+    @Test
+    void benchmarkEnrollmentInserts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Department department = new Department(null, "Benchmark", null);
+            entityManager.persist(department);
+            User facultyUser = new User(null, "faculty", "x", Role.FACULTY_MEMBER, "Faculty", "faculty@example.com", null, null, null, null, null);
+            entityManager.persist(facultyUser);
+            FacultyProfile faculty = new FacultyProfile(null, facultyUser, null, department, null);
+            entityManager.persist(faculty);
+            Course course = new Course(null, "Benchmarking", null, department, faculty);
+            entityManager.persist(course);
+            User studentUser = new User(null, "student", "x", Role.STUDENT, "Student", "student@example.com", null, null, null, null, null);
+            entityManager.persist(studentUser);
+            entityManager.persist(new StudentProfile(null, studentUser, null, department, null));
+            studentId = studentUser.getId();
+            courseId = course.getId();
+        });
+
+        insert(WARMUP_ENROLLMENTS, IdentityEnrollment::new);
+        insert(WARMUP_ENROLLMENTS, (student, course) -> new Enrollment(null, student, course));
+
+        long identityNanos = insert(ENROLLMENTS, IdentityEnrollment::new);
+        long pooledNanos = insert(ENROLLMENTS, (student, course) -> new Enrollment(null, student, course));
+
+        assertEquals(ENROLLMENTS + WARMUP_ENROLLMENTS, count(IdentityEnrollment.class));
+        assertEquals(ENROLLMENTS + WARMUP_ENROLLMENTS, count(Enrollment.class));
+        System.out.printf("%,d enrollments, IDENTITY IDs, one insert per row: %,d ms%n", ENROLLMENTS, identityNanos / 1_000_000);
+        System.out.printf("%,d enrollments, pooled sequence IDs, batched:    %,d ms%n", ENROLLMENTS, pooledNanos / 1_000_000);
+    }
+
+    /**
+     * Persists the given number of enrollments in one transaction, flushing and clearing the
+     * persistence context every {@value #FLUSH_INTERVAL} entities.
+     */
+    private long insert(int count, BiFunction<StudentProfile, Course, Object> enrollmentFactory) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                entityManager.persist(enrollmentFactory.apply(entityManager.getReference(StudentProfile.class, studentId),
+                        entityManager.getReference(Course.class, courseId)));
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    private long count(Class<?> entityClass) {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("select count(e) from " + entityClass.getSimpleName() + " e", Long.class)
+                .getSingleResult());
+    }
+
+    /**
+     * An enrollment mapped the way {@link Enrollment} was before pooled ID allocation.
+     */
+    @Entity(name = "IdentityEnrollment")
+    @Table(name = "identity_enrollment")
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IdentityEnrollment {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @ManyToOne
+        @JoinColumn(name = "student_id", nullable = false)
+        private StudentProfile student;
+
+        @ManyToOne
+        @JoinColumn(name = "course_id", nullable = false)
+        private Course course;
+
+        IdentityEnrollment(StudentProfile student, Course course) {
+            this(null, student, course);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.service.EntityVersionService;
+import com.leucine.academiaportal.service.EntityVersionServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link EntityVersionServiceImpl}.
+ * Runs the version bumps against an in-memory H2 database in MySQL mode.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:versions;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EntityVersionServiceImpl.class)
+public class EntityVersionServiceImplTest {
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Tests that aggregates start at version 0 and every bump increments their version.
+     */
+    @Test
+    void testBumpIncrementsVersion() {
+        assertEquals("u0-c0", entityVersionService.getUserETag(5L));
+        assertEquals("c0", entityVersionService.getCatalogETag());
+
+        entityVersionService.bump(VersionedAggregate.USER, 5L);
+        entityVersionService.bump(VersionedAggregate.USER, 5L);
+        entityVersionService.bump(VersionedAggregate.USER, 6L);
+
+        assertEquals("u2-c0", entityVersionService.getUserETag(5L));
+        assertEquals("u1-c0", entityVersionService.getUserETag(6L));
+    }
+
+    /**
+     * Tests that a catalog change changes the entity tags of the catalog and of every profile,
+     * which shows its department.
+     */
+    @Test
+    void testCatalogBumpChangesProfileETags() {
+        entityVersionService.bump(VersionedAggregate.USER, 5L);
+        String profileETag = entityVersionService.getUserETag(5L);
+        String catalogETag = entityVersionService.getCatalogETag();
+
+        entityVersionService.bumpCatalog();
+
+        assertNotEquals(profileETag, entityVersionService.getUserETag(5L));
+        assertNotEquals(catalogETag, entityVersionService.getCatalogETag());
+        assertEquals("u1-c1", entityVersionService.getUserETag(5L));
+    }
+
+    /**
+     * Tests that users are bumped by their normalized email, and unknown emails are ignored.
+     */
+    @Test
+    void testBumpUsersByEmailKey() {
+        jdbcTemplate.update("insert into user (id, username, password, role, name, email, email_key) "
+                + "values (7, 'jane', 'hash', 'STUDENT', 'Jane', 'Jane@Example.com', 'jane@example.com')");
+        entityVersionService.bump(VersionedAggregate.USER, 7L);
+
+        entityVersionService.bumpUsersByEmailKey(List.of("jane@example.com", "nobody@example.com"));
+
+        assertEquals("u2-c0", entityVersionService.getUserETag(7L));
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from entity_version", Integer.class));
+    }
+
+    /**
+     * Tests that bumping users by email also starts the versions of users that have none yet.
+     */
+    @Test
+    void testBumpUsersByEmailKeyInsertsMissingVersions() {
+        jdbcTemplate.update("insert into user (id, username, password, role, name, email, email_key) "
+                + "values (8, 'john', 'hash', 'STUDENT', 'John', 'john@example.com', 'john@example.com')");
+        jdbcTemplate.update("insert into user (id, username, password, role, name, email, email_key) "
+                + "values (9, 'mary', 'hash', 'STUDENT', 'Mary', 'mary@example.com', 'mary@example.com')");
+        entityVersionService.bump(VersionedAggregate.USER, 8L);
+
+        entityVersionService.bumpUsersByEmailKey(List.of("john@example.com", "mary@example.com"));
+
+        assertEquals("u2-c0", entityVersionService.getUserETag(8L));
+        assertEquals("u1-c0", entityVersionService.getUserETag(9L));
+    }
+}
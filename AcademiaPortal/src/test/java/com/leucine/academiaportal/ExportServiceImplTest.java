@@ -0,0 +1,130 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.service.ExportService;
+import com.leucine.academiaportal.service.ExportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link ExportServiceImpl}.
+ * Runs the streaming export queries against an in-memory H2 database in MySQL mode.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:exports;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(ExportServiceImpl.class)
+public class ExportServiceImplTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Sets up a department, a student, a faculty member teaching one course, and an administrator.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into department (id, name, description) values (1, 'Physics', 'Matter, energy, \"and\" more')");
+        insertUser(10, "sam", "STUDENT", "Sam");
+        insertUser(20, "fay", "FACULTY_MEMBER", "Fay");
+        insertUser(30, "ada", "ADMINISTRATOR", "=cmd|' /C calc'!A0");
+        jdbcTemplate.update("insert into student_profile (user_id, department_id, year) values (10, 1, '2')");
+        jdbcTemplate.update("insert into faculty_profile (user_id, department_id, office_hours) values (20, 1, 'Mon 10-12')");
+        jdbcTemplate.update("insert into administrator_profile (user_id, department_id) values (30, 1)");
+        jdbcTemplate.update("insert into course (id, title, description, department_id, faculty_id) values (100, 'Optics', null, 1, 20)");
+        jdbcTemplate.update("insert into course (id, title, description, department_id, faculty_id) values (101, 'Seminar', 'Line one\nline two', null, null)");
+    }
+
+    /**
+     * Tests that courses are written as one NDJSON line each, ordered by ID, with their department and faculty member.
+     */
+    @Test
+    void testExportCoursesAsNdjson() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportService.exportCourses(output, ExportService.Format.NDJSON);
+
+        assertEquals(2, rows);
+        assertEquals("{\"id\":100,\"title\":\"Optics\",\"description\":null,\"departmentId\":1,\"departmentName\":\"Physics\",\"facultyId\":20,\"facultyName\":\"Fay\"}\n"
+                        + "{\"id\":101,\"title\":\"Seminar\",\"description\":\"Line one\\nline two\",\"departmentId\":null,\"departmentName\":null,\"facultyId\":null,\"facultyName\":null}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that the CSV export starts with a header row and quotes fields containing commas, quotes and line breaks.
+     */
+    @Test
+    void testExportCoursesAndDepartmentsAsCsv() throws IOException {
+        ByteArrayOutputStream courses = new ByteArrayOutputStream();
+        ByteArrayOutputStream departments = new ByteArrayOutputStream();
+
+        exportService.exportCourses(courses, ExportService.Format.CSV);
+        exportService.exportDepartments(departments, ExportService.Format.CSV);
+
+        assertEquals("id,title,description,departmentId,departmentName,facultyId,facultyName\r\n"
+                        + "100,Optics,,1,Physics,20,Fay\r\n"
+                        + "101,Seminar,\"Line one\nline two\",,,,\r\n",
+                courses.toString(StandardCharsets.UTF_8));
+        assertEquals("id,name,description\r\n"
+                        + "1,Physics,\"Matter, energy, \"\"and\"\" more\"\r\n",
+                departments.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that the directory lists students, faculty members and administrators with their role-specific
+     * columns, and that a value a spreadsheet would run as a formula is escaped.
+     */
+    @Test
+    void testExportDirectoryAsCsv() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportService.exportDirectory(output, ExportService.Format.CSV);
+
+        assertEquals(3, rows);
+        assertEquals("userId,username,role,name,email,phone,departmentId,departmentName,year,officeHours\r\n"
+                        + "10,sam,STUDENT,Sam,sam@example.com,,1,Physics,2,\r\n"
+                        + "20,fay,FACULTY_MEMBER,Fay,fay@example.com,,1,Physics,,Mon 10-12\r\n"
+                        + "30,ada,ADMINISTRATOR,'=cmd|' /C calc'!A0,ada@example.com,,1,Physics,,\r\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that an export of empty tables writes only the CSV header, or nothing at all as NDJSON.
+     */
+    @Test
+    void testEmptyExport() throws IOException {
+        jdbcTemplate.update("delete from course");
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportCourses(csv, ExportService.Format.CSV));
+        assertEquals(0, exportService.exportCourses(ndjson, ExportService.Format.NDJSON));
+
+        assertEquals("id,title,description,departmentId,departmentName,facultyId,facultyName\r\n", csv.toString(StandardCharsets.UTF_8));
+        assertEquals(0, ndjson.size());
+    }
+
+    private void insertUser(long id, String username, String role, String name) {
+        jdbcTemplate.update("insert into user (id, username, password, role, name, email, username_key, email_key) "
+                + "values (?, ?, 'x', ?, ?, ?, ?, ?)", id, username, role, name, username + "@example.com", username, username + "@example.com");
+    }
+}
@@ -1,11 +1,14 @@
 package com.leucine.academiaportal;
 
 import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.FacultyProfileRepository;
+import com.leucine.academiaportal.service.EntityVersionService;
 import com.leucine.academiaportal.service.FacultyProfileServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -21,6 +24,9 @@ public class FacultyProfileServiceImplTest {
     // Mocked repository used for testing
     private FacultyProfileRepository facultyProfileRepository;
 
+    // Mocked version service used for testing
+    private EntityVersionService entityVersionService;
+
     // Service instance to be tested
     private FacultyProfileServiceImpl facultyProfileService;
 
@@ -32,10 +38,12 @@ public class FacultyProfileServiceImplTest {
     void setUp() {
         // Initialize the mock repository
         facultyProfileRepository = mock(FacultyProfileRepository.class);
+        entityVersionService = mock(EntityVersionService.class);
 
         // Create an instance of the service and inject the mock repository
         facultyProfileService = new FacultyProfileServiceImpl();
         facultyProfileService.facultyProfileRepository = facultyProfileRepository;
+        ReflectionTestUtils.setField(facultyProfileService, "entityVersionService", entityVersionService);
     }
 
     /**
@@ -58,8 +66,10 @@ public class FacultyProfileServiceImplTest {
         assertNotNull(savedProfile);
         assertEquals(1L, savedProfile.getUserId());
 
-        // Verify that the repository's save method was called once
+        // Verify that the repository's save method was called once and the user's version was bumped
         verify(facultyProfileRepository, times(1)).save(profile);
+        verify(entityVersionService, times(1)).bump(VersionedAggregate.USER, 1L);
+        verify(entityVersionService, times(1)).bumpCatalog();
     }
 
     /**
@@ -0,0 +1,63 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.util.HyperLogLog;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link HyperLogLog}.
+ * This class contains test cases for the accuracy of distinct counts and for merging sketches.
+ */
+public class HyperLogLogTest {
+
+    /**
+     * Tests that small counts are close to exact and duplicates are not counted twice.
+     */
+    @Test
+    void testSmallCountsAndDuplicates() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        assertEquals(0, sketch.estimate());
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 100; i++) {
+                sketch.add("user" + i + "@example.com");
+            }
+        }
+
+        assertEquals(100, sketch.estimate(), 2);
+    }
+
+    /**
+     * Tests that large counts stay within a few standard errors of the true count.
+     */
+    @Test
+    void testLargeCountAccuracy() {
+        HyperLogLog sketch = new HyperLogLog(14);
+        for (int i = 0; i < 200_000; i++) {
+            sketch.add("user" + i + "@example.com");
+        }
+
+        // Standard error is 0.8% at precision 14
+        assertEquals(200_000, sketch.estimate(), 200_000 * 3 * sketch.getStandardError());
+    }
+
+    /**
+     * Tests that a merged sketch estimates the union of overlapping sets.
+     */
+    @Test
+    void testMergeEstimatesUnion() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        for (int i = 0; i < 30_000; i++) {
+            first.add("user" + i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            second.add("user" + i);
+        }
+
+        first.merge(second);
+
+        assertEquals(50_000, first.estimate(), 50_000 * 3 * first.getStandardError());
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new HyperLogLog(14)));
+    }
+}
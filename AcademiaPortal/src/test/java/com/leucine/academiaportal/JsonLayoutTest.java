@@ -0,0 +1,74 @@
+package com.leucine.academiaportal;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.leucine.academiaportal.logging.JsonLayout;
+import com.leucine.academiaportal.logging.RequestIdFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link JsonLayout}.
+ * This class contains test cases for writing log events as JSON lines.
+ */
+public class JsonLayoutTest {
+
+    // Logger the test events are created for
+    private Logger logger;
+
+    // Layout instance to be tested
+    private JsonLayout jsonLayout;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        LoggerContext loggerContext = new LoggerContext();
+        logger = loggerContext.getLogger("com.example.CourseService");
+        jsonLayout = new JsonLayout();
+        jsonLayout.setContext(loggerContext);
+        jsonLayout.start();
+    }
+
+    /**
+     * Tests that an event is written as a single line of valid JSON carrying the message and request ID.
+     */
+    @Test
+    void testLayout() throws Exception {
+        LoggingEvent event = new LoggingEvent("fqcn", logger, Level.INFO, "Saving course \"{}\"\n\tdone", null,
+                new Object[] {"Algebra\u0001"});
+        event.setMDCPropertyMap(Map.of(RequestIdFilter.MDC_KEY, "abc123"));
+
+        String line = jsonLayout.doLayout(event);
+
+        assertEquals(1, line.strip().lines().count());
+        JsonNode json = new ObjectMapper().readTree(line);
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("com.example.CourseService", json.get("logger").asText());
+        assertEquals("Saving course \"Algebra\u0001\"\n\tdone", json.get("message").asText());
+        assertEquals("abc123", json.get("requestId").asText());
+    }
+
+    /**
+     * Tests that the stack trace of a logged exception is included.
+     */
+    @Test
+    void testLayoutWithException() throws Exception {
+        LoggingEvent event = new LoggingEvent("fqcn", logger, Level.ERROR, "Failed", new IllegalStateException("boom"), null);
+        event.setMDCPropertyMap(Map.of());
+
+        JsonNode json = new ObjectMapper().readTree(jsonLayout.doLayout(event));
+
+        assertNull(json.get("requestId"));
+        assertTrue(json.get("exception").asText().contains("java.lang.IllegalStateException: boom"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.JwtAuthenticationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link JwtAuthenticationCache}.
+ * This class contains test cases for caching verified tokens and recording hit and miss metrics.
+ */
+public class JwtAuthenticationCacheTest {
+
+    // Registry the cache metrics are published to
+    private SimpleMeterRegistry meterRegistry;
+
+    // Cache instance to be tested
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtAuthenticationCache = new JwtAuthenticationCache(100, meterRegistry);
+    }
+
+    /**
+     * Tests that a cached token returns the same authentication and is counted as a hit.
+     */
+    @Test
+    void testCachedTokenHit() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("jane@example.com", null,
+                AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+        jwtAuthenticationCache.put("token", authentication, "token-id", System.currentTimeMillis() + 60_000);
+
+        assertSame(authentication, jwtAuthenticationCache.get("token").authentication());
+        assertEquals("token-id", jwtAuthenticationCache.get("token").tokenId());
+        assertNull(jwtAuthenticationCache.get("other-token"));
+
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    /**
+     * Tests that a token is no longer returned once it has expired.
+     */
+    @Test
+    void testExpiredTokenMiss() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("jane@example.com", null,
+                AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+        jwtAuthenticationCache.put("token", authentication, "token-id", System.currentTimeMillis() - 1);
+
+        assertNull(jwtAuthenticationCache.get("token"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.JwtCodec;
+import com.leucine.academiaportal.config.JwtProperties;
+import com.leucine.academiaportal.config.SecurityConstants;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import javax.crypto.SecretKey;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Micro-benchmark comparing the per-request cost of JWT validation with a freshly built key and parser
+ * (the previous behaviour of the JWT filters) against the shared {@link JwtCodec}.
+ * Only runs when requested: {@code mvn test -Dtest=JwtCodecBenchmark -Dbenchmark=true}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class JwtCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    /**
+     * Measures both validation paths on the same token and prints the average cost per validation.
+     */
+    @Test
+    void benchmarkTokenValidation() {
+        JwtCodec jwtCodec = new JwtCodec(new JwtProperties());
+        String token = jwtCodec.issue("jane@example.com", AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+
+        // Previous behaviour: a new key and parser for every request
+        Function<String, Claims> perRequest = jwt -> {
+            SecretKey secretKey = Keys.hmacShaKeyFor(SecurityConstants.JWT_KEY.getBytes());
+            return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(jwt).getBody();
+        };
+
+        double perRequestNanos = measure(perRequest, token);
+        double sharedNanos = measure(jwtCodec::parse, token);
+
+        System.out.printf("JWT validation, key and parser built per request: %,.0f ns/op%n", perRequestNanos);
+        System.out.printf("JWT validation, shared JwtCodec:                  %,.0f ns/op%n", sharedNanos);
+    }
+
+    private static double measure(Function<String, Claims> validator, String token) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            validator.apply(token);
+        }
+        long start = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            found += validator.apply(token).get("username", String.class).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertEquals("jane@example.com".length() * MEASURED_ITERATIONS, found);
+        return (double) elapsed / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,148 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.JwtCodec;
+import com.leucine.academiaportal.config.JwtProperties;
+import com.leucine.academiaportal.config.RoleClaims;
+import com.leucine.academiaportal.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link JwtCodec}.
+ * This class contains test cases for issuing, parsing and rotating JWT signing keys.
+ */
+public class JwtCodecTest {
+
+    private static final String OLD_SECRET = "old-secret-key-for-jwt-signing-at-least-32-bytes";
+    private static final String NEW_SECRET = "new-secret-key-for-jwt-signing-at-least-32-bytes";
+
+    // Authorities of a student, as issued at login
+    private static final List<GrantedAuthority> STUDENT = AuthorityUtils.createAuthorityList("ROLE_STUDENT");
+
+    // Codec instance to be tested
+    private JwtCodec jwtCodec;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Creates a codec with a single configured key.
+     */
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getKeys().put("old", OLD_SECRET);
+        jwtCodec = new JwtCodec(jwtProperties);
+    }
+
+    /**
+     * Tests that an issued token can be parsed back into its claims.
+     */
+    @Test
+    void testIssueAndParse() {
+        String token = jwtCodec.issue("jane@example.com", STUDENT);
+
+        Claims claims = jwtCodec.parse(token);
+
+        assertEquals("jane@example.com", claims.get("username", String.class));
+        assertEquals(STUDENT, jwtCodec.authorities(claims));
+    }
+
+    /**
+     * Tests that role authorities are encoded as a bitmask and decoded into the shared authority list.
+     */
+    @Test
+    void testRoleAuthoritiesAreEncodedAsBitmask() {
+        Claims claims = jwtCodec.parse(jwtCodec.issue("jane@example.com", STUDENT));
+
+        assertNotNull(claims.get(RoleClaims.CLAIM, Integer.class));
+        assertNull(claims.get("authorities"));
+        assertSame(RoleClaims.forRole(Role.STUDENT), jwtCodec.authorities(claims));
+    }
+
+    /**
+     * Tests that authorities which are not roles fall back to the comma-separated claim.
+     */
+    @Test
+    void testNonRoleAuthoritiesFallBackToString() {
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_STUDENT", "SCOPE_read");
+
+        Claims claims = jwtCodec.parse(jwtCodec.issue("jane@example.com", authorities));
+
+        assertNull(claims.get(RoleClaims.CLAIM));
+        assertEquals(Set.copyOf(authorities), Set.copyOf(jwtCodec.authorities(claims)));
+    }
+
+    /**
+     * Tests that tokens issued before the bitmask was introduced, carrying the authorities as a string, are still accepted.
+     */
+    @Test
+    void testLegacyAuthoritiesClaim() {
+        Claims claims = Jwts.claims(Map.of("username", "jane@example.com", "authorities", "ROLE_STUDENT"));
+
+        assertEquals(STUDENT, jwtCodec.authorities(claims));
+    }
+
+    /**
+     * Tests that a refresh token is accepted by the refresh parser only, and an access token by the access parser only.
+     */
+    @Test
+    void testRefreshTokenIsNotAnAccessToken() {
+        String accessToken = jwtCodec.issue("jane@example.com", STUDENT);
+        String refreshToken = jwtCodec.issueRefresh("jane@example.com");
+
+        assertEquals("jane@example.com", jwtCodec.parseRefresh(refreshToken).get("username", String.class));
+        assertThrows(JwtException.class, () -> jwtCodec.parse(refreshToken));
+        assertThrows(JwtException.class, () -> jwtCodec.parseRefresh(accessToken));
+    }
+
+    /**
+     * Tests that a tampered token is rejected.
+     */
+    @Test
+    void testParseTamperedToken() {
+        String token = jwtCodec.issue("jane@example.com", STUDENT);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtCodec.parse(tampered));
+    }
+
+    /**
+     * Tests a key rotation: tokens signed with the old key stay valid after a new key is activated,
+     * and are rejected once the old key is removed.
+     */
+    @Test
+    void testKeyRotation() {
+        String oldToken = jwtCodec.issue("jane@example.com", STUDENT);
+
+        jwtCodec.addKey("new", NEW_SECRET);
+        jwtCodec.activateKey("new");
+        String newToken = jwtCodec.issue("jane@example.com", STUDENT);
+
+        // Both tokens are accepted while both keys are known
+        assertEquals("jane@example.com", jwtCodec.parse(oldToken).get("username", String.class));
+        assertEquals("jane@example.com", jwtCodec.parse(newToken).get("username", String.class));
+
+        // Once the old key is removed, only the new token is accepted
+        jwtCodec.removeKey("old");
+        assertThrows(JwtException.class, () -> jwtCodec.parse(oldToken));
+        assertEquals("jane@example.com", jwtCodec.parse(newToken).get("username", String.class));
+    }
+
+    /**
+     * Tests that the active key cannot be removed.
+     */
+    @Test
+    void testRemoveActiveKey() {
+        assertThrows(IllegalArgumentException.class, () -> jwtCodec.removeKey("old"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.JwtAuthenticationCache;
+import com.leucine.academiaportal.config.JwtCodec;
+import com.leucine.academiaportal.config.JwtKeysEndpoint;
+import com.leucine.academiaportal.config.JwtProperties;
+import com.leucine.academiaportal.config.JwtTokenValidatorFilter;
+import com.leucine.academiaportal.service.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link JwtKeysEndpoint}.
+ * This class contains test cases for rotating and removing JWT signing keys at runtime.
+ */
+public class JwtKeysEndpointTest {
+
+    private static final String OLD_SECRET = "old-secret-key-for-jwt-signing-at-least-32-bytes";
+    private static final String NEW_SECRET = "new-secret-key-for-jwt-signing-at-least-32-bytes";
+
+    // Codec whose keys are rotated
+    private JwtCodec jwtCodec;
+
+    // Cache of verified tokens, shared by the endpoint and the filter
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    // Filter authenticating requests with the codec and the cache
+    private JwtTokenValidatorFilter jwtTokenValidatorFilter;
+
+    // Endpoint instance to be tested
+    private JwtKeysEndpoint jwtKeysEndpoint;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Creates a codec signing with the "old" key.
+     */
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getKeys().put("old", OLD_SECRET);
+        jwtCodec = new JwtCodec(jwtProperties);
+        jwtAuthenticationCache = new JwtAuthenticationCache(100, new SimpleMeterRegistry());
+        jwtTokenValidatorFilter = new JwtTokenValidatorFilter(jwtCodec, jwtAuthenticationCache, mock(TokenRevocationService.class));
+        jwtKeysEndpoint = new JwtKeysEndpoint(jwtCodec, jwtAuthenticationCache);
+    }
+
+    /**
+     * Clears the authentication the filter sets.
+     */
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Tests that a token signed with a removed key is rejected even though it was verified, and cached, before.
+     */
+    @Test
+    void testRemovedKeyRejectsCachedTokens() throws Exception {
+        String oldToken = jwtCodec.issue("jane@example.com", AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+        jwtKeysEndpoint.addKey("new", NEW_SECRET, true);
+        String newToken = jwtCodec.issue("jane@example.com", AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+        authenticate(oldToken);
+        assertNotNull(jwtAuthenticationCache.get(oldToken));
+
+        jwtKeysEndpoint.removeKey("old");
+
+        assertThrows(BadCredentialsException.class, () -> authenticate(oldToken));
+        authenticate(newToken);
+        assertEquals("jane@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    private void authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.setServletPath("/api/courses");
+        request.addHeader("Authorization", token);
+        jwtTokenValidatorFilter.doFilter(request, new MockHttpServletResponse(), mock(FilterChain.class));
+    }
+}
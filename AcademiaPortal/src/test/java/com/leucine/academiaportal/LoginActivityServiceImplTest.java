@@ -0,0 +1,122 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.service.EntityVersionService;
+import com.leucine.academiaportal.service.LoginActivityServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LoginActivityServiceImpl}.
+ * This class contains test cases for buffering logins and writing them in batches.
+ */
+public class LoginActivityServiceImplTest {
+
+    // Mocked JDBC template and version service used for testing
+    private JdbcTemplate jdbcTemplate;
+    private EntityVersionService entityVersionService;
+
+    // Clock driving the login times, in epoch milliseconds
+    private AtomicLong clock;
+
+    // Service instance to be tested
+    private LoginActivityServiceImpl loginActivityService;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        // The quoted name of the user table, as resolved from the database metadata
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("`user`");
+        entityVersionService = mock(EntityVersionService.class);
+        clock = new AtomicLong(1_000_000);
+        loginActivityService = new LoginActivityServiceImpl(new SimpleMeterRegistry(), clock::get);
+        ReflectionTestUtils.setField(loginActivityService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(loginActivityService, "entityVersionService", entityVersionService);
+    }
+
+    /**
+     * Tests that all logins of a user since the last flush are written as one row of a single batch,
+     * with the login count and the time of the most recent login.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLoginsAreCoalescedPerUser() {
+        loginActivityService.recordLogin("Jane@Example.com");
+        clock.addAndGet(500);
+        loginActivityService.recordLogin("Jane@Example.com");
+        loginActivityService.recordLogin("john@example.com");
+
+        assertEquals(2, loginActivityService.flush());
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate).batchUpdate(anyString(), (List<Object[]>) argThat(updates -> {
+            List<Object[]> rows = ((List<Object[]>) updates).stream()
+                    .sorted(Comparator.comparing(row -> (String) row[3])).toList();
+            return rows.size() == 2
+                    && rows.get(0)[3].equals("jane@example.com")
+                    && rows.get(0)[1].equals(new Timestamp(1_000_500))
+                    && rows.get(0)[2].equals(2L)
+                    && rows.get(1)[3].equals("john@example.com")
+                    && rows.get(1)[2].equals(1L);
+        }));
+
+        // The written users' profiles show the new activity, so their versions are bumped
+        verify(entityVersionService).bumpUsersByEmailKey(
+                argThat(keys -> keys.size() == 2 && keys.containsAll(List.of("jane@example.com", "john@example.com"))));
+    }
+
+    /**
+     * Tests that a flush without new logins writes nothing, and logins after idle entries were
+     * removed are still recorded.
+     */
+    @Test
+    void testIdleEntriesAreRemoved() {
+        loginActivityService.recordLogin("jane@example.com");
+        loginActivityService.flush();
+
+        // Nothing new: no update, and the idle entry is removed
+        assertEquals(0, loginActivityService.flush());
+        assertEquals(0, loginActivityService.flush());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+
+        loginActivityService.recordLogin("jane@example.com");
+        assertEquals(1, loginActivityService.flush());
+    }
+
+    /**
+     * Tests that activity that could not be written is kept and written with the next flush.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedFlushIsRetried() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[] {1});
+        loginActivityService.recordLogin("jane@example.com");
+        loginActivityService.recordLogin("jane@example.com");
+
+        assertEquals(0, loginActivityService.flush());
+        loginActivityService.recordLogin("jane@example.com");
+        assertEquals(1, loginActivityService.flush());
+
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                (List<Object[]>) argThat(updates -> ((List<Object[]>) updates).get(0)[2].equals(3L)));
+        verify(entityVersionService, times(1)).bumpUsersByEmailKey(anyCollection());
+    }
+}
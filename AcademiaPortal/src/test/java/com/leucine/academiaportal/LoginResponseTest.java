@@ -0,0 +1,37 @@
+package com.leucine.academiaportal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leucine.academiaportal.dto.LoginResponse;
+import com.leucine.academiaportal.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link LoginResponse}.
+ * This class contains test cases for the fixed JSON shape of the login response.
+ */
+public class LoginResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Tests that the response is written with exactly its four fields, in order.
+     */
+    @Test
+    void testSerialization() throws Exception {
+        String json = objectMapper.writeValueAsString(new LoginResponse("header.payload.signature", 900, 42L, Role.FACULTY_MEMBER));
+
+        assertEquals("{\"accessToken\":\"header.payload.signature\",\"expiresIn\":900,\"userId\":42,\"role\":\"FACULTY_MEMBER\"}", json);
+    }
+
+    /**
+     * Tests that an unknown user ID and role are written as {@code null}.
+     */
+    @Test
+    void testNullFields() throws Exception {
+        String json = objectMapper.writeValueAsString(new LoginResponse("token", 900, null, null));
+
+        assertEquals("{\"accessToken\":\"token\",\"expiresIn\":900,\"userId\":null,\"role\":null}", json);
+    }
+}
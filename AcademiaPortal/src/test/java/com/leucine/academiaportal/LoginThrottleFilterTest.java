@@ -0,0 +1,115 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.LoginThrottleFilter;
+import com.leucine.academiaportal.config.TokenBucketLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link LoginThrottleFilter}.
+ * This class contains test cases for throttling login attempts and failed HTTP Basic authentications.
+ */
+public class LoginThrottleFilterTest {
+
+    // Filter instance to be tested, with buckets of 3 attempts per IP and per username
+    private LoginThrottleFilter loginThrottleFilter;
+
+    // Remainder of the filter chain, answering 200 unless told otherwise
+    private FilterChain filterChain;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Uses a frozen clock, so buckets never refill during a test.
+     */
+    @BeforeEach
+    void setUp() {
+        AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        loginThrottleFilter = new LoginThrottleFilter(new TokenBucketLimiter(3, 60, clock::get),
+                new TokenBucketLimiter(3, 60, clock::get), new SimpleMeterRegistry());
+        filterChain = mock(FilterChain.class);
+    }
+
+    /**
+     * Tests that every attempt on the login endpoint counts, successful or not.
+     */
+    @Test
+    void testLoginAttemptsAreThrottled() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, filter("/api/auth/login", "jane").getStatus());
+        }
+
+        MockHttpServletResponse response = filter("/api/auth/login", "jane");
+
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        verify(filterChain, times(3)).doFilter(any(), any());
+    }
+
+    /**
+     * Tests that successful HTTP Basic requests to the data APIs are never throttled.
+     */
+    @Test
+    void testSuccessfulBasicApiCallsAreNotThrottled() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(200, filter("/api/courses", "jane").getStatus());
+        }
+        verify(filterChain, times(20)).doFilter(any(), any());
+    }
+
+    /**
+     * Tests that failed HTTP Basic requests to the data APIs count, and block further requests once the bucket is empty.
+     */
+    @Test
+    void testFailedBasicApiCallsAreThrottled() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, HttpServletResponse.class).setStatus(401);
+            return null;
+        }).when(filterChain).doFilter(any(), any());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(401, filter("/api/courses", "jane").getStatus());
+        }
+
+        assertEquals(429, filter("/api/courses", "jane").getStatus());
+        assertEquals(429, filter("/api/auth/login", "jane").getStatus());
+        verify(filterChain, times(3)).doFilter(any(), any());
+    }
+
+    /**
+     * Tests that requests without credentials pass through without touching the buckets.
+     */
+    @Test
+    void testRequestsWithoutCredentialsPass() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/login");
+            request.setServletPath("/api/auth/login");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            loginThrottleFilter.doFilter(request, response, filterChain);
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse filter(String path, String username) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("Authorization", "Basic "
+                + Base64.getEncoder().encodeToString((username + ":secret").getBytes(StandardCharsets.UTF_8)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loginThrottleFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
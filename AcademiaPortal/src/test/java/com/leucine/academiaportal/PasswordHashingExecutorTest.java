@@ -0,0 +1,86 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link PasswordHashingExecutor}.
+ * This class contains test cases for running hashing tasks on the bounded pool.
+ */
+public class PasswordHashingExecutorTest {
+
+    // Registry the pool metrics are published to
+    private SimpleMeterRegistry meterRegistry;
+
+    // Pool with a single thread and a single queue slot
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 1000, meterRegistry);
+    }
+
+    /**
+     * Shuts the pool down after each test case.
+     */
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    /**
+     * Tests that a task runs on the pool and its result is returned to the caller.
+     */
+    @Test
+    void testCall() {
+        String threadName = passwordHashingExecutor.call(() -> Thread.currentThread().getName());
+
+        assertTrue(threadName.startsWith("password-hashing-"));
+    }
+
+    /**
+     * Tests that tasks beyond the pool and queue capacity are rejected and counted.
+     *
+     * @throws InterruptedException if interrupted while waiting for the blocking task
+     */
+    @Test
+    void testRejectWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Occupy the only thread, then the only queue slot
+        passwordHashingExecutor.submit(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        });
+        started.await();
+        passwordHashingExecutor.submit(() -> null);
+        assertEquals(1, passwordHashingExecutor.getQueueDepth());
+
+        assertThrows(AuthenticationServiceException.class, () -> passwordHashingExecutor.submit(() -> null));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.util.PrefixTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link PrefixTrie}.
+ * This class contains test cases for completing prefixes and removing terms.
+ */
+public class PrefixTrieTest {
+
+    /**
+     * Tests that completions are ranked by count, then alphabetically, and limited.
+     */
+    @Test
+    void testComplete() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("programming");
+        trie.add("programming");
+        trie.add("probability");
+        trie.add("project");
+        trie.add("pro");
+        trie.add("physics");
+
+        assertEquals(List.of("programming", "pro", "probability"), trie.complete("pro", 3));
+        assertEquals(List.of("physics"), trie.complete("ph", 10));
+        assertEquals(List.of(), trie.complete("chem", 10));
+    }
+
+    /**
+     * Tests that a term is no longer completed once all its occurrences are removed.
+     */
+    @Test
+    void testRemove() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("statistics");
+        trie.add("statistics");
+        trie.add("static");
+
+        trie.remove("statistics");
+        assertEquals(List.of("static", "statistics"), trie.complete("stat", 10));
+        trie.remove("statistics");
+        trie.remove("unknown");
+        assertEquals(List.of("static"), trie.complete("stat", 10));
+    }
+}
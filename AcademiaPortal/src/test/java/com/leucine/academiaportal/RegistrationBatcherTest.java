@@ -0,0 +1,186 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.UserRepository;
+import com.leucine.academiaportal.service.EntityVersionService;
+import com.leucine.academiaportal.service.RegistrationBatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link RegistrationBatcher}.
+ * This class contains test cases for group-committing registrations and for the per-request
+ * uniqueness checks of a batch.
+ */
+public class RegistrationBatcherTest {
+
+    // Mocked repository, transaction manager and version service used for testing
+    private UserRepository userRepository;
+    private PlatformTransactionManager transactionManager;
+    private EntityVersionService entityVersionService;
+
+    // Batcher instance to be tested
+    private RegistrationBatcher registrationBatcher;
+
+    // The lists of users passed to saveAll, one per transaction
+    private List<List<String>> savedBatches;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Starts a batcher that waits long enough to collect all registrations submitted by a test into one batch.
+     */
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        entityVersionService = mock(EntityVersionService.class);
+        savedBatches = new ArrayList<>();
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            savedBatches.add(users.stream().map(User::getUsername).toList());
+            users.forEach(user -> user.setId((long) user.getUsername().hashCode()));
+            return users;
+        });
+
+        registrationBatcher = new RegistrationBatcher(true, 10, Duration.ofMillis(200), 100, Duration.ofMillis(500), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registrationBatcher, "userRepository", userRepository);
+        ReflectionTestUtils.setField(registrationBatcher, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(registrationBatcher, "entityVersionService", entityVersionService);
+        ReflectionTestUtils.invokeMethod(registrationBatcher, "start");
+    }
+
+    /**
+     * Stops the writer thread after each test case.
+     */
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(registrationBatcher, "stop");
+    }
+
+    /**
+     * Tests that concurrent registrations are stored together in a single transaction.
+     */
+    @Test
+    void testRegistrationsShareOneCommit() {
+        CompletableFuture<User> alice = registrationBatcher.submit(user("alice", "alice@example.com"));
+        CompletableFuture<User> bob = registrationBatcher.submit(user("bob", "bob@example.com"));
+        CompletableFuture<User> carol = registrationBatcher.submit(user("carol", "carol@example.com"));
+
+        assertEquals("alice", alice.join().getUsername());
+        assertEquals("bob", bob.join().getUsername());
+        assertEquals("carol", carol.join().getUsername());
+        assertEquals(List.of(List.of("alice", "bob", "carol")), savedBatches);
+        verify(transactionManager, times(1)).commit(any());
+        verify(entityVersionService).bump(VersionedAggregate.USER, alice.join().getId());
+        verify(entityVersionService, times(3)).bump(eq(VersionedAggregate.USER), anyLong());
+    }
+
+    /**
+     * Tests that a registration taking an email or username already taken, by an existing user or
+     * by an earlier request of the same batch, fails on its own.
+     */
+    @Test
+    void testTakenKeysFailPerRequest() {
+        when(userRepository.findExistingUsernameKeys(anyList())).thenReturn(List.of("dave"));
+
+        CompletableFuture<User> alice = registrationBatcher.submit(user("alice", "alice@example.com"));
+        CompletableFuture<User> sameEmail = registrationBatcher.submit(user("alice2", "ALICE@example.com"));
+        CompletableFuture<User> existing = registrationBatcher.submit(user("Dave", "dave@example.com"));
+
+        assertEquals("alice", alice.join().getUsername());
+        assertFailsWith(sameEmail, "Email is already registered: ALICE@example.com");
+        assertFailsWith(existing, "Username is already taken: Dave");
+        assertEquals(List.of(List.of("alice")), savedBatches);
+    }
+
+    /**
+     * Tests that a batch violating a unique constraint is retried one registration at a time,
+     * so only the conflicting registration fails.
+     */
+    @Test
+    void testConstraintViolationFallsBackToSingleWrites() {
+        doAnswer(invocation -> {
+            if (savedBatches.get(savedBatches.size() - 1).contains("bob")) {
+                throw new DataIntegrityViolationException("Duplicate entry 'bob' for key 'uk_user_username_key'");
+            }
+            return null;
+        }).when(userRepository).flush();
+
+        CompletableFuture<User> alice = registrationBatcher.submit(user("alice", "alice@example.com"));
+        CompletableFuture<User> bob = registrationBatcher.submit(user("bob", "bob@example.com"));
+
+        assertEquals("alice", alice.join().getUsername());
+        assertFailsWith(bob, "Username or email is already registered");
+        assertEquals(List.of(List.of("alice", "bob"), List.of("alice"), List.of("bob")), savedBatches);
+        // Only the registration that was eventually stored is bumped
+        verify(entityVersionService, times(1)).bump(eq(VersionedAggregate.USER), anyLong());
+    }
+
+    /**
+     * Tests that an error while storing a batch fails that batch only, and the writer keeps storing later registrations.
+     */
+    @Test
+    void testWriterSurvivesErrors() {
+        doThrow(new StackOverflowError()).doNothing().when(userRepository).flush();
+
+        CompletableFuture<User> alice = registrationBatcher.submit(user("alice", "alice@example.com"));
+        CompletionException exception = assertThrows(CompletionException.class, alice::join);
+        assertInstanceOf(StackOverflowError.class, exception.getCause());
+
+        assertEquals("bob", registrationBatcher.save(user("bob", "bob@example.com")).getUsername());
+    }
+
+    /**
+     * Tests that a caller stuck behind a slow batch gives up after the timeout, and its registration is then never stored.
+     */
+    @Test
+    void testSaveTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).doNothing().when(userRepository).flush();
+        CompletableFuture<User> alice = registrationBatcher.submit(user("alice", "alice@example.com"));
+        // Let the writer take alice's batch before bob arrives
+        Thread.sleep(300);
+
+        AcademiaPortalException exception = assertThrows(AcademiaPortalException.class,
+                () -> registrationBatcher.save(user("bob", "bob@example.com")));
+        assertEquals("Registration timed out, please retry", exception.getMessage());
+
+        release.countDown();
+        assertEquals("alice", alice.join().getUsername());
+        Thread.sleep(300);
+        assertEquals(List.of(List.of("alice")), savedBatches);
+    }
+
+    private static void assertFailsWith(CompletableFuture<User> future, String message) {
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(AcademiaPortalException.class, exception.getCause());
+        assertEquals(message, exception.getCause().getMessage());
+    }
+
+    private static User user(String username, String email) {
+        return new User(null, username, "$2a$10$hash", Role.STUDENT, username, email, null, null, null, null, null);
+    }
+}
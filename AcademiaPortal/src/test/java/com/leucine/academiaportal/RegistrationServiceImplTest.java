@@ -0,0 +1,146 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.CustomerUserDetailsService;
+import com.leucine.academiaportal.entity.AdministratorProfile;
+import com.leucine.academiaportal.entity.Department;
+import com.leucine.academiaportal.entity.FacultyProfile;
+import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.service.EntityVersionService;
+import com.leucine.academiaportal.service.RegistrationService;
+import com.leucine.academiaportal.service.RegistrationServiceImpl;
+import com.leucine.academiaportal.service.UserAvailabilityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for {@link RegistrationServiceImpl}.
+ * Runs the registrations against an in-memory H2 database in MySQL mode, outside of a test transaction,
+ * since the service commits the user and the profile in its own transaction.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:registration;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RegistrationServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class RegistrationServiceImplTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    @MockBean
+    private UserAvailabilityService userAvailabilityService;
+
+    @MockBean
+    private EntityVersionService entityVersionService;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Creates a department and makes the mocked encoder "hash" by prefixing the password.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into department (id, name, description) values (1000, 'Physics', null)");
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+    }
+
+    /**
+     * Removes the registered rows after each test case.
+     */
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from student_profile");
+        jdbcTemplate.update("delete from faculty_profile");
+        jdbcTemplate.update("delete from administrator_profile");
+        jdbcTemplate.update("delete from user");
+        jdbcTemplate.update("delete from department");
+    }
+
+    /**
+     * Tests that a student and their profile are stored together, with the role set and the password hashed.
+     */
+    @Test
+    void testRegisterStudent() {
+        StudentProfile profile = new StudentProfile(null, user("alice", null), "alice.png", department(1000L), "Junior");
+
+        StudentProfile saved = registrationService.registerStudent(profile);
+
+        assertNotNull(saved.getUserId());
+        assertEquals(saved.getUser().getId(), saved.getUserId());
+        assertEquals("Physics", saved.getDepartment().getName());
+        assertEquals("STUDENT", jdbcTemplate.queryForObject("select role from user where username = 'alice'", String.class));
+        assertEquals("hashed:secret", jdbcTemplate.queryForObject("select password from user where username = 'alice'", String.class));
+        assertEquals("Junior", jdbcTemplate.queryForObject("select year from student_profile where user_id = ?", String.class, saved.getUserId()));
+        verify(userAvailabilityService).markTaken("alice", "alice@example.com");
+        verify(entityVersionService).bump(VersionedAggregate.USER, saved.getUserId());
+    }
+
+    /**
+     * Tests that a profile that cannot be stored leaves no user behind.
+     */
+    @Test
+    void testFailedProfileRollsBackUser() {
+        FacultyProfile profile = new FacultyProfile(null, user("bob", Role.FACULTY_MEMBER), null, department(999L), "Mon 10-12");
+
+        AcademiaPortalException exception = assertThrows(AcademiaPortalException.class, () -> registrationService.registerFaculty(profile));
+
+        assertEquals("Department not found with ID: 999", exception.getMessage());
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from user", Integer.class));
+        verify(userAvailabilityService, never()).markTaken(anyString(), anyString());
+    }
+
+    /**
+     * Tests that a user with the role of another endpoint, a taken email, or a missing department is rejected.
+     */
+    @Test
+    void testInvalidRegistrationsAreRejected() {
+        registrationService.registerStudent(new StudentProfile(null, user("alice", null), null, null, null));
+
+        assertThrows(AcademiaPortalException.class, () -> registrationService.registerStudent(
+                new StudentProfile(null, user("mallory", Role.ADMINISTRATOR), null, null, null)));
+        AcademiaPortalException taken = assertThrows(AcademiaPortalException.class, () -> registrationService.registerStudent(
+                new StudentProfile(null, user("Alice", null), null, null, null)));
+        assertEquals("Email is already registered: alice@example.com", taken.getMessage());
+        AcademiaPortalException noDepartment = assertThrows(AcademiaPortalException.class, () -> registrationService.registerAdministrator(
+                new AdministratorProfile(null, user("carol", null), null, null)));
+        assertEquals("Department is required", noDepartment.getMessage());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from user", Integer.class));
+    }
+
+    private static User user(String username, Role role) {
+        return new User(null, username, "secret", role, username, username.toLowerCase() + "@example.com", null, null, null, null, null);
+    }
+
+    private static Department department(Long id) {
+        return new Department(id, null, null);
+    }
+}
@@ -0,0 +1,54 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.RoleClaims;
+import com.leucine.academiaportal.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link RoleClaims}.
+ * This class contains test cases for encoding role authorities as a bitmask and decoding them again.
+ */
+public class RoleClaimsTest {
+
+    /**
+     * Tests that every combination of roles survives an encode/decode round trip.
+     */
+    @Test
+    void testRoundTrip() {
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_STUDENT", "ROLE_ADMINISTRATOR");
+
+        int mask = RoleClaims.toMask(authorities);
+
+        assertEquals((1 << Role.STUDENT.ordinal()) | (1 << Role.ADMINISTRATOR.ordinal()), mask);
+        assertEquals(authorities, RoleClaims.fromMask(mask));
+        assertEquals(List.of(), RoleClaims.fromMask(RoleClaims.toMask(List.of())));
+    }
+
+    /**
+     * Tests that decoding returns the same shared, immutable list each time.
+     */
+    @Test
+    void testDecodedListsAreShared() {
+        int mask = RoleClaims.toMask(AuthorityUtils.createAuthorityList("ROLE_FACULTY_MEMBER"));
+
+        assertSame(RoleClaims.fromMask(mask), RoleClaims.fromMask(mask));
+        assertSame(RoleClaims.forRole(Role.FACULTY_MEMBER), RoleClaims.fromMask(mask));
+        assertThrows(UnsupportedOperationException.class, () -> RoleClaims.fromMask(mask).clear());
+    }
+
+    /**
+     * Tests that authorities which are not roles cannot be encoded, and that unknown bits are rejected.
+     */
+    @Test
+    void testInvalidValues() {
+        assertEquals(-1, RoleClaims.toMask(AuthorityUtils.createAuthorityList("SCOPE_read")));
+        assertThrows(IllegalArgumentException.class, () -> RoleClaims.fromMask(1 << Role.values().length));
+        assertThrows(IllegalArgumentException.class, () -> RoleClaims.fromMask(-1));
+    }
+}
@@ -0,0 +1,87 @@
+package com.leucine.academiaportal;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.leucine.academiaportal.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link SamplingTurboFilter}.
+ * This class contains test cases for sampling log messages per logger prefix.
+ */
+public class SamplingTurboFilterTest {
+
+    // Logger context providing the loggers the filter decides on
+    private LoggerContext loggerContext;
+
+    // Filter instance to be tested
+    private SamplingTurboFilter samplingTurboFilter;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Configures a rule dropping every message of the service package and keeping every message of one service.
+     */
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        samplingTurboFilter = new SamplingTurboFilter();
+        samplingTurboFilter.setContext(loggerContext);
+        samplingTurboFilter.addSample("com.example.service=0");
+        samplingTurboFilter.addSample("com.example.service.AuditService=1");
+        samplingTurboFilter.start();
+    }
+
+    /**
+     * Tests that messages of a sampled logger are dropped and counted.
+     */
+    @Test
+    void testSampledMessagesAreDropped() {
+        FilterReply reply = decide("com.example.service.CourseService", Level.INFO);
+
+        assertEquals(FilterReply.DENY, reply);
+        assertEquals(1, samplingTurboFilter.getDroppedCounts().get("com.example.service").sum());
+    }
+
+    /**
+     * Tests that the most specific rule wins, and that prefixes only match whole name segments.
+     */
+    @Test
+    void testMostSpecificRuleWins() {
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.service.AuditService", Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.serviceregistry.Client", Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.controller.CourseController", Level.INFO));
+    }
+
+    /**
+     * Tests that warnings, errors and messages of disabled levels are never sampled.
+     */
+    @Test
+    void testWarningsAndDisabledLevelsAreNotSampled() {
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.service.CourseService", Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.service.CourseService", Level.ERROR));
+        assertEquals(FilterReply.NEUTRAL, decide("com.example.service.CourseService", Level.DEBUG));
+        assertEquals(0, samplingTurboFilter.getDroppedCounts().get("com.example.service").sum());
+    }
+
+    /**
+     * Tests that invalid rules are ignored.
+     */
+    @Test
+    void testInvalidRulesAreIgnored() {
+        samplingTurboFilter.addSample("com.example.controller");
+        samplingTurboFilter.addSample("com.example.controller=often");
+        samplingTurboFilter.addSample("com.example.controller=2");
+
+        assertFalse(samplingTurboFilter.getDroppedCounts().containsKey("com.example.controller"));
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        return samplingTurboFilter.decide(null, loggerContext.getLogger(loggerName), level, "message", null, null);
+    }
+}
@@ -1,11 +1,14 @@
 package com.leucine.academiaportal;
 
 import com.leucine.academiaportal.entity.StudentProfile;
+import com.leucine.academiaportal.enums.VersionedAggregate;
 import com.leucine.academiaportal.exception.AcademiaPortalException;
 import com.leucine.academiaportal.repository.StudentProfileRepository;
+import com.leucine.academiaportal.service.EntityVersionService;
 import com.leucine.academiaportal.service.StudentProfileServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -21,6 +24,9 @@ public class StudentProfileServiceImplTest {
     // Mocked repository used for testing
     private StudentProfileRepository studentProfileRepository;
 
+    // Mocked version service used for testing
+    private EntityVersionService entityVersionService;
+
     // Service instance to be tested
     private StudentProfileServiceImpl studentProfileService;
 
@@ -32,10 +38,12 @@ public class StudentProfileServiceImplTest {
     void setUp() {
         // Initialize the mock repository
         studentProfileRepository = mock(StudentProfileRepository.class);
+        entityVersionService = mock(EntityVersionService.class);
 
         // Create an instance of the service and inject the mock repository
         studentProfileService = new StudentProfileServiceImpl();
         studentProfileService.studentProfileRepository = studentProfileRepository;
+        ReflectionTestUtils.setField(studentProfileService, "entityVersionService", entityVersionService);
     }
 
     /**
@@ -58,8 +66,9 @@ public class StudentProfileServiceImplTest {
         assertNotNull(savedProfile);
         assertEquals(1L, savedProfile.getUserId());
 
-        // Verify that the repository's save method was called once
+        // Verify that the repository's save method was called once and the user's version was bumped
         verify(studentProfileRepository, times(1)).save(profile);
+        verify(entityVersionService, times(1)).bump(VersionedAggregate.USER, 1L);
     }
 
     /**
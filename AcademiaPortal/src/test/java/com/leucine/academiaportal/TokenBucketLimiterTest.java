@@ -0,0 +1,88 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.TokenBucketLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link TokenBucketLimiter}.
+ * This class contains test cases for bursts, refills and per-key isolation, using a manual clock.
+ */
+public class TokenBucketLimiterTest {
+
+    // Manually advanced clock, in nanoseconds
+    private AtomicLong clock;
+
+    // Limiter with a burst of 3 and a refill of one token per second
+    private TokenBucketLimiter limiter;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+        limiter = new TokenBucketLimiter(3, 60, clock::get);
+    }
+
+    /**
+     * Tests that a full bucket allows a burst of its capacity and then rejects with the time to the next token.
+     */
+    @Test
+    void testBurstThenReject() {
+        assertEquals(0, limiter.tryAcquire("jane"));
+        assertEquals(0, limiter.tryAcquire("jane"));
+        assertEquals(0, limiter.tryAcquire("jane"));
+
+        long waitNanos = limiter.tryAcquire("jane");
+        assertEquals(TimeUnit.SECONDS.toNanos(1), waitNanos);
+    }
+
+    /**
+     * Tests that checking for a token does not take it.
+     */
+    @Test
+    void testWaitNanosDoesNotTakeToken() {
+        assertEquals(0, limiter.waitNanos("jane"));
+        limiter.tryAcquire("jane");
+        limiter.tryAcquire("jane");
+        assertEquals(0, limiter.waitNanos("jane"));
+        assertEquals(0, limiter.waitNanos("jane"));
+        limiter.tryAcquire("jane");
+
+        assertEquals(TimeUnit.SECONDS.toNanos(1), limiter.waitNanos("jane"));
+    }
+
+    /**
+     * Tests that tokens are refilled over time.
+     */
+    @Test
+    void testRefill() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("jane");
+        }
+        assertTrue(limiter.tryAcquire("jane") > 0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, limiter.tryAcquire("jane"));
+        assertTrue(limiter.tryAcquire("jane") > 0);
+    }
+
+    /**
+     * Tests that every key has its own bucket.
+     */
+    @Test
+    void testKeysAreIndependent() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("jane");
+        }
+        assertTrue(limiter.tryAcquire("jane") > 0);
+        assertEquals(0, limiter.tryAcquire("john"));
+        assertEquals(2, limiter.size());
+    }
+}
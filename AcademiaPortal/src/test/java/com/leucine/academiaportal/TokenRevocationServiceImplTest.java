@@ -0,0 +1,85 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.entity.RevokedToken;
+import com.leucine.academiaportal.repository.RevokedTokenRepository;
+import com.leucine.academiaportal.service.TokenRevocationServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link TokenRevocationServiceImpl}.
+ * This class contains test cases for revoking tokens and rebuilding the in-memory revocation set.
+ */
+public class TokenRevocationServiceImplTest {
+
+    // Mocked repository used for testing
+    private RevokedTokenRepository revokedTokenRepository;
+
+    // Service instance to be tested
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Initializes the mocked repository and the service instance.
+     */
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenRevocationService = new TokenRevocationServiceImpl(0.001, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenRevocationService, "revokedTokenRepository", revokedTokenRepository);
+    }
+
+    /**
+     * Tests that a revoked token is stored and reported as revoked, and other tokens are not.
+     */
+    @Test
+    void testRevoke() {
+        Instant expiresAt = Instant.now().plus(15, ChronoUnit.MINUTES);
+
+        tokenRevocationService.revoke("revoked-id", expiresAt);
+
+        verify(revokedTokenRepository).save(argThat(token -> token.getTokenId().equals("revoked-id")
+                && token.getExpiresAt().equals(expiresAt)));
+        assertTrue(tokenRevocationService.isRevoked("revoked-id"));
+        assertFalse(tokenRevocationService.isRevoked("other-id"));
+        assertFalse(tokenRevocationService.isRevoked(null));
+    }
+
+    /**
+     * Tests that revoking an expired token is a no-op.
+     */
+    @Test
+    void testRevokeExpiredToken() {
+        tokenRevocationService.revoke("expired-id", Instant.now().minusSeconds(1));
+
+        verifyNoInteractions(revokedTokenRepository);
+        assertFalse(tokenRevocationService.isRevoked("expired-id"));
+    }
+
+    /**
+     * Tests that a rebuild prunes expired entries and loads the revocations stored in the database,
+     * including those made by other instances.
+     */
+    @Test
+    void testRebuild() {
+        tokenRevocationService.revoke("local-id", Instant.now().plus(15, ChronoUnit.MINUTES));
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedToken("remote-id", Instant.now().plus(15, ChronoUnit.MINUTES), Instant.now())));
+
+        tokenRevocationService.rebuild();
+
+        verify(revokedTokenRepository).deleteExpired(any());
+        assertTrue(tokenRevocationService.isRevoked("remote-id"));
+        // Entries not in the database any more are dropped
+        assertFalse(tokenRevocationService.isRevoked("local-id"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.CustomerUserDetailsService;
+import com.leucine.academiaportal.config.JwtAuthenticationCache;
+import com.leucine.academiaportal.config.JwtCodec;
+import com.leucine.academiaportal.config.JwtProperties;
+import com.leucine.academiaportal.dto.TokenResponse;
+import com.leucine.academiaportal.service.TokenRevocationService;
+import com.leucine.academiaportal.service.TokenServiceImpl;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link TokenServiceImpl}.
+ * This class contains test cases for exchanging refresh tokens for new access tokens.
+ */
+public class TokenServiceImplTest {
+
+    // Mocked user details service used for testing
+    @Mock
+    private CustomerUserDetailsService customerUserDetailsService;
+
+    // Mocked revocation service used for testing
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    // Mocked JWT authentication cache used for testing
+    @Mock
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    // Service instance to be tested, with the mocked dependencies injected
+    @InjectMocks
+    private TokenServiceImpl tokenService;
+
+    // Real codec, so that tokens are actually signed and verified
+    private JwtCodec jwtCodec;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Initializes the mocks and a codec with a single configured key.
+     */
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getKeys().put("test", "test-secret-key-for-jwt-signing-at-least-32-bytes");
+        jwtCodec = new JwtCodec(jwtProperties);
+        ReflectionTestUtils.setField(tokenService, "jwtCodec", jwtCodec);
+    }
+
+    /**
+     * Tests that a valid refresh token yields an access token carrying the user's current authorities.
+     */
+    @Test
+    void testRefresh() {
+        when(customerUserDetailsService.loadUserByUsername("jane@example.com"))
+                .thenReturn(new User("jane@example.com", "$2a$10$hash", AuthorityUtils.createAuthorityList("ROLE_FACULTY_MEMBER")));
+        String refreshToken = jwtCodec.issueRefresh("jane@example.com");
+
+        TokenResponse response = tokenService.refresh(refreshToken);
+
+        assertEquals(refreshToken, response.refreshToken());
+        assertEquals(15 * 60, response.expiresIn());
+        assertEquals(AuthorityUtils.createAuthorityList("ROLE_FACULTY_MEMBER"), jwtCodec.authorities(jwtCodec.parse(response.accessToken())));
+    }
+
+    /**
+     * Tests that an access token cannot be used as a refresh token.
+     */
+    @Test
+    void testRefreshWithAccessToken() {
+        String accessToken = jwtCodec.issue("jane@example.com", AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(accessToken));
+        verifyNoInteractions(customerUserDetailsService);
+    }
+
+    /**
+     * Tests that a revoked refresh token is rejected.
+     */
+    @Test
+    void testRefreshWithRevokedToken() {
+        String refreshToken = jwtCodec.issueRefresh("jane@example.com");
+        when(tokenRevocationService.isRevoked(jwtCodec.parseRefresh(refreshToken).getId())).thenReturn(true);
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(refreshToken));
+        verifyNoInteractions(customerUserDetailsService);
+    }
+
+    /**
+     * Tests that logging out revokes both the access and the refresh token until their expiry.
+     */
+    @Test
+    void testLogout() {
+        String accessToken = jwtCodec.issue("jane@example.com", AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+        String refreshToken = jwtCodec.issueRefresh("jane@example.com");
+        Claims accessClaims = jwtCodec.parse(accessToken);
+        Claims refreshClaims = jwtCodec.parseRefresh(refreshToken);
+
+        tokenService.logout(accessToken, refreshToken);
+
+        verify(tokenRevocationService).revoke(accessClaims.getId(), accessClaims.getExpiration().toInstant());
+        verify(tokenRevocationService).revoke(refreshClaims.getId(), refreshClaims.getExpiration().toInstant());
+        verify(jwtAuthenticationCache).invalidate(accessToken);
+    }
+
+    /**
+     * Tests that an invalid refresh token is skipped at logout while the access token is still revoked.
+     */
+    @Test
+    void testLogoutWithInvalidRefreshToken() {
+        String accessToken = jwtCodec.issue("jane@example.com", AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+
+        tokenService.logout(accessToken, "not-a-token");
+
+        verify(tokenRevocationService, times(1)).revoke(anyString(), any());
+    }
+
+    /**
+     * Tests that a malformed or missing refresh token is rejected.
+     */
+    @Test
+    void testRefreshWithInvalidToken() {
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh("not-a-token"));
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(null));
+    }
+}
@@ -0,0 +1,110 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.RoleClaims;
+import com.leucine.academiaportal.dto.UsageReport;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.service.UsageTrackingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link UsageTrackingServiceImpl}.
+ * This class contains test cases for estimating active users per role and counting requests.
+ */
+public class UsageTrackingServiceImplTest {
+
+    private static final long DAY = 86_400_000L;
+
+    // Registry the usage metrics are published to
+    private SimpleMeterRegistry meterRegistry;
+
+    // Clock driving the current day, in epoch milliseconds
+    private AtomicLong clock;
+
+    // Service instance to be tested
+    private UsageTrackingServiceImpl usageTrackingService;
+
+    /**
+     * Sets up the test environment before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(20_000 * DAY);
+        usageTrackingService = new UsageTrackingServiceImpl(12, meterRegistry, clock::get);
+    }
+
+    /**
+     * Tests that daily active users are counted once per user and day, separately per role.
+     */
+    @Test
+    void testDailyActiveUsersPerRole() {
+        for (int i = 0; i < 3; i++) {
+            usageTrackingService.recordRequest("/api/student/profile/{id}", "GET", user("alice@example.com", Role.STUDENT));
+            usageTrackingService.recordRequest("/api/student/profile/{id}", "GET", user("bob@example.com", Role.STUDENT));
+        }
+        usageTrackingService.recordRequest("/api/faculty/profile", "GET", user("carol@example.com", Role.FACULTY_MEMBER));
+
+        UsageReport report = usageTrackingService.report();
+        assertEquals(2, report.activeUsers().get("STUDENT").daily());
+        assertEquals(1, report.activeUsers().get("FACULTY_MEMBER").daily());
+        assertEquals(0, report.activeUsers().get("ADMINISTRATOR").daily());
+        assertEquals(2.0, meterRegistry.get("users.active").tags("role", "STUDENT", "window", "daily").gauge().value());
+    }
+
+    /**
+     * Tests that monthly active users cover the last 30 days and daily ones only today.
+     */
+    @Test
+    void testMonthlyWindowRollsOver() {
+        usageTrackingService.recordRequest("/api/courses", "GET", user("alice@example.com", Role.STUDENT));
+        clock.addAndGet(10 * DAY);
+        usageTrackingService.recordRequest("/api/courses", "GET", user("alice@example.com", Role.STUDENT));
+        usageTrackingService.recordRequest("/api/courses", "GET", user("bob@example.com", Role.STUDENT));
+
+        UsageReport.ActiveUsers students = usageTrackingService.report().activeUsers().get("STUDENT");
+        assertEquals(2, students.daily());
+        assertEquals(2, students.monthly());
+
+        // The first day has left the 30-day window, the second is still in it
+        clock.addAndGet(25 * DAY);
+        usageTrackingService.recordRequest("/api/courses", "GET", user("carol@example.com", Role.STUDENT));
+        students = usageTrackingService.report().activeUsers().get("STUDENT");
+        assertEquals(1, students.daily());
+        assertEquals(3, students.monthly());
+
+        clock.addAndGet(30 * DAY);
+        assertEquals(0, usageTrackingService.report().activeUsers().get("STUDENT").monthly());
+    }
+
+    /**
+     * Tests that requests are counted per endpoint, method and role, including anonymous requests.
+     */
+    @Test
+    void testRequestCounts() {
+        usageTrackingService.recordRequest("/api/courses", "GET", user("alice@example.com", Role.STUDENT));
+        usageTrackingService.recordRequest("/api/courses", "GET", user("bob@example.com", Role.STUDENT));
+        usageTrackingService.recordRequest("/api/courses", "POST", user("dave@example.com", Role.ADMINISTRATOR));
+        usageTrackingService.recordRequest("/api/auth/register", "POST", null);
+
+        assertEquals(List.of(
+                new UsageReport.EndpointUsage("/api/auth/register", "POST", "ANONYMOUS", 1),
+                new UsageReport.EndpointUsage("/api/courses", "GET", "STUDENT", 2),
+                new UsageReport.EndpointUsage("/api/courses", "POST", "ADMINISTRATOR", 1)),
+                usageTrackingService.report().requests());
+        assertEquals(2.0, meterRegistry.get("http.server.usage")
+                .tags("endpoint", "/api/courses", "method", "GET", "role", "STUDENT").functionCounter().count());
+    }
+
+    private static Authentication user(String email, Role role) {
+        return new UsernamePasswordAuthenticationToken(email, null, RoleClaims.forRole(role));
+    }
+}
@@ -0,0 +1,92 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.exception.AcademiaPortalException;
+import com.leucine.academiaportal.repository.UserRepository;
+import com.leucine.academiaportal.service.UserAvailabilityServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link UserAvailabilityServiceImpl}.
+ * This class contains test cases for answering availability checks from the Bloom filter and the database.
+ */
+public class UserAvailabilityServiceImplTest {
+
+    // Mocked repository used for testing
+    private UserRepository userRepository;
+
+    // Service instance to be tested
+    private UserAvailabilityServiceImpl userAvailabilityService;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Warms the service with one stored user.
+     */
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        UserRepository.LookupKeys jane = mock(UserRepository.LookupKeys.class);
+        when(jane.getUsernameKey()).thenReturn("jane");
+        when(jane.getEmailKey()).thenReturn("jane@example.com");
+        when(userRepository.findAllLookupKeys()).thenReturn(List.of(jane));
+        when(userRepository.count()).thenReturn(1L);
+
+        userAvailabilityService = new UserAvailabilityServiceImpl(0.01, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userAvailabilityService, "userRepository", userRepository);
+        userAvailabilityService.rebuild();
+    }
+
+    /**
+     * Tests that unknown usernames and emails are available without a database query.
+     */
+    @Test
+    void testUnknownKeysAreAvailableWithoutDatabase() {
+        assertTrue(userAvailabilityService.isUsernameAvailable("john"));
+        assertTrue(userAvailabilityService.isEmailAvailable("john@example.com"));
+        // Usernames and emails are kept apart: an email used as username is still available
+        assertTrue(userAvailabilityService.isUsernameAvailable("jane@example.com"));
+
+        verify(userRepository, never()).existsByUsernameKey(anyString());
+        verify(userRepository, never()).existsByEmailKey(anyString());
+    }
+
+    /**
+     * Tests that "maybe taken" answers are confirmed by the database, on the normalized key.
+     */
+    @Test
+    void testMaybeTakenKeysAreConfirmedByDatabase() {
+        when(userRepository.existsByUsernameKey("jane")).thenReturn(true);
+        when(userRepository.existsByEmailKey("jane@example.com")).thenReturn(true);
+
+        assertFalse(userAvailabilityService.isUsernameAvailable(" Jane "));
+        assertFalse(userAvailabilityService.isEmailAvailable("JANE@example.com"));
+    }
+
+    /**
+     * Tests that a newly stored user is taken from then on.
+     */
+    @Test
+    void testMarkTaken() {
+        userAvailabilityService.markTaken("John", "John@Example.com");
+        when(userRepository.existsByUsernameKey("john")).thenReturn(true);
+
+        assertFalse(userAvailabilityService.isUsernameAvailable("john"));
+        verify(userRepository).existsByUsernameKey("john");
+    }
+
+    /**
+     * Tests that blank values are rejected.
+     */
+    @Test
+    void testBlankValueIsRejected() {
+        assertThrows(AcademiaPortalException.class, () -> userAvailabilityService.isUsernameAvailable("  "));
+    }
+}
@@ -0,0 +1,196 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.config.OffloadingPasswordEncoder;
+import com.leucine.academiaportal.dto.UserImportReport;
+import com.leucine.academiaportal.enums.VersionedAggregate;
+import com.leucine.academiaportal.service.EntityVersionService;
+import com.leucine.academiaportal.service.UserAvailabilityService;
+import com.leucine.academiaportal.service.UserImportService;
+import com.leucine.academiaportal.service.UserImportServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link UserImportServiceImpl}.
+ * Runs the import against an in-memory H2 database in MySQL mode, outside of a test transaction,
+ * since the service manages its own transactions per chunk.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-import;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never",
+        "academiaportal.import.chunk-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserImportServiceImpl.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class UserImportServiceImplTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @MockBean
+    private UserAvailabilityService userAvailabilityService;
+
+    @MockBean
+    private EntityVersionService entityVersionService;
+
+    // ID of the department the imported users belong to
+    private Long departmentId;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Creates a department and makes the mocked encoder "hash" by prefixing the password.
+     */
+    @BeforeEach
+    void setUp() {
+        departmentId = 1000L;
+        jdbcTemplate.update("insert into department (id, name, description) values (?, 'Physics', null)", departmentId);
+        when(passwordEncoder.encodeAsync(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture("hashed:" + invocation.getArgument(0)));
+    }
+
+    /**
+     * Removes the imported rows after each test case.
+     */
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from student_profile");
+        jdbcTemplate.update("delete from faculty_profile");
+        jdbcTemplate.update("delete from user");
+        jdbcTemplate.update("delete from department");
+    }
+
+    /**
+     * Tests that under open-in-view, where every chunk joins the entity manager bound to the request,
+     * imported users and profiles do not stay managed once their chunk is committed.
+     */
+    @Test
+    void testImportDoesNotAccumulateManagedEntities() {
+        String ndjson = "{\"username\":\"alice\",\"password\":\"pw\",\"role\":\"STUDENT\",\"name\":\"Alice\",\"email\":\"alice@example.com\",\"departmentId\":" + departmentId + "}\n"
+                + "{\"username\":\"bob\",\"password\":\"pw\",\"role\":\"FACULTY_MEMBER\",\"name\":\"Bob\",\"email\":\"bob@example.com\",\"departmentId\":" + departmentId + "}\n"
+                + "{\"username\":\"carol\",\"password\":\"pw\",\"role\":\"STUDENT\",\"name\":\"Carol\",\"email\":\"carol@example.com\",\"departmentId\":" + departmentId + "}\n";
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            UserImportReport report = importUsers(ndjson, UserImportService.Format.NDJSON);
+
+            assertEquals(3, report.imported());
+            assertEquals(0, requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+    }
+
+    /**
+     * Tests that a CSV file spanning several chunks imports users with hashed passwords, normalized keys and profiles.
+     */
+    @Test
+    void testImportCsv() {
+        String csv = "\uFEFFUsername,Password,Role,Name,Email,DepartmentId,Year,OfficeHours\n"
+                + "alice,pw1,student,Alice,Alice@Example.com," + departmentId + ",2024,\n"
+                + "\n"
+                + "bob,pw2,FACULTY_MEMBER,\"Bob, PhD\",bob@example.com," + departmentId + ",,Mon 10-12\n"
+                + "carol,pw3,STUDENT,Carol,carol@example.com," + departmentId + ",2025,\n";
+
+        UserImportReport report = importUsers(csv, UserImportService.Format.CSV);
+
+        assertEquals(3, report.processed());
+        assertEquals(3, report.imported());
+        assertEquals(0, report.failed());
+        assertEquals("hashed:pw1", jdbcTemplate.queryForObject("select password from user where username = 'alice'", String.class));
+        assertEquals("alice@example.com", jdbcTemplate.queryForObject("select email_key from user where username = 'alice'", String.class));
+        assertEquals("Bob, PhD", jdbcTemplate.queryForObject("select name from user where username = 'bob'", String.class));
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from student_profile", Integer.class));
+        assertEquals("Mon 10-12", jdbcTemplate.queryForObject("select office_hours from faculty_profile", String.class));
+        verify(userAvailabilityService).markTaken("bob", "bob@example.com");
+        Long bobId = jdbcTemplate.queryForObject("select id from user where username = 'bob'", Long.class);
+        verify(entityVersionService).bump(VersionedAggregate.USER, bobId);
+        verify(entityVersionService, times(3)).bump(eq(VersionedAggregate.USER), anyLong());
+    }
+
+    /**
+     * Tests that invalid and duplicate rows are reported with their line numbers while the other rows are imported.
+     */
+    @Test
+    void testInvalidRowsAreReported() {
+        jdbcTemplate.update("insert into user (id, username, password, role, name, email, username_key, email_key) "
+                + "values (1000, 'dave', 'x', 'STUDENT', 'Dave', 'dave@example.com', 'dave', 'dave@example.com')");
+        String ndjson = "{\"username\":\"erin\",\"password\":\"pw\",\"role\":\"STUDENT\",\"name\":\"Erin\",\"email\":\"erin@example.com\",\"departmentId\":" + departmentId + "}\n"
+                + "{\"username\":\"Dave\",\"password\":\"pw\",\"role\":\"STUDENT\",\"name\":\"Dave\",\"email\":\"other@example.com\",\"departmentId\":" + departmentId + "}\n"
+                + "{\"username\":\"frank\",\"password\":\"pw\",\"role\":\"ADMINISTRATOR\",\"name\":\"Frank\",\"email\":\"frank@example.com\",\"departmentId\":" + departmentId + "}\n"
+                + "{\"username\":\"gina\",\"password\":\"pw\",\"role\":\"STUDENT\",\"name\":\"Gina\",\"email\":\"ERIN@example.com\",\"departmentId\":" + departmentId + "}\n"
+                + "{\"username\":\"hank\",\"password\":\"pw\",\"role\":\"STUDENT\",\"name\":\"Hank\",\"email\":\"hank@example.com\",\"departmentId\":-1}\n"
+                + "not json\n";
+
+        UserImportReport report = importUsers(ndjson, UserImportService.Format.NDJSON);
+
+        assertEquals(6, report.processed());
+        assertEquals(1, report.imported());
+        assertEquals(5, report.failed());
+        assertFalse(report.errorsTruncated());
+        assertEquals(2, report.errors().get(0).line());
+        assertTrue(report.errors().get(0).message().startsWith("Username is already taken"));
+        assertEquals(3, report.errors().get(1).line());
+        // gina is in another chunk than erin, so she is rejected by the database check
+        assertEquals(4, report.errors().get(2).line());
+        assertTrue(report.errors().get(2).message().startsWith("Email is already registered"));
+        // Malformed rows are reported as they are read, before the rest of their chunk is stored
+        assertEquals(6, report.errors().get(3).line());
+        assertTrue(report.errors().get(3).message().startsWith("Malformed row"));
+        assertEquals(5, report.errors().get(4).line());
+        assertTrue(report.errors().get(4).message().startsWith("Department not found"));
+    }
+
+    /**
+     * Tests that a CSV file without the required columns is rejected as a whole.
+     */
+    @Test
+    void testMissingCsvColumnsAreRejected() {
+        assertThrows(RuntimeException.class, () -> importUsers("username,password\nalice,pw\n", UserImportService.Format.CSV));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from user", Integer.class));
+    }
+
+    private UserImportReport importUsers(String content, UserImportService.Format format) {
+        return userImportService.importUsers(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
@@ -0,0 +1,134 @@
+package com.leucine.academiaportal;
+
+import com.leucine.academiaportal.entity.User;
+import com.leucine.academiaportal.enums.Role;
+import com.leucine.academiaportal.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-count test for the login and registration lookups of {@link UserRepository}.
+ * Runs against an in-memory H2 database in MySQL mode and counts the SQL statements with Hibernate statistics.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-lookup;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UserRepositoryQueryCountTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Hibernate statistics used to count the executed statements
+    private Statistics statistics;
+
+    /**
+     * Sets up the test environment before each test case.
+     * Stores a user with mixed-case username and email, and resets the statistics.
+     */
+    @BeforeEach
+    void setUp() {
+        testEntityManager.persistAndFlush(new User(null, "Jane.Doe", "$2a$10$hash", Role.STUDENT, "Jane", "Jane@Example.com", null, null, null, null, null));
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Tests that the normalized keys are maintained automatically.
+     */
+    @Test
+    void testLookupKeysAreNormalized() {
+        User user = userRepository.findByLogin("jane.doe").orElseThrow();
+
+        assertEquals("jane.doe", user.getUsernameKey());
+        assertEquals("jane@example.com", user.getEmailKey());
+    }
+
+    /**
+     * Tests that a login by email or by username, in any letter case, is a single statement.
+     */
+    @Test
+    void testLoginIsOneLookup() {
+        assertTrue(userRepository.findByLogin(" JANE@example.COM ").isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        testEntityManager.clear();
+        statistics.clear();
+        assertTrue(userRepository.findByLogin("JANE.DOE").isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Tests that a login matching nobody, with or without an {@code @}, is a single statement too.
+     */
+    @Test
+    void testUnknownLoginIsOneLookup() {
+        assertTrue(userRepository.findByLogin("nobody@example.com").isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertTrue(userRepository.findByLogin("nobody").isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Tests that a login that is one user's email and another user's username is taken as the email.
+     */
+    @Test
+    void testEmailWinsOverUsernameForLoginsWithAt() {
+        testEntityManager.persistAndFlush(new User(null, "jane@example.com", "$2a$10$hash", Role.STUDENT, "Other", "other@example.com", null, null, null, null, null));
+        testEntityManager.clear();
+
+        assertEquals("Jane.Doe", userRepository.findByLogin("jane@example.com").orElseThrow().getUsername());
+    }
+
+    /**
+     * Tests that the uniqueness checks are single statements that do not load the user.
+     */
+    @Test
+    void testExistsChecksDoNotLoadUsers() {
+        assertTrue(userRepository.existsByEmailKey("jane@example.com"));
+        assertTrue(userRepository.existsByUsernameKey("jane.doe"));
+        assertFalse(userRepository.existsByEmailKey("john@example.com"));
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    /**
+     * Tests that both lookups are answered from their unique index instead of a table scan.
+     */
+    @Test
+    void testLookupsUseIndexes() {
+        for (String column : List.of("email_key", "username_key")) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id FROM user WHERE " + column + " = 'x'", String.class);
+            assertFalse(plan.contains("tableScan"), plan);
+            assertTrue(plan.contains("UK_USER_" + column.toUpperCase()), plan);
+        }
+    }
+}